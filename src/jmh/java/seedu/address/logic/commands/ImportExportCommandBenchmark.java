@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BenchmarkData;
+
+/**
+ * Measures importing {@code size} contacts from a CSV file, both into an empty model and into one that already has
+ * all of them, and exporting {@code size} contacts to a CSV file.
+ *
+ * Both commands read and write files in {@value ImportCommand#DEFAULT_DIRECTORY}, relative to the working directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class ImportExportCommandBenchmark {
+
+    private static final String IMPORT_FILE_NAME = "BenchmarkContacts.csv";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Path importFilePath;
+    private AddressBook addressBook;
+    private Model model;
+
+    /**
+     * Builds an address book of {@code size} persons, and writes its contacts to a CSV file for importing.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkData.addressBook(size);
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        importFilePath = Paths.get(ImportCommand.DEFAULT_DIRECTORY, IMPORT_FILE_NAME);
+        Files.createDirectories(importFilePath.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(importFilePath)) {
+            writer.write(ImportCommand.COLUMN_HEADERS);
+            writer.newLine();
+            for (Person person : addressBook.getPersonList()) {
+                writer.write(person.toCsvFormat());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(importFilePath);
+        Files.deleteIfExists(ExportCommand.FILE_PATH);
+    }
+
+    /**
+     * Imports the contacts into an empty model.
+     */
+    @Benchmark
+    public Model importCommand_emptyModel() throws CommandException {
+        Model emptyModel = new ModelManager();
+        new ImportCommand(IMPORT_FILE_NAME).execute(emptyModel);
+        return emptyModel;
+    }
+
+    /**
+     * Imports the contacts into a model that already has all of them, so none are added.
+     */
+    @Benchmark
+    public Model importCommand_allDuplicates() throws CommandException {
+        new ImportCommand(IMPORT_FILE_NAME).execute(model);
+        return model;
+    }
+
+    @Benchmark
+    public CommandResult exportCommand() throws CommandException {
+        return new ExportCommand().execute(model);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures tokenizing the arguments of an {@code add} command, as entered by a user, and with {@code size} tags, to
+ * show how tokenizing scales with the number of prefixes in the arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String ADD_ARGS = " n/John Doe p/98765432 e/johnd@example.com "
+            + "a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private String manyTagsArgs;
+
+    /**
+     * Builds the arguments of an {@code add} command with {@code size} tags.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder args = new StringBuilder(ADD_ARGS);
+        for (int i = 0; i < size; i++) {
+            args.append(" t/tag").append(i);
+        }
+        manyTagsArgs = args.toString();
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code add} command with every field and two tags.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public ArgumentMultimap tokenize_addCommand() {
+        return ArgumentTokenizer.tokenize(ADD_ARGS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code add} command with {@code size} more tags.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize_manyTags() {
+        return ArgumentTokenizer.tokenize(manyTagsArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+}
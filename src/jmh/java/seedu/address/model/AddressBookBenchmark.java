@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.id.counter.list.IdCounterList;
+import seedu.address.testutil.BenchmarkData;
+
+/**
+ * Measures generating a new person ID in an address book of {@code size} persons, both when the ID counter is up to
+ * date and when it is behind the IDs in use, such as after a file with a reset counter is loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.addressBook(size);
+    }
+
+    /**
+     * Generates a person ID when the counter is at the largest ID in use.
+     */
+    @Benchmark
+    public int generateNewPersonId_counterCurrent() {
+        return addressBook.generateNewPersonId();
+    }
+
+    /**
+     * Generates a person ID when the counter is at 0, so every ID in use is skipped first.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int generateNewPersonId_counterBehind() {
+        addressBook.setIdCounterList(new IdCounterList(0, BenchmarkData.EVENT_COUNT));
+        return addressBook.generateNewPersonId();
+    }
+}
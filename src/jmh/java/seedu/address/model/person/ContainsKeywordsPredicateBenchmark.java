@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventNameContainsKeywordsPredicate;
+import seedu.address.testutil.BenchmarkData;
+
+/**
+ * Measures testing each of the keyword predicates used by the find commands against {@code size} persons or events,
+ * as filtering the whole list does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ContainsKeywordsPredicateBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("alex", "Roy", "12");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private List<Event> events;
+
+    /**
+     * Builds {@code size} persons, and {@code size} events.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.persons(size);
+        events = BenchmarkData.events(size);
+    }
+
+    @Benchmark
+    public int name() {
+        return countMatches(persons, new NameContainsKeywordsPredicate(KEYWORDS));
+    }
+
+    @Benchmark
+    public int phone() {
+        return countMatches(persons, new PhoneContainsKeywordsPredicate(KEYWORDS));
+    }
+
+    @Benchmark
+    public int email() {
+        return countMatches(persons, new EmailContainsKeywordsPredicate(KEYWORDS));
+    }
+
+    @Benchmark
+    public int address() {
+        return countMatches(persons, new AddressContainsKeywordsPredicate(KEYWORDS));
+    }
+
+    @Benchmark
+    public int eventName() {
+        return countMatches(events, new EventNameContainsKeywordsPredicate(List.of("event", "12")));
+    }
+
+    private static <T> int countMatches(List<T> items, Predicate<? super T> predicate) {
+        int count = 0;
+        for (T item : items) {
+            if (predicate.test(item)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.BenchmarkData;
+
+/**
+ * Measures adding persons to a {@code UniquePersonList}, checking whether it contains a person and replacing all of
+ * its persons, for lists of {@code size} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private Person missingPerson;
+    private UniquePersonList personList;
+    private int nextIndex;
+
+    /**
+     * Builds {@code size} persons, a list that contains them and a person that it does not contain.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.persons(size);
+        missingPerson = BenchmarkData.person(size + 1, Set.of());
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+    }
+
+    /**
+     * Adds {@code size} persons one by one to an empty list.
+     */
+    @Benchmark
+    public UniquePersonList add() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    /**
+     * Checks whether the list contains one of its persons, taking each in turn.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean contains() {
+        nextIndex = nextIndex + 1 == size ? 0 : nextIndex + 1;
+        return personList.contains(persons.get(nextIndex));
+    }
+
+    /**
+     * Checks whether the list contains a person that it does not.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean containsMissing() {
+        return personList.contains(missingPerson);
+    }
+
+    /**
+     * Replaces all persons of the list with {@code size} persons.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        personList.setPersons(persons);
+        return personList;
+    }
+}
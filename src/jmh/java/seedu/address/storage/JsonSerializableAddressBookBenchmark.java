@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.BenchmarkData;
+
+/**
+ * Measures converting an address book of {@code size} persons to its JSON-friendly form and back, without reading or
+ * writing a file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private JsonSerializableAddressBook jsonAddressBook;
+
+    /**
+     * Builds an address book of {@code size} persons, and its JSON-friendly form.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.addressBook(size);
+        jsonAddressBook = new JsonSerializableAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook fromModelType() {
+        return new JsonSerializableAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return jsonAddressBook.toModelType();
+    }
+}
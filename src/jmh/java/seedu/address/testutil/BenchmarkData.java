@@ -0,0 +1,92 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDescription;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventName;
+import seedu.address.model.id.counter.list.IdCounterList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Builds the persons, events and address books that benchmarks run on. The same count always gives the same data,
+ * so that results can be compared across commits.
+ */
+public class BenchmarkData {
+
+    /** Number of events in the address books built by {@link #addressBook(int)}. */
+    public static final int EVENT_COUNT = 100;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy"};
+    private static final String[] STREETS = {"Geylang Street 29", "Serangoon Gardens Street 85", "Clementi Ave 2",
+        "Tampines Ave 4", "Aljunied Street 85", "Serangoon Road 36"};
+    private static final Tag[] TAGS = {new Tag("friends"), new Tag("colleagues"), new Tag("neighbours")};
+    private static final LocalDate FIRST_EVENT_DATE = LocalDate.of(2024, 1, 1);
+
+    /**
+     * Returns the person with ID {@code id}, attending {@code eventIds}.
+     */
+    public static Person person(int id, Set<Integer> eventIds) {
+        String firstName = FIRST_NAMES[id % FIRST_NAMES.length];
+        Set<Tag> tags = id % 4 == 0 ? Set.of() : Set.of(TAGS[id % TAGS.length]);
+        return new Person(new Name(firstName + " Person " + id),
+                new Phone(String.valueOf(90_000_000 + id)),
+                new Email(firstName.toLowerCase() + id + "@example.com"),
+                new Address("Blk " + id + ", " + STREETS[id % STREETS.length]),
+                tags, eventIds, id);
+    }
+
+    /**
+     * Returns {@code count} persons with IDs from 1 to {@code count}, each attending one of the first
+     * {@code eventCount} events, or none if {@code eventCount} is 0.
+     */
+    public static List<Person> persons(int count, int eventCount) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            Set<Integer> eventIds = eventCount == 0 ? Set.of() : Set.of(id % eventCount + 1);
+            persons.add(person(id, eventIds));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code count} persons with IDs from 1 to {@code count}, attending no events.
+     */
+    public static List<Person> persons(int count) {
+        return persons(count, 0);
+    }
+
+    /**
+     * Returns {@code count} events with IDs from 1 to {@code count}, each lasting a few days.
+     */
+    public static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            LocalDate from = FIRST_EVENT_DATE.plusDays(id % 365);
+            events.add(new Event(new EventName("Event " + id), new EventDescription("Description of event " + id),
+                    new EventDuration(from, from.plusDays(id % 3)), id));
+        }
+        return events;
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons, each attending one of {@value #EVENT_COUNT} events.
+     */
+    public static AddressBook addressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setEvents(events(EVENT_COUNT));
+        addressBook.setPersons(persons(personCount, EVENT_COUNT));
+        addressBook.setIdCounterList(new IdCounterList(personCount, EVENT_COUNT));
+        return addressBook;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -16,8 +17,13 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MAX_PORT = 65535;
+    private static final String NAMED_PARAMETER_PREFIX = "--";
 
     private Path configPath;
+    private Integer serverPort;
+    private Path flightRecordingPath;
+    private Path commandTracePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +33,51 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the port to serve the API on, or null if the API should not be served.
+     */
+    public Integer getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(Integer serverPort) {
+        this.serverPort = serverPort;
+    }
+
+    /**
+     * Returns the file to write a flight recording of the app to, or null if the app should not be recorded.
+     */
+    public Path getFlightRecordingPath() {
+        return flightRecordingPath;
+    }
+
+    public void setFlightRecordingPath(Path flightRecordingPath) {
+        this.flightRecordingPath = flightRecordingPath;
+    }
+
+    /**
+     * Returns the file to record the commands entered to, or null if they should not be recorded.
+     */
+    public Path getCommandTracePath() {
+        return commandTracePath;
+    }
+
+    public void setCommandTracePath(Path commandTracePath) {
+        this.commandTracePath = commandTracePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, given as a map from each name to its value.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +86,60 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String serverPortParameter = namedParameters.get("server-port");
+        if (serverPortParameter != null) {
+            appParameters.setServerPort(parseServerPort(serverPortParameter));
+        }
+
+        String flightRecordingParameter = namedParameters.get("flight-recording");
+        if (flightRecordingParameter != null && !FileUtil.isValidPath(flightRecordingParameter)) {
+            logger.warning("Invalid flight recording path " + flightRecordingParameter + ". The app will not be "
+                    + "recorded.");
+            flightRecordingParameter = null;
+        }
+        appParameters.setFlightRecordingPath(
+                flightRecordingParameter != null ? Paths.get(flightRecordingParameter) : null);
+
+        String commandTraceParameter = namedParameters.get("command-trace");
+        if (commandTraceParameter != null && !FileUtil.isValidPath(commandTraceParameter)) {
+            logger.warning("Invalid command trace path " + commandTraceParameter + ". Commands will not be "
+                    + "recorded.");
+            commandTraceParameter = null;
+        }
+        appParameters.setCommandTracePath(commandTraceParameter != null ? Paths.get(commandTraceParameter) : null);
+
         return appParameters;
     }
 
+    /**
+     * Returns the parameters of the form {@code --name=value} in {@code args}, as a map from each name to its value.
+     * Other arguments are ignored. Used when the application is run without JavaFX, which would otherwise do this.
+     */
+    public static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    private static Integer parseServerPort(String serverPortParameter) {
+        try {
+            int serverPort = Integer.parseInt(serverPortParameter);
+            if (serverPort >= 0 && serverPort <= MAX_PORT) {
+                return serverPort;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        logger.warning("Invalid server port " + serverPortParameter + ". The API will not be served.");
+        return null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +152,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(serverPort, otherAppParameters.serverPort)
+                && Objects.equals(flightRecordingPath, otherAppParameters.flightRecordingPath)
+                && Objects.equals(commandTracePath, otherAppParameters.commandTracePath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, serverPort, flightRecordingPath, commandTracePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("serverPort", serverPort)
+                .add("flightRecordingPath", flightRecordingPath)
+                .add("commandTracePath", commandTracePath)
                 .toString();
     }
 }
@@ -0,0 +1,83 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
+
+/**
+ * Runs a script of commands against the address book without starting the GUI, for example with
+ * {@code java -jar clubconnect.jar --script=commands.txt --save-every=100}.
+ *
+ * The config, preferences and data files are the same as those used by {@code MainApp}. The address book is saved
+ * after every {@code --save-every} commands, or only once the script ends if it is 0 or not given.
+ */
+public class BatchApp extends MainApp {
+
+    public static final String PARAMETER_SCRIPT = "script";
+    public static final String PARAMETER_SAVE_EVERY = "save-every";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    /**
+     * Returns true if {@code args} ask for a script to be run instead of starting the GUI.
+     */
+    public static boolean isBatchMode(String[] args) {
+        return AppParameters.parseNamedParameters(args).containsKey(PARAMETER_SCRIPT);
+    }
+
+    /**
+     * Runs the script given in {@code args} and exits with status 1 if any command failed.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = AppParameters.parseNamedParameters(args);
+        String scriptParameter = namedParameters.get(PARAMETER_SCRIPT);
+        if (scriptParameter == null || !FileUtil.isValidPath(scriptParameter)) {
+            System.err.println("Invalid script path " + scriptParameter);
+            System.exit(2);
+        }
+        int saveInterval;
+        try {
+            saveInterval = Integer.parseInt(namedParameters.getOrDefault(PARAMETER_SAVE_EVERY, "0"));
+        } catch (NumberFormatException e) {
+            saveInterval = -1;
+        }
+        if (saveInterval < 0) {
+            System.err.println("Invalid number of commands to save after "
+                    + namedParameters.get(PARAMETER_SAVE_EVERY));
+            System.exit(2);
+        }
+
+        BatchApp app = new BatchApp();
+        app.initComponents(AppParameters.parse(namedParameters));
+        int exitStatus;
+        try (BufferedReader script = Files.newBufferedReader(Paths.get(scriptParameter), StandardCharsets.UTF_8)) {
+            BatchRunner.Summary summary = app.run(script, saveInterval);
+            exitStatus = summary.getFailureCount() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            logger.severe("Failed to read script " + StringUtil.getDetails(e));
+            System.err.println("Could not read script " + scriptParameter + ": " + e.getMessage());
+            exitStatus = 2;
+        } finally {
+            // System.exit does not call stop(), so the latency statistics and command trace are closed here
+            app.closeRecorders();
+        }
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Runs the commands in {@code script}, printing their results to the standard output.
+     */
+    BatchRunner.Summary run(BufferedReader script, int saveInterval) throws IOException {
+        logger.info("=============================[ Running ClubConnect script ]===========================");
+        return new BatchRunner(logic, System.out).run(script, saveInterval);
+    }
+}
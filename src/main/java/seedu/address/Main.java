@@ -25,6 +25,22 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (BatchApp.isBatchMode(args)) {
+            BatchApp.main(args);
+            return;
+        }
+        if (ServerApp.isHeadlessMode(args)) {
+            ServerApp.main(args);
+            return;
+        }
+        if (ReplayApp.isReplayMode(args)) {
+            ReplayApp.main(args);
+            return;
+        }
+        if (SampleDataApp.isGenerateMode(args)) {
+            SampleDataApp.main(args);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -6,15 +6,21 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.core.jfr.FlightRecording;
+import seedu.address.commons.core.metrics.LatencyCsvWriter;
+import seedu.address.commons.core.metrics.LatencyMetrics;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandTraceRecorder;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -22,6 +28,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.ApiServer;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -45,6 +52,9 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+    protected LatencyCsvWriter latencyCsvWriter;
+    protected CommandTraceRecorder commandTraceRecorder;
 
     @Override
     public void init() throws Exception {
@@ -52,8 +62,32 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(appParameters);
+
+        ui = new UiManager(logic);
+
+        if (appParameters.getServerPort() != null) {
+            // Commands sent to the API are executed on the JavaFX application thread, which also updates the UI
+            apiServer = new ApiServer(logic, Platform::runLater, appParameters.getServerPort(),
+                    ApiServer.DEFAULT_READ_THREADS);
+        }
+
+        storage.saveAddressBook(model.getAddressBook());
+    }
+
+    /**
+     * Initializes the config, logging, storage, model and logic components, which do not need JavaFX to run.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        if (appParameters.getFlightRecordingPath() != null) {
+            initFlightRecording(appParameters.getFlightRecordingPath());
+        }
+        if (config.getLatencyIntervalSeconds() > 0) {
+            latencyCsvWriter = new LatencyCsvWriter(LatencyMetrics.getInstance(), config.getLatencyFilePath(),
+                    config.getLatencyIntervalSeconds());
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
@@ -63,10 +97,34 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        if (appParameters.getCommandTracePath() != null) {
+            initCommandTrace(appParameters.getCommandTracePath());
+        }
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Records every command entered to {@code commandTracePath}, so that the session can be replayed with
+     * {@code ReplayApp}.
+     */
+    private void initCommandTrace(Path commandTracePath) {
+        try {
+            commandTraceRecorder = new CommandTraceRecorder(commandTracePath);
+            logic.setCommandTraceRecorder(commandTraceRecorder);
+        } catch (IOException e) {
+            logger.warning("Failed to start recording commands " + StringUtil.getDetails(e));
+        }
+    }
 
-        storage.saveAddressBook(model.getAddressBook());
+    /**
+     * Starts a flight recording, which is written to {@code flightRecordingPath} when the app exits, so that what
+     * happened before a problem can be seen in JDK Mission Control.
+     */
+    private void initFlightRecording(Path flightRecordingPath) {
+        try {
+            FlightRecording.start(flightRecordingPath);
+        } catch (IOException | IllegalStateException | SecurityException e) {
+            logger.warning("Failed to start flight recording " + StringUtil.getDetails(e));
+        }
     }
 
     /**
@@ -174,15 +232,40 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ClubConnect " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (apiServer != null) {
+            apiServer.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ClubConnect ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        try {
+            // Check-ins and commands that have not been saved yet are not lost
+            logic.saveAddressBook();
+        } catch (CommandException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        closeRecorders();
+    }
+
+    /**
+     * Stops writing latency statistics and recording commands, writing out what has been recorded so far.
+     */
+    protected void closeRecorders() {
+        if (latencyCsvWriter != null) {
+            latencyCsvWriter.close();
+        }
+        if (commandTraceRecorder != null) {
+            commandTraceRecorder.close();
+        }
     }
 }
@@ -0,0 +1,119 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandTraceReplayer;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a command trace recorded with {@code --command-trace} without starting the GUI, and prints how long each
+ * kind of command took and checksums of the resulting data, for example with
+ * {@code java -jar clubconnect.jar --replay=trace.txt --data=addressbook.json --speed=0}.
+ *
+ * The trace is replayed against a copy of the {@code --data} file, which is left unchanged, or against the sample
+ * data if none is given, as the app starts with when it has no data file. {@code --speed} is 0 to replay as fast as
+ * possible, which is the default, or how many times faster than the recorded session to replay.
+ * The address book is saved after every {@code --save-every} commands, which is 1 by default, like the app.
+ */
+public class ReplayApp {
+
+    public static final String PARAMETER_REPLAY = "replay";
+    public static final String PARAMETER_DATA = "data";
+    public static final String PARAMETER_SPEED = "speed";
+    public static final String PARAMETER_SAVE_EVERY = "save-every";
+
+    private static final String DATA_FILE_NAME = "addressbook.json";
+
+    /**
+     * Returns true if {@code args} ask for a command trace to be replayed instead of starting the GUI.
+     */
+    public static boolean isReplayMode(String[] args) {
+        return AppParameters.parseNamedParameters(args).containsKey(PARAMETER_REPLAY);
+    }
+
+    /**
+     * Replays the trace given in {@code args}, and exits with status 2 if the parameters are invalid or the trace or
+     * data could not be read.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = AppParameters.parseNamedParameters(args);
+        String traceParameter = namedParameters.get(PARAMETER_REPLAY);
+        String dataParameter = namedParameters.get(PARAMETER_DATA);
+        if (traceParameter == null || !FileUtil.isValidPath(traceParameter)) {
+            exitWithError("Invalid trace path " + traceParameter);
+        }
+        if (dataParameter != null && !FileUtil.isValidPath(dataParameter)) {
+            exitWithError("Invalid data path " + dataParameter);
+        }
+        double speed = 0;
+        int saveInterval = 0;
+        try {
+            speed = Double.parseDouble(namedParameters.getOrDefault(PARAMETER_SPEED, "0"));
+            saveInterval = Integer.parseInt(namedParameters.getOrDefault(PARAMETER_SAVE_EVERY, "1"));
+        } catch (NumberFormatException e) {
+            exitWithError("Invalid speed or number of commands to save after: " + e.getMessage());
+        }
+        if (speed < 0 || saveInterval < 0) {
+            exitWithError("Speed and number of commands to save after cannot be negative");
+        }
+
+        // Logging every command would slow down the replay
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        try (BufferedReader trace = Files.newBufferedReader(Paths.get(traceParameter), StandardCharsets.UTF_8)) {
+            Path workingDirectory = Files.createTempDirectory("clubconnect-replay");
+            Logic logic = createLogic(dataParameter != null ? Paths.get(dataParameter) : null, workingDirectory);
+            logic.setSaveInterval(saveInterval);
+            System.out.println(new CommandTraceReplayer(logic).replay(trace, speed));
+            System.out.println("Replayed data saved to " + workingDirectory.resolve(DATA_FILE_NAME));
+        } catch (IOException | DataLoadingException | IllegalValueException e) {
+            exitWithError("Could not replay " + traceParameter + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a {@code Logic} of a copy of the address book at {@code dataPath}, or of the sample address book if
+     * {@code dataPath} is null, which saves to {@code workingDirectory}.
+     */
+    static Logic createLogic(Path dataPath, Path workingDirectory) throws IOException, DataLoadingException {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(workingDirectory.resolve(DATA_FILE_NAME));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(workingDirectory.resolve("preferences.json")));
+
+        ReadOnlyAddressBook initialData = SampleDataUtil.getSampleAddressBook();
+        if (dataPath != null) {
+            Files.copy(dataPath, addressBookStorage.getAddressBookFilePath());
+            initialData = storage.readAddressBook()
+                    .orElseThrow(() -> new DataLoadingException(new IOException("Data file not found")));
+        }
+        return new LogicManager(new ModelManager(initialData, new UserPrefs()), storage);
+    }
+
+    private static void exitWithError(String message) {
+        System.err.println(message);
+        System.exit(2);
+    }
+}
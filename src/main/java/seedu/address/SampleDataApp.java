@@ -0,0 +1,89 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.storage.SampleDataFileWriter;
+
+/**
+ * Writes a file of generated persons and events without starting the GUI, for example with
+ * {@code java -jar clubconnect.jar --generate=data/large.json --persons=1000000 --seed=7}.
+ *
+ * A file ending in {@code .csv} is written in the format read by the {@code import} command, and any other file as a
+ * JSON address book that can be used as the data file of the app.
+ */
+public class SampleDataApp {
+
+    public static final String PARAMETER_GENERATE = "generate";
+    public static final String PARAMETER_PERSONS = "persons";
+    public static final String PARAMETER_EVENTS = "events";
+    public static final String PARAMETER_TAGS_PER_PERSON = "tags-per-person";
+    public static final String PARAMETER_ASSIGNMENTS_PER_PERSON = "assignments-per-person";
+    public static final String PARAMETER_ZIPF_EXPONENT = "zipf-exponent";
+    public static final String PARAMETER_SEED = "seed";
+
+    private static final String DEFAULT_PERSONS = "10000";
+    private static final String DEFAULT_EVENTS = "100";
+    private static final String DEFAULT_TAGS_PER_PERSON = "2";
+    private static final String DEFAULT_ASSIGNMENTS_PER_PERSON = "3";
+    private static final String DEFAULT_SEED = "0";
+
+    /**
+     * Returns true if {@code args} ask for a file of generated data to be written instead of starting the GUI.
+     */
+    public static boolean isGenerateMode(String[] args) {
+        return AppParameters.parseNamedParameters(args).containsKey(PARAMETER_GENERATE);
+    }
+
+    /**
+     * Writes the file given in {@code args}, and exits with status 2 if the parameters are invalid or the file could
+     * not be written.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = AppParameters.parseNamedParameters(args);
+        String fileParameter = namedParameters.get(PARAMETER_GENERATE);
+        if (fileParameter == null || !FileUtil.isValidPath(fileParameter)) {
+            exitWithError("Invalid file path " + fileParameter);
+        }
+        Path filePath = Paths.get(fileParameter);
+
+        SampleDataGenerator generator = null;
+        try {
+            generator = new SampleDataGenerator(
+                    Long.parseLong(namedParameters.getOrDefault(PARAMETER_SEED, DEFAULT_SEED)),
+                    Integer.parseInt(namedParameters.getOrDefault(PARAMETER_PERSONS, DEFAULT_PERSONS)),
+                    Integer.parseInt(namedParameters.getOrDefault(PARAMETER_EVENTS, DEFAULT_EVENTS)),
+                    Integer.parseInt(namedParameters.getOrDefault(PARAMETER_TAGS_PER_PERSON,
+                            DEFAULT_TAGS_PER_PERSON)),
+                    Integer.parseInt(namedParameters.getOrDefault(PARAMETER_ASSIGNMENTS_PER_PERSON,
+                            DEFAULT_ASSIGNMENTS_PER_PERSON)),
+                    Double.parseDouble(namedParameters.getOrDefault(PARAMETER_ZIPF_EXPONENT,
+                            String.valueOf(SampleDataGenerator.DEFAULT_ZIPF_EXPONENT))));
+        } catch (IllegalArgumentException e) {
+            exitWithError("Invalid parameters: " + e.getMessage());
+        }
+
+        String written = generator.getPersonCount() + " persons";
+        try {
+            if (filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+                SampleDataFileWriter.writeCsv(generator, filePath);
+            } else {
+                SampleDataFileWriter.writeJson(generator, filePath);
+                written += " and " + generator.getEventCount() + " events";
+            }
+        } catch (IOException e) {
+            exitWithError("Could not write " + filePath + ": " + e.getMessage());
+        }
+        System.out.println("Wrote " + written + " to " + filePath);
+    }
+
+    private static void exitWithError(String message) {
+        System.err.println(message);
+        System.exit(2);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.server.ApiServer;
+
+/**
+ * Serves the address book API without starting the GUI, for example with
+ * {@code java -jar clubconnect.jar --headless --server-port=8080}.
+ *
+ * The config, preferences and data files are the same as those used by {@code MainApp}. The server runs until the
+ * process is stopped, for example with Ctrl+C.
+ */
+public class ServerApp extends MainApp {
+
+    public static final String FLAG_HEADLESS = "--headless";
+
+    private static final Logger logger = LogsCenter.getLogger(ServerApp.class);
+
+    private ExecutorService writer;
+
+    /**
+     * Returns true if {@code args} ask for the API to be served without starting the GUI.
+     */
+    public static boolean isHeadlessMode(String[] args) {
+        return Arrays.asList(args).contains(FLAG_HEADLESS);
+    }
+
+    /**
+     * Serves the API on the port given in {@code args} until the process is stopped.
+     */
+    public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(AppParameters.parseNamedParameters(args));
+        if (appParameters.getServerPort() == null) {
+            System.err.println("A valid --server-port=PORT is needed to run without the GUI");
+            System.exit(2);
+        }
+
+        ServerApp app = new ServerApp();
+        app.initComponents(appParameters);
+        try {
+            app.startServer(appParameters.getServerPort());
+        } catch (IOException e) {
+            logger.severe("Failed to start the API " + StringUtil.getDetails(e));
+            System.err.println("Could not serve the API on port " + appParameters.getServerPort() + ": "
+                    + e.getMessage());
+            System.exit(2);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(app::stop));
+    }
+
+    /**
+     * Starts serving the API on {@code port}, executing commands on a thread of its own.
+     */
+    void startServer(int port) throws IOException {
+        logger.info("=============================[ Serving ClubConnect API ]===========================");
+        writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "api-writer"));
+        apiServer = new ApiServer(logic, writer, port, ApiServer.DEFAULT_READ_THREADS);
+        apiServer.start();
+        System.out.println("Serving the ClubConnect API on port " + apiServer.getPort());
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+}
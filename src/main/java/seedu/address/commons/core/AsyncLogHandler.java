@@ -0,0 +1,256 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers on a separate daemon thread, so that the thread
+ * logging a record does not wait for it to be formatted and written to the console or a file.
+ *
+ * Records are queued in a fixed-size ring buffer which threads add to without taking a lock. If the buffer is full,
+ * new records below {@code WARNING} are dropped, and the number dropped is logged once there is room again. Warnings
+ * and errors are not dropped: the thread logging one waits for the writer to make room for it instead.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * Longest time {@link #flush()} waits for the queued records to be written, and a warning waits for room in a full
+     * buffer, in milliseconds.
+     */
+    private static final long FLUSH_TIMEOUT_MILLIS = 5_000;
+
+    private final List<Handler> targets;
+    private final int mask;
+
+    // Each slot has a sequence number telling whether it is free to be written at position p (sequence p), or holds
+    // the record at position p (sequence p + 1), so that producers and the consumer never wait on each other.
+    private final AtomicReferenceArray<LogRecord> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private volatile long writtenCount;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean isWriterWaiting;
+
+    /** Notified by the writer after it writes a record, if {@code progressWaiterCount} is not zero. */
+    private final Object progressLock = new Object();
+    private final AtomicInteger progressWaiterCount = new AtomicInteger();
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that passes records on to {@code targets}, queueing up to {@code capacity}
+     * records, rounded up to a power of two.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity) {
+        requireNonNull(targets);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.targets = List.copyOf(targets);
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        mask = size - 1;
+        slots = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The source is found from the stack of the logging thread, so it must be found before handing the record on
+        record.getSourceClassName();
+        if (!offer(record) && !(isKeptWhenFull(record) && offerWhenWritten(record))) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        if (isWriterWaiting) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Adds {@code record} to the buffer, returning false if the buffer is full.
+     */
+    private boolean offer(LogRecord record) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference < 0) {
+                return false;
+            }
+            if (difference == 0 && tail.compareAndSet(position, position + 1)) {
+                slots.set(index, record);
+                sequences.set(index, position + 1);
+                return true;
+            }
+        }
+    }
+
+    private static boolean isKeptWhenFull(LogRecord record) {
+        return record.getLevel().intValue() >= Level.WARNING.intValue();
+    }
+
+    /**
+     * Waits for the writer to make room for {@code record} and adds it to the buffer, returning false if there is
+     * still no room after {@link #FLUSH_TIMEOUT_MILLIS}.
+     */
+    private boolean offerWhenWritten(LogRecord record) {
+        if (Thread.currentThread() == writer) {
+            // The writer cannot make room while it waits
+            return false;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        progressWaiterCount.incrementAndGet();
+        try {
+            synchronized (progressLock) {
+                while (!offer(record)) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0 || isClosed || !writer.isAlive()) {
+                        return false;
+                    }
+                    LockSupport.unpark(writer);
+                    progressLock.wait(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1);
+                }
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            progressWaiterCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Removes the oldest record from the buffer, returning null if there is none.
+     * Must only be called by one thread at a time.
+     */
+    private LogRecord poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        LogRecord record = slots.getAndSet(index, null);
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return record;
+    }
+
+    private void writeRecords() {
+        while (!isClosed) {
+            if (!writeQueuedRecords()) {
+                isWriterWaiting = true;
+                if (head == tail.get() && !isClosed) {
+                    LockSupport.park(this);
+                }
+                isWriterWaiting = false;
+            }
+        }
+    }
+
+    /**
+     * Passes all queued records on to the targets, returning false if there were none.
+     */
+    private boolean writeQueuedRecords() {
+        boolean hasWritten = false;
+        for (LogRecord record = poll(); record != null; record = poll()) {
+            publishToTargets(record);
+            writeDroppedCount();
+            writtenCount++;
+            hasWritten = true;
+            // Waiters count themselves before checking for progress, so they cannot miss this
+            if (progressWaiterCount.get() > 0) {
+                synchronized (progressLock) {
+                    progressLock.notifyAll();
+                }
+            }
+        }
+        writeDroppedCount();
+        return hasWritten;
+    }
+
+    private void writeDroppedCount() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord droppedRecord = new LogRecord(Level.WARNING, dropped + " log records were dropped");
+            droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+            droppedRecord.setSourceMethodName("publish");
+            publishToTargets(droppedRecord);
+        }
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            target.publish(record);
+        }
+    }
+
+    /**
+     * Waits for the records queued so far to be written, then flushes the targets.
+     */
+    @Override
+    public void flush() {
+        long position = tail.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        progressWaiterCount.incrementAndGet();
+        try {
+            LockSupport.unpark(writer);
+            synchronized (progressLock) {
+                while (writtenCount < position && writer.isAlive()) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        break;
+                    }
+                    progressLock.wait(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            progressWaiterCount.decrementAndGet();
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Stops the writer thread, writes the records still queued and closes the targets.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writer.isAlive()) {
+            writeQueuedRecords();
+        }
+        targets.forEach(Handler::close);
+    }
+}
@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path latencyFilePath = Paths.get("latency.csv");
+    private long latencyIntervalSeconds = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,26 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getLatencyFilePath() {
+        return latencyFilePath;
+    }
+
+    public void setLatencyFilePath(Path latencyFilePath) {
+        this.latencyFilePath = latencyFilePath;
+    }
+
+    /**
+     * Returns the number of seconds between writes of command latencies to the latency file, or 0 if they are not
+     * written.
+     */
+    public long getLatencyIntervalSeconds() {
+        return latencyIntervalSeconds;
+    }
+
+    public void setLatencyIntervalSeconds(long latencyIntervalSeconds) {
+        this.latencyIntervalSeconds = latencyIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +69,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(latencyFilePath, otherConfig.latencyFilePath)
+                && latencyIntervalSeconds == otherConfig.latencyIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, latencyFilePath, latencyIntervalSeconds);
     }
 
     @Override
@@ -60,6 +84,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("latencyFilePath", latencyFilePath)
+                .add("latencyIntervalSeconds", latencyIntervalSeconds)
                 .toString();
     }
 
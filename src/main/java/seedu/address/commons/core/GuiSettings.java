@@ -18,6 +18,7 @@ public class GuiSettings implements Serializable {
     private final double windowWidth;
     private final double windowHeight;
     private final Point windowCoordinates;
+    private final boolean showPersonTable;
 
     /**
      * Constructs a {@code GuiSettings} with the default height, width and position.
@@ -26,15 +27,26 @@ public class GuiSettings implements Serializable {
         windowWidth = DEFAULT_WIDTH;
         windowHeight = DEFAULT_HEIGHT;
         windowCoordinates = null; // null represent no coordinates
+        showPersonTable = false;
     }
 
     /**
      * Constructs a {@code GuiSettings} with the specified height, width and position.
      */
     public GuiSettings(double windowWidth, double windowHeight, int xPosition, int yPosition) {
+        this(windowWidth, windowHeight, xPosition, yPosition, false);
+    }
+
+    /**
+     * Constructs a {@code GuiSettings} with the specified height, width and position, showing persons in a table
+     * instead of a list of cards if {@code showPersonTable} is true.
+     */
+    public GuiSettings(double windowWidth, double windowHeight, int xPosition, int yPosition,
+            boolean showPersonTable) {
         this.windowWidth = windowWidth;
         this.windowHeight = windowHeight;
         windowCoordinates = new Point(xPosition, yPosition);
+        this.showPersonTable = showPersonTable;
     }
 
     public double getWindowWidth() {
@@ -49,6 +61,10 @@ public class GuiSettings implements Serializable {
         return windowCoordinates != null ? new Point(windowCoordinates) : null;
     }
 
+    public boolean isShowPersonTable() {
+        return showPersonTable;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -63,12 +79,13 @@ public class GuiSettings implements Serializable {
         GuiSettings otherGuiSettings = (GuiSettings) other;
         return windowWidth == otherGuiSettings.windowWidth
                 && windowHeight == otherGuiSettings.windowHeight
-                && Objects.equals(windowCoordinates, otherGuiSettings.windowCoordinates);
+                && Objects.equals(windowCoordinates, otherGuiSettings.windowCoordinates)
+                && showPersonTable == otherGuiSettings.showPersonTable;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(windowWidth, windowHeight, windowCoordinates);
+        return Objects.hash(windowWidth, windowHeight, windowCoordinates, showPersonTable);
     }
 
     @Override
@@ -77,6 +94,7 @@ public class GuiSettings implements Serializable {
                 .add("windowWidth", windowWidth)
                 .add("windowHeight", windowHeight)
                 .add("windowCoordinates", windowCoordinates)
+                .add("showPersonTable", showPersonTable)
                 .toString();
     }
 }
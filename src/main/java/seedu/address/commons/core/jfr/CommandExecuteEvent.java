@@ -0,0 +1,35 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for the execution of a command, including committing its changes to the model.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"ClubConnect", "Logic"})
+@Description("Execution of a command, including committing its changes to the model")
+public class CommandExecuteEvent extends jdk.jfr.Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    @Label("Result")
+    @Description("Feedback shown to the user, or the error message if the command failed")
+    private String result;
+
+    /**
+     * Sets the word of the command executed, whether it succeeded and the feedback or error message shown.
+     */
+    public void setResult(String commandWord, boolean succeeded, String result) {
+        this.commandWord = commandWord;
+        this.succeeded = succeeded;
+        this.result = result;
+    }
+}
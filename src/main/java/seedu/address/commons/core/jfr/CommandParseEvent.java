@@ -0,0 +1,30 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for the parsing of a command entered by the user.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"ClubConnect", "Logic"})
+@Description("Parsing of a command entered by the user")
+public class CommandParseEvent extends jdk.jfr.Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    /**
+     * Sets the word of the command parsed and whether it was valid.
+     */
+    public void setResult(String commandWord, boolean succeeded) {
+        this.commandWord = commandWord;
+        this.succeeded = succeeded;
+    }
+}
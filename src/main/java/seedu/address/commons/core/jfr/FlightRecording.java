@@ -0,0 +1,98 @@
+package seedu.address.commons.core.jfr;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A flight recording of the app, kept in memory and on disk up to a fixed age and size, which is written to a file
+ * when the app exits or when asked to. The file can be opened in JDK Mission Control.
+ *
+ * At most one recording is running at a time; it is returned by {@link #getCurrent()}.
+ */
+public class FlightRecording {
+
+    /** Age of the oldest data kept in the recording. */
+    public static final Duration MAX_AGE = Duration.ofMinutes(30);
+    /** Size of the data kept in the recording, in bytes. */
+    public static final long MAX_SIZE = 64L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecording.class);
+    private static FlightRecording current;
+
+    private final Recording recording;
+    private final Path dumpPath;
+
+    private FlightRecording(Recording recording, Path dumpPath) {
+        this.recording = recording;
+        this.dumpPath = dumpPath;
+    }
+
+    /**
+     * Starts recording the app's events together with the JVM's default ones, to be written to {@code dumpPath}.
+     * Any recording already running is stopped first, without being written.
+     *
+     * @throws IOException if the recording could not be started.
+     */
+    public static synchronized FlightRecording start(Path dumpPath) throws IOException {
+        requireNonNull(dumpPath);
+        stop();
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+        } catch (ParseException e) {
+            throw new IOException("Invalid default recording settings", e);
+        }
+        recording.setName("ClubConnect");
+        recording.setToDisk(true);
+        recording.setMaxAge(MAX_AGE);
+        recording.setMaxSize(MAX_SIZE);
+        recording.setDestination(dumpPath);
+        recording.setDumpOnExit(true);
+        recording.start();
+        logger.info(() -> "Flight recording started, to be saved to " + dumpPath);
+
+        current = new FlightRecording(recording, dumpPath);
+        return current;
+    }
+
+    /**
+     * Returns the recording that is running, if any.
+     */
+    public static synchronized Optional<FlightRecording> getCurrent() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Stops the recording that is running, if any, without writing it.
+     */
+    public static synchronized void stop() {
+        if (current != null) {
+            current.recording.close();
+            current = null;
+        }
+    }
+
+    public Path getDumpPath() {
+        return dumpPath;
+    }
+
+    /**
+     * Writes what has been recorded so far to the dump path, and keeps recording.
+     *
+     * @throws IOException if the recording could not be written.
+     */
+    public void dump() throws IOException {
+        recording.dump(dumpPath);
+        logger.info(() -> "Flight recording saved to " + dumpPath);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for a change to the model that can affect every person or event at once, such as replacing
+ * the address book, undoing a command or deleting an event assigned to many persons.
+ */
+@Name("seedu.address.ModelBulkOperation")
+@Label("Model Bulk Operation")
+@Category({"ClubConnect", "Model"})
+@Description("Change to the model that can affect every person or event at once")
+public class ModelBulkOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Persons")
+    @Description("Number of persons in the address book afterwards")
+    private int personCount;
+
+    @Label("Events")
+    @Description("Number of events in the address book afterwards")
+    private int eventCount;
+
+    /**
+     * Creates an event for the operation named {@code operation}, which starts being timed when {@code begin()} is
+     * called.
+     */
+    public ModelBulkOperationEvent(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Sets the number of persons and events in the address book after the operation.
+     */
+    public void setResult(int personCount, int eventCount) {
+        this.personCount = personCount;
+        this.eventCount = eventCount;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for the reading of an address book from a JSON file.
+ */
+@Name("seedu.address.StorageRead")
+@Label("Address Book Read")
+@Category({"ClubConnect", "Storage"})
+@Description("Reading of an address book from a JSON file")
+public class StorageReadEvent extends jdk.jfr.Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Persons")
+    private int personCount;
+
+    @Label("Events")
+    private int eventCount;
+
+    @Label("Failed")
+    @Description("Whether the address book could not be read, in which case no persons or events are counted")
+    private boolean failed;
+
+    /**
+     * Sets the file read, its size, the number of persons and events read from it and whether that failed.
+     */
+    public void setResult(String filePath, long bytes, int personCount, int eventCount, boolean failed) {
+        this.filePath = filePath;
+        this.bytes = bytes;
+        this.personCount = personCount;
+        this.eventCount = eventCount;
+        this.failed = failed;
+    }
+}
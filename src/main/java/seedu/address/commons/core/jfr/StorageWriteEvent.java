@@ -0,0 +1,45 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for the writing of an address book to a JSON file.
+ */
+@Name("seedu.address.StorageWrite")
+@Label("Address Book Write")
+@Category({"ClubConnect", "Storage"})
+@Description("Writing of an address book to a JSON file")
+public class StorageWriteEvent extends jdk.jfr.Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Persons")
+    private int personCount;
+
+    @Label("Events")
+    private int eventCount;
+
+    @Label("Failed")
+    @Description("Whether the address book could not be written, in which case no persons or events are counted")
+    private boolean failed;
+
+    /**
+     * Sets the file written, its size, the number of persons and events written to it and whether that failed.
+     */
+    public void setResult(String filePath, long bytes, int personCount, int eventCount, boolean failed) {
+        this.filePath = filePath;
+        this.bytes = bytes;
+        this.personCount = personCount;
+        this.eventCount = eventCount;
+        this.failed = failed;
+    }
+}
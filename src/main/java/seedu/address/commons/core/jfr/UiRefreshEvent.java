@@ -0,0 +1,35 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for a displayed list being brought up to date with the model.
+ */
+@Name("seedu.address.UiRefresh")
+@Label("List Refresh")
+@Category({"ClubConnect", "UI"})
+@Description("Displayed list being brought up to date with the model, including the handling by its list view")
+public class UiRefreshEvent extends jdk.jfr.Event {
+
+    @Label("Removed")
+    private int removedCount;
+
+    @Label("Added")
+    private int addedCount;
+
+    @Label("Size")
+    @Description("Number of elements in the list afterwards")
+    private int size;
+
+    /**
+     * Sets the number of elements replaced in the list, and its size afterwards.
+     */
+    public void setResult(int removedCount, int addedCount, int size) {
+        this.removedCount = removedCount;
+        this.addedCount = addedCount;
+        this.size = size;
+    }
+}
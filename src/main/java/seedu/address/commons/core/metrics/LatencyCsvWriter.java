@@ -0,0 +1,114 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Periodically appends the durations recorded by the histograms in a {@code LatencyMetrics} to a CSV file, one row
+ * per histogram that has recorded durations since the last time it was written. Each row only describes those
+ * durations, so that latencies can be compared between intervals.
+ */
+public class LatencyCsvWriter {
+
+    public static final String HEADER = "time,name,count,mean_ms,p50_ms,p90_ms,p99_ms,max_ms";
+
+    private static final Logger logger = LogsCenter.getLogger(LatencyCsvWriter.class);
+
+    private final LatencyMetrics metrics;
+    private final Path filePath;
+    /** Copies of the histograms as they were when they were last written. */
+    private final Map<String, LatencyHistogram> writtenHistograms = new HashMap<>();
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a {@code LatencyCsvWriter} that appends the histograms of {@code metrics} to {@code filePath} every
+     * {@code intervalSeconds} seconds, on a daemon thread.
+     */
+    public LatencyCsvWriter(LatencyMetrics metrics, Path filePath, long intervalSeconds) {
+        requireNonNull(metrics);
+        requireNonNull(filePath);
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + intervalSeconds);
+        }
+        this.metrics = metrics;
+        this.filePath = filePath;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "latency-csv-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::writeRowsLogged, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private void writeRowsLogged() {
+        try {
+            writeRows();
+        } catch (IOException e) {
+            logger.warning("Failed to write latencies to " + filePath + " " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Appends a row of the durations each histogram has recorded since it was last written, for the histograms that
+     * have recorded any, adding a header first if the file does not exist yet.
+     */
+    synchronized void writeRows() throws IOException {
+        StringBuilder rows = new StringBuilder();
+        // Only remembered as written once the rows are, so that the durations are written again after a failure
+        Map<String, LatencyHistogram> rowHistograms = new HashMap<>();
+        String time = Instant.now().toString();
+        metrics.getHistograms().forEach((name, histogram) -> {
+            LatencyHistogram current = histogram.copy();
+            LatencyHistogram written = writtenHistograms.get(name);
+            LatencyHistogram interval = written == null ? current : current.since(written);
+            if (interval.getCount() == 0) {
+                return;
+            }
+            rowHistograms.put(name, current);
+            rows.append(String.join(",", time, name, String.valueOf(interval.getCount()),
+                    LatencyMetrics.formatMillis(interval.getMeanNanos()),
+                    LatencyMetrics.formatMillis(interval.getPercentileNanos(50)),
+                    LatencyMetrics.formatMillis(interval.getPercentileNanos(90)),
+                    LatencyMetrics.formatMillis(interval.getPercentileNanos(99)),
+                    LatencyMetrics.formatMillis(interval.getMaxNanos())))
+                    .append(System.lineSeparator());
+        });
+        if (rows.length() == 0) {
+            return;
+        }
+
+        boolean isNewFile = !Files.exists(filePath);
+        try (Writer writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (isNewFile) {
+                writer.write(HEADER + System.lineSeparator());
+            }
+            writer.write(rows.toString());
+        }
+        writtenHistograms.putAll(rowHistograms);
+    }
+
+    /**
+     * Stops writing periodically, after appending the latencies recorded since the last time they were written.
+     */
+    public void close() {
+        executor.shutdownNow();
+        writeRowsLogged();
+    }
+}
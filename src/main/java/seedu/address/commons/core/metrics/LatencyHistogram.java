@@ -0,0 +1,131 @@
+package seedu.address.commons.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts durations in nanoseconds into buckets whose width grows with the duration, so that any duration is counted
+ * to within 1/8 of its value in under 500 buckets.
+ *
+ * Each power of two is split into {@value #SUB_BUCKET_COUNT} equal buckets. Recording a duration only increments
+ * counters, so it can be done from any thread without locking; readings taken while durations are being recorded
+ * may include some of them but not others.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        bucketCounts.incrementAndGet(bucketIndex(value));
+        count.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns a copy of the durations recorded so far, which is not changed by durations recorded later.
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy.bucketCounts.set(i, bucketCounts.get(i));
+        }
+        copy.count.set(count.get());
+        copy.totalNanos.set(totalNanos.get());
+        copy.maxNanos.set(maxNanos.get());
+        return copy;
+    }
+
+    /**
+     * Returns the durations recorded since {@code earlier}, which must be a copy of this histogram taken before.
+     * The durations themselves are not kept, so the maximum is the end of the highest bucket with such a duration,
+     * if that is less than the maximum of all durations.
+     */
+    public LatencyHistogram since(LatencyHistogram earlier) {
+        LatencyHistogram difference = new LatencyHistogram();
+        long highestBucketEnd = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = bucketCounts.get(i) - earlier.bucketCounts.get(i);
+            difference.bucketCounts.set(i, bucketCount);
+            if (bucketCount > 0) {
+                highestBucketEnd = i + 1 < BUCKET_COUNT ? bucketLowerBound(i + 1) - 1 : Long.MAX_VALUE;
+            }
+        }
+        difference.count.set(count.get() - earlier.count.get());
+        difference.totalNanos.set(totalNanos.get() - earlier.totalNanos.get());
+        difference.maxNanos.set(Math.min(highestBucketEnd, getMaxNanos()));
+        return difference;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the smallest duration counted in the bucket at {@code index}.
+     */
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        return (SUB_BUCKET_COUNT + subBucket) << (magnitude - SUB_BUCKET_BITS);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or 0 if none have been recorded.
+     */
+    public double getMeanNanos() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : (double) totalNanos.get() / currentCount;
+    }
+
+    /**
+     * Returns a duration that {@code percentile} percent of the recorded durations do not exceed, rounded up to the
+     * end of its bucket, or 0 if none have been recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long currentCount = count.get();
+        if (currentCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * currentCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += bucketCounts.get(i);
+            if (seen >= rank) {
+                long bucketUpperBound = i + 1 < BUCKET_COUNT ? bucketLowerBound(i + 1) - 1 : Long.MAX_VALUE;
+                return Math.min(bucketUpperBound, getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+}
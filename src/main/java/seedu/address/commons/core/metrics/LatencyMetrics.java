@@ -0,0 +1,92 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a {@code LatencyHistogram} for each stage of the app that is timed, such as parsing a command, saving the
+ * address book or showing the changes in a list, by name.
+ * The histograms of the app are kept by the instance returned by {@link #getInstance()}.
+ */
+public class LatencyMetrics {
+
+    public static final String PARSE_PREFIX = "parse ";
+    public static final String EXECUTE_PREFIX = "execute ";
+    public static final String SAVE_PREFIX = "save ";
+    public static final String STORAGE_LOAD = "storage load";
+    public static final String STORAGE_SAVE = "storage save";
+    public static final String UI_REFRESH = "ui refresh";
+
+    private static final LatencyMetrics INSTANCE = new LatencyMetrics();
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private volatile String lastCommandWord;
+    private volatile long lastCommandNanos;
+
+    public static LatencyMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the histogram named {@code name}, creating it if there is none.
+     */
+    public LatencyHistogram getHistogram(String name) {
+        requireNonNull(name);
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, unused -> new LatencyHistogram());
+    }
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds in the histogram named {@code name}.
+     */
+    public void record(String name, long nanos) {
+        getHistogram(name).record(nanos);
+    }
+
+    /**
+     * Returns all histograms, sorted by name.
+     */
+    public SortedMap<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Remembers that the last command entered was {@code commandWord}, and took {@code nanos} nanoseconds in total.
+     */
+    public void recordLastCommand(String commandWord, long nanos) {
+        lastCommandWord = commandWord;
+        lastCommandNanos = nanos;
+    }
+
+    /**
+     * Returns the word of the last command entered, or null if no command has been entered.
+     */
+    public String getLastCommandWord() {
+        return lastCommandWord;
+    }
+
+    public long getLastCommandNanos() {
+        return lastCommandNanos;
+    }
+
+    /**
+     * Returns the heap memory used by the app and the most it can use, in megabytes.
+     */
+    public static String describeHeapUsage() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedBytes = runtime.totalMemory() - runtime.freeMemory();
+        return String.format("Heap: %d / %d MB", usedBytes >> 20, runtime.maxMemory() >> 20);
+    }
+
+    /**
+     * Formats {@code nanos} in milliseconds with 3 decimal places.
+     */
+    public static String formatMillis(double nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000);
+    }
+}
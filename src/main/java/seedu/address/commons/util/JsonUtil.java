@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -39,6 +41,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Does not flush after each value, as values written through a generator are usually parts of a larger one
+    private static ObjectMapper streamingObjectMapper = objectMapper.copy()
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -92,6 +98,16 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a generator that writes JSON to {@code writer} in the same format as {@link #saveJsonFile}, so that
+     * data too large to be held in memory can be written a part at a time with {@link JsonGenerator#writeObject}.
+     * The generator has to be closed to write any remaining output to {@code writer}.
+     */
+    public static JsonGenerator createJsonGenerator(Writer writer) throws IOException {
+        requireNonNull(writer);
+        return streamingObjectMapper.getFactory().createGenerator(writer).useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -0,0 +1,167 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Tests whether a text contains any of a fixed set of keywords, ignoring case.
+ * The keywords are compiled once into an Aho-Corasick automaton, so each test is a single pass over the text no matter
+ * how many keywords there are.
+ * <br>examples:<pre>
+ *       new KeywordMatcher(List.of("ali", "BOB")).matchesAny("alice") == true
+ *       new KeywordMatcher(List.of("ali", "BOB")).matchesAny("bobby") == true
+ *       new KeywordMatcher(List.of("ali", "BOB")).matchesAny("carl") == false
+ *       </pre>
+ */
+public class KeywordMatcher {
+
+    /** Symbol for characters that do not appear in any keyword. */
+    private static final int OTHER_SYMBOL = 0;
+    private static final int ASCII_SIZE = 128;
+    private static final int ROOT = 0;
+
+    private final int[] asciiSymbols = new int[ASCII_SIZE];
+    private final Map<Character, Integer> nonAsciiSymbols = new HashMap<>();
+    private final int[][] transitions;
+    private final boolean[] isMatch;
+
+    /**
+     * Compiles {@code keywords} into a matcher.
+     *
+     * @param keywords cannot be null. An empty keyword matches every text.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+
+        List<String> lowerCaseKeywords = new ArrayList<>();
+        int symbolCount = 1;
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.toLowerCase();
+            lowerCaseKeywords.add(lowerCaseKeyword);
+            for (char c : lowerCaseKeyword.toCharArray()) {
+                if (symbolOf(c) == OTHER_SYMBOL) {
+                    assignSymbol(c, symbolCount++);
+                }
+            }
+        }
+
+        // Builds the trie of keywords
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> matches = new ArrayList<>();
+        trie.add(newState(symbolCount));
+        matches.add(false);
+        for (String keyword : lowerCaseKeywords) {
+            int state = ROOT;
+            for (char c : keyword.toCharArray()) {
+                int symbol = symbolOf(c);
+                if (trie.get(state)[symbol] == -1) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newState(symbolCount));
+                    matches.add(false);
+                }
+                state = trie.get(state)[symbol];
+            }
+            matches.set(state, true);
+        }
+
+        transitions = trie.toArray(new int[0][]);
+        isMatch = new boolean[transitions.length];
+        for (int i = 0; i < isMatch.length; i++) {
+            isMatch[i] = matches.get(i);
+        }
+        compileFailureTransitions(symbolCount);
+    }
+
+    /**
+     * Turns the trie into a deterministic automaton by replacing every missing transition with the transition of the
+     * longest proper suffix that is also a keyword prefix, in breadth-first order.
+     */
+    private void compileFailureTransitions(int symbolCount) {
+        int[] failure = new int[transitions.length];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < symbolCount; symbol++) {
+            int next = transitions[ROOT][symbol];
+            if (next == -1) {
+                transitions[ROOT][symbol] = ROOT;
+            } else {
+                failure[next] = ROOT;
+                queue.add(next);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            isMatch[state] |= isMatch[failure[state]];
+            for (int symbol = 0; symbol < symbolCount; symbol++) {
+                int next = transitions[state][symbol];
+                if (next == -1) {
+                    transitions[state][symbol] = transitions[failure[state]][symbol];
+                } else {
+                    failure[next] = transitions[failure[state]][symbol];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords.
+     *
+     * @param text cannot be null, and must already be in lower case
+     *             (e.g. the cached lower case value of a {@code Name}).
+     */
+    public boolean matchesAny(String text) {
+        requireNonNull(text);
+        int state = ROOT;
+        if (isMatch[state]) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state][symbolOf(text.charAt(i))];
+            if (isMatch[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if every text containing any of {@code keywords} also contains any of {@code otherKeywords},
+     * ignoring case. This holds when each keyword contains one of the other keywords, e.g. {@code [alice, bobby]}
+     * narrows {@code [ali, bob]}.
+     */
+    public static boolean isNarrowing(List<String> keywords, List<String> otherKeywords) {
+        requireNonNull(keywords);
+        requireNonNull(otherKeywords);
+        return keywords.stream().allMatch(keyword -> otherKeywords.stream()
+                .anyMatch(otherKeyword -> keyword.toLowerCase().contains(otherKeyword.toLowerCase())));
+    }
+
+    private int symbolOf(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiSymbols[c];
+        }
+        return nonAsciiSymbols.getOrDefault(c, OTHER_SYMBOL);
+    }
+
+    private void assignSymbol(char c, int symbol) {
+        if (c < ASCII_SIZE) {
+            asciiSymbols[c] = symbol;
+        } else {
+            nonAsciiSymbols.put(c, symbol);
+        }
+    }
+
+    private static int[] newState(int symbolCount) {
+        int[] state = new int[symbolCount];
+        Arrays.fill(state, -1);
+        return state;
+    }
+}
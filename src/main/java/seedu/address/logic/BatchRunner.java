@@ -0,0 +1,129 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands through {@code Logic}, one command per line, printing the result of each command.
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. Commands that fail are reported and
+ * the rest of the script is still run, until an {@code exit} command or the end of the script.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_COMMAND = "[%1$d] %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Error: %1$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands (%2$d failed) in %3$.3f s, %4$.1f commands/s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands with {@code logic} and prints their results to
+     * {@code out}.
+     */
+    public BatchRunner(Logic logic, PrintStream out) {
+        requireAllNonNull(logic, out);
+        this.logic = logic;
+        this.out = out;
+    }
+
+    /**
+     * Runs every command in {@code script}, saving the address book after every {@code saveInterval} commands, or
+     * only at the end if {@code saveInterval} is 0. The address book is always saved once the script ends.
+     *
+     * @return a summary of the commands that were run.
+     * @throws IOException if the script cannot be read.
+     */
+    public Summary run(BufferedReader script, int saveInterval) throws IOException {
+        requireNonNull(script);
+        logic.setSaveInterval(saveInterval);
+        logger.info("Running script, saving every " + saveInterval + " commands");
+
+        int commandCount = 0;
+        int failureCount = 0;
+        long startTime = System.nanoTime();
+        String line;
+        while ((line = script.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            out.println(String.format(MESSAGE_COMMAND, commandCount, commandText));
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                out.println(String.format(MESSAGE_COMMAND_FAILED, e.getMessage()));
+            }
+        }
+
+        try {
+            logic.saveAddressBook();
+        } catch (CommandException e) {
+            failureCount++;
+            out.println(String.format(MESSAGE_COMMAND_FAILED, e.getMessage()));
+        }
+
+        Summary summary = new Summary(commandCount, failureCount, System.nanoTime() - startTime);
+        out.println(summary);
+        return summary;
+    }
+
+    /**
+     * The number of commands run by a script, how many of them failed and how long they took.
+     * A failure to save the address book at the end of the script also counts as a failed command.
+     */
+    public static class Summary {
+        private final int commandCount;
+        private final int failureCount;
+        private final long elapsedNanos;
+
+        /**
+         * Creates a {@code Summary} of {@code commandCount} commands that took {@code elapsedNanos} in total.
+         */
+        public Summary(int commandCount, int failureCount, long elapsedNanos) {
+            this.commandCount = commandCount;
+            this.failureCount = failureCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Returns the number of commands run per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_SUMMARY, commandCount, failureCount, elapsedNanos / 1e9, getThroughput());
+        }
+    }
+}
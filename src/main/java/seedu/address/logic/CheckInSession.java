@@ -0,0 +1,134 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the attendance of persons at an event as they arrive, one person ID or name per entry.
+ *
+ * Each entry is looked up by ID or name without going through the whole person list, and assigns the event to the
+ * person in the model. Saving the changes is left to the caller.
+ */
+public class CheckInSession {
+
+    public static final String COMMAND_WORD = "checkin";
+    public static final String DONE_WORD = "done";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Starts checking persons in to an event. "
+            + "After this, enter the ID or name of each person as they arrive, and '" + DONE_WORD + "' when finished.\n"
+            + "Parameters: EVENT_INDEX (must be a positive integer) or EVENT_NAME (must start with an alphabet)\n"
+            + "Example: " + COMMAND_WORD + " CS2103T Project Meeting";
+    public static final String MESSAGE_STARTED = "Checking in to '%1$s'. Enter the ID or name of each person as "
+            + "they arrive, and '" + DONE_WORD + "' when finished.";
+    public static final String MESSAGE_CHECKED_IN = "Checked in: %1$s (%2$d checked in)";
+    public static final String MESSAGE_ALREADY_CHECKED_IN = "'%1$s' is already checked in to '%2$s'";
+    public static final String MESSAGE_UNKNOWN_PERSON_ID = "There is no person with the ID %1$s";
+    public static final String MESSAGE_ENDED = "Check-in to '%1$s' ended: %2$d persons checked in";
+
+    private final Model model;
+    private final Event event;
+    private int checkInCount;
+
+    /**
+     * Creates a session that checks persons in to {@code event}.
+     */
+    public CheckInSession(Model model, Event event) {
+        requireAllNonNull(model, event);
+        this.model = model;
+        this.event = event;
+    }
+
+    /**
+     * Creates a session that checks persons in to the event with the index in the displayed event list or the name
+     * given by {@code eventText}.
+     *
+     * @throws ParseException if {@code eventText} is neither an index nor a valid event name.
+     * @throws CommandException if there is no such event, or more than one event has the name.
+     */
+    public static CheckInSession start(Model model, String eventText) throws ParseException, CommandException {
+        String trimmedEventText = eventText.trim();
+        if (trimmedEventText.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        }
+
+        if (Character.isDigit(trimmedEventText.charAt(0))) {
+            Index index = ParserUtil.parseIndex(trimmedEventText);
+            List<Event> events = model.getFilteredEventList();
+            if (index.getZeroBased() >= events.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
+            }
+            return new CheckInSession(model, events.get(index.getZeroBased()));
+        }
+
+        List<Event> events = model.findEventsWithName(ParserUtil.parseEventName(trimmedEventText));
+        if (events.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_NAME);
+        } else if (events.size() > 1) {
+            throw new CommandException(Messages.MESSAGE_MORE_THAN_ONE_EVENT_DISPLAYED_NAME);
+        }
+        return new CheckInSession(model, events.get(0));
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public int getCheckInCount() {
+        return checkInCount;
+    }
+
+    /**
+     * Checks in the person with the ID or name given by {@code entry}.
+     *
+     * @return the message to acknowledge the entry with.
+     * @throws CommandException if there is no such person, or the person is already checked in.
+     */
+    public String checkIn(String entry) throws CommandException {
+        Person person = findPerson(entry.trim());
+        if (person.checkAssignedToEvent(event)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_CHECKED_IN, person.getName(),
+                    event.getEventName()));
+        }
+
+        model.assignEventToPerson(person, event);
+        checkInCount++;
+        return String.format(MESSAGE_CHECKED_IN, person.getName(), checkInCount);
+    }
+
+    private Person findPerson(String entry) throws CommandException {
+        if (!entry.isEmpty() && Character.isDigit(entry.charAt(0))) {
+            return Optional.of(entry)
+                    .filter(StringUtil::isNonZeroUnsignedInteger)
+                    .flatMap(id -> model.findPersonById(Integer.parseInt(id)))
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_UNKNOWN_PERSON_ID, entry)));
+        }
+        if (!Name.isValidName(entry)) {
+            throw new CommandException(Name.MESSAGE_CONSTRAINTS);
+        }
+        List<Person> persons = model.findPersonsWithName(new Name(entry));
+        if (persons.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME);
+        }
+        return persons.get(0);
+    }
+
+    /**
+     * Returns the message to end the session with.
+     */
+    public String getSummary() {
+        return String.format(MESSAGE_ENDED, event.getEventName(), checkInCount);
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A command entered into the app, with the time it was entered and the version of the model before it was executed,
+ * as recorded in a command trace.
+ *
+ * In a trace file, each entry is a line of the time, the model version and the command text, separated by spaces.
+ * Line breaks and backslashes in the command text are escaped, so that every command takes exactly one line.
+ */
+public class CommandTraceEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Invalid command trace entry: %1$s";
+
+    private final Instant time;
+    private final long modelVersion;
+    private final String commandText;
+
+    /**
+     * Creates an entry of {@code commandText}, entered at {@code time} when the model was at {@code modelVersion}.
+     */
+    public CommandTraceEntry(Instant time, long modelVersion, String commandText) {
+        requireNonNull(time);
+        requireNonNull(commandText);
+        this.time = time;
+        this.modelVersion = modelVersion;
+        this.commandText = commandText;
+    }
+
+    public Instant getTime() {
+        return time;
+    }
+
+    public long getModelVersion() {
+        return modelVersion;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    /**
+     * Returns this entry as a line of a trace file, without a line separator.
+     */
+    public String toLine() {
+        String escapedText = commandText.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+        return time + " " + modelVersion + " " + escapedText;
+    }
+
+    /**
+     * Parses a line written by {@link #toLine()}.
+     *
+     * @throws IllegalValueException if {@code line} is not a valid entry.
+     */
+    public static CommandTraceEntry parse(String line) throws IllegalValueException {
+        requireNonNull(line);
+        String[] parts = line.split(" ", 3);
+        if (parts.length < 3) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, line));
+        }
+        try {
+            return new CommandTraceEntry(Instant.parse(parts[0]), Long.parseLong(parts[1]), unescape(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, line), e);
+        }
+    }
+
+    private static String unescape(String escapedText) {
+        StringBuilder text = new StringBuilder(escapedText.length());
+        for (int i = 0; i < escapedText.length(); i++) {
+            char c = escapedText.charAt(i);
+            if (c != '\\' || i + 1 == escapedText.length()) {
+                text.append(c);
+                continue;
+            }
+            char escaped = escapedText.charAt(++i);
+            text.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return text.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CommandTraceEntry)) {
+            return false;
+        }
+
+        CommandTraceEntry otherEntry = (CommandTraceEntry) other;
+        return time.equals(otherEntry.time)
+                && modelVersion == otherEntry.modelVersion
+                && commandText.equals(otherEntry.commandText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, modelVersion, commandText);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("time", time)
+                .add("modelVersion", modelVersion)
+                .add("commandText", commandText)
+                .toString();
+    }
+}
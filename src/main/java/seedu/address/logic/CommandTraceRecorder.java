@@ -0,0 +1,91 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Appends every command entered into the app to a trace file, so that a session can be replayed later by
+ * {@code CommandTraceReplayer}. Each session starts with a comment line giving the time it started.
+ *
+ * Every entry is written to the file before the command is executed, so the trace is complete even if the app
+ * stops during a command. If the file cannot be written to, recording stops and the app carries on.
+ */
+public class CommandTraceRecorder {
+
+    /** Prefix of the lines in a trace file that are not entries. */
+    public static final String COMMENT_PREFIX = "#";
+    /** Start of the line written at the start of each session, after which model versions start again. */
+    public static final String SESSION_HEADER_PREFIX = COMMENT_PREFIX + " ClubConnect session started at ";
+    public static final String SESSION_HEADER = SESSION_HEADER_PREFIX + "%1$s (time, model version, command)";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandTraceRecorder.class);
+
+    private final Path filePath;
+    private BufferedWriter writer;
+
+    /**
+     * Creates a {@code CommandTraceRecorder} that appends to {@code filePath}, creating it if it does not exist.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public CommandTraceRecorder(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        FileUtil.createParentDirsOfFile(filePath);
+        writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        writer.write(String.format(SESSION_HEADER, Instant.now()));
+        writer.newLine();
+        writer.flush();
+        logger.info(() -> "Recording commands to " + filePath);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Appends {@code commandText}, entered now when the model is at {@code modelVersion}, to the trace.
+     */
+    public synchronized void record(long modelVersion, String commandText) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(new CommandTraceEntry(Instant.now(), modelVersion, commandText).toLine());
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            logger.warning("Failed to write to command trace " + filePath + ", no more commands will be recorded "
+                    + StringUtil.getDetails(e));
+            close();
+        }
+    }
+
+    /**
+     * Stops recording, and closes the trace file.
+     */
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close command trace " + filePath + " " + StringUtil.getDetails(e));
+        }
+        writer = null;
+    }
+}
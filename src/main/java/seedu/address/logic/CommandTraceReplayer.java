@@ -0,0 +1,220 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.SortedMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.LatencyHistogram;
+import seedu.address.commons.core.metrics.LatencyMetrics;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.AddressBookChecksum;
+
+/**
+ * Replays a trace written by {@code CommandTraceRecorder} through {@code Logic}, timing every command, either as
+ * fast as possible or paced like the recorded session.
+ *
+ * Commands are replayed whether or not they failed when recorded, and across the sessions in the trace, so the
+ * address book that {@code Logic} starts with should be the one the first session started with.
+ * A command that changed the model by a different number of versions than when it was recorded means that the
+ * replay has diverged from the recorded session.
+ */
+public class CommandTraceReplayer {
+
+    public static final String MESSAGE_REPORT = "Replayed %1$d commands (%2$d failed) in %3$.3f s, "
+            + "%4$.1f commands/s\nCommands that changed the model differently from the trace: %5$d";
+    public static final String MESSAGE_LATENCY_HEADER = "command count p50_ms p90_ms p99_ms max_ms";
+    public static final String MESSAGE_LATENCY = "%1$s %2$d %3$s %4$s %5$s %6$s";
+    public static final String MESSAGE_CHECKSUMS = "Persons: %1$d, checksum %2$s\nEvents: %3$d, checksum %4$s";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandTraceReplayer.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code CommandTraceReplayer} that executes commands with {@code logic}.
+     */
+    public CommandTraceReplayer(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Replays every entry in {@code trace}, and saves the address book once the trace ends.
+     * If {@code speed} is 0, the commands are executed one after another without waiting. Otherwise, the time
+     * between commands is that of the recorded session divided by {@code speed}, so 1 replays them in real time.
+     * The time between the sessions in the trace is not replayed.
+     *
+     * @return a report of the time taken by each command word, and of the resulting address book.
+     * @throws IOException if the trace cannot be read.
+     * @throws IllegalValueException if the trace has an invalid entry.
+     */
+    public Report replay(BufferedReader trace, double speed) throws IOException, IllegalValueException {
+        requireNonNull(trace);
+        checkArgument(speed >= 0, "Speed cannot be negative: " + speed);
+        logger.info("Replaying command trace" + (speed == 0 ? " as fast as possible" : " at speed " + speed));
+
+        LatencyMetrics metrics = new LatencyMetrics();
+        int commandCount = 0;
+        int failureCount = 0;
+        int divergenceCount = 0;
+        CommandTraceEntry firstEntry = null;
+        CommandTraceEntry previousEntry = null;
+        long previousVersion = 0;
+        long startTime = System.nanoTime();
+        long sessionStartTime = startTime;
+        String line;
+        while ((line = trace.readLine()) != null) {
+            if (line.startsWith(CommandTraceRecorder.SESSION_HEADER_PREFIX)) {
+                // Versions start again in each session, so they are only compared within a session. The time
+                // between sessions is not replayed, so each session is paced from when its first command is replayed.
+                previousEntry = null;
+                firstEntry = null;
+                continue;
+            }
+            if (line.isBlank() || line.startsWith(CommandTraceRecorder.COMMENT_PREFIX)) {
+                continue;
+            }
+            CommandTraceEntry entry = CommandTraceEntry.parse(line);
+            if (firstEntry == null) {
+                firstEntry = entry;
+                sessionStartTime = System.nanoTime();
+            }
+            if (speed > 0) {
+                Duration offset = Duration.between(firstEntry.getTime(), entry.getTime());
+                waitUntil(sessionStartTime + (long) (offset.toNanos() / speed));
+            }
+
+            long version = logic.getSnapshot().getVersion();
+            if (previousEntry != null
+                    && entry.getModelVersion() - previousEntry.getModelVersion() != version - previousVersion) {
+                divergenceCount++;
+                logger.fine("Replay diverged from the trace before " + entry);
+            }
+            previousEntry = entry;
+            previousVersion = version;
+
+            commandCount++;
+            long commandStartTime = System.nanoTime();
+            try {
+                logic.execute(entry.getCommandText());
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+            } finally {
+                metrics.record(getCommandWord(entry.getCommandText()), System.nanoTime() - commandStartTime);
+            }
+        }
+
+        try {
+            logic.saveAddressBook();
+        } catch (CommandException e) {
+            failureCount++;
+            logger.warning("Failed to save the replayed address book: " + e.getMessage());
+        }
+        return new Report(commandCount, failureCount, divergenceCount, System.nanoTime() - startTime,
+                metrics.getHistograms(), logic.getAddressBook());
+    }
+
+    private static void waitUntil(long nanoTime) {
+        long remainingNanos = nanoTime - System.nanoTime();
+        if (remainingNanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remainingNanos / 1_000_000, (int) (remainingNanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String getCommandWord(String commandText) {
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        return commandWord.isEmpty() ? "(blank)" : commandWord;
+    }
+
+    /**
+     * How many commands were replayed, how long they took by command word, and checksums of the resulting address
+     * book, which are the same for two replays of a trace that ended with the same data.
+     */
+    public static class Report {
+        private final int commandCount;
+        private final int failureCount;
+        private final int divergenceCount;
+        private final long elapsedNanos;
+        private final SortedMap<String, LatencyHistogram> latencies;
+        private final int personCount;
+        private final int eventCount;
+        private final String personChecksum;
+        private final String eventChecksum;
+
+        /**
+         * Creates a {@code Report} of {@code commandCount} commands that took {@code elapsedNanos} in total, and
+         * resulted in {@code addressBook}.
+         */
+        public Report(int commandCount, int failureCount, int divergenceCount, long elapsedNanos,
+                SortedMap<String, LatencyHistogram> latencies, ReadOnlyAddressBook addressBook) {
+            this.commandCount = commandCount;
+            this.failureCount = failureCount;
+            this.divergenceCount = divergenceCount;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+            personCount = addressBook.getPersonList().size();
+            eventCount = addressBook.getEventList().size();
+            personChecksum = AddressBookChecksum.ofPersons(addressBook);
+            eventChecksum = AddressBookChecksum.ofEvents(addressBook);
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Returns the number of commands that changed the model by a different number of versions than when they
+         * were recorded.
+         */
+        public int getDivergenceCount() {
+            return divergenceCount;
+        }
+
+        public SortedMap<String, LatencyHistogram> getLatencies() {
+            return latencies;
+        }
+
+        public String getPersonChecksum() {
+            return personChecksum;
+        }
+
+        public String getEventChecksum() {
+            return eventChecksum;
+        }
+
+        @Override
+        public String toString() {
+            double throughput = elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+            StringBuilder report = new StringBuilder(String.format(MESSAGE_REPORT, commandCount, failureCount,
+                    elapsedNanos / 1e9, throughput, divergenceCount));
+            report.append('\n').append(MESSAGE_LATENCY_HEADER);
+            latencies.forEach((commandWord, histogram) -> report.append('\n').append(String.format(MESSAGE_LATENCY,
+                    commandWord, histogram.getCount(),
+                    LatencyMetrics.formatMillis(histogram.getPercentileNanos(50)),
+                    LatencyMetrics.formatMillis(histogram.getPercentileNanos(90)),
+                    LatencyMetrics.formatMillis(histogram.getPercentileNanos(99)),
+                    LatencyMetrics.formatMillis(histogram.getMaxNanos()))));
+            report.append('\n').append(String.format(MESSAGE_CHECKSUMS, personCount, personChecksum, eventCount,
+                    eventChecksum));
+            return report.toString();
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
@@ -24,6 +27,36 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on its own, outside of any transaction or check-in session, and returns the result.
+     * Unlike {@link #execute(String)}, it cannot begin, commit or roll back a transaction or start a check-in
+     * session, and it is rejected while a transaction or check-in session started with {@link #execute(String)} is
+     * in progress, so that it never becomes part of one.
+     * @param commandText The command as sent by a client.
+     * @return the result of the command execution.
+     * @throws CommandException If the command is not allowed now, or an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult executeStandalone(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Saves the AddressBook to storage. Changes made in a transaction that has not been committed are not saved.
+     * @throws CommandException If an error occurs while saving.
+     */
+    void saveAddressBook() throws CommandException;
+
+    /**
+     * Sets how often the AddressBook is saved: after every {@code saveInterval} executed commands, or only when
+     * {@link #saveAddressBook()} is called if {@code saveInterval} is 0. It is saved after every command by default.
+     * @throws IllegalArgumentException If {@code saveInterval} is negative.
+     */
+    void setSaveInterval(int saveInterval);
+
+    /**
+     * Records every command entered from now on with {@code recorder}, or stops recording if it is null.
+     */
+    void setCommandTraceRecorder(CommandTraceRecorder recorder);
+
     /**
      * Returns the AddressBook.
      *
@@ -31,12 +64,29 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook as of the last executed command.
+     * Can be called from any thread.
+     *
+     * @see seedu.address.model.Model#getSnapshot()
+     */
+    AddressBookSnapshot getSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Sorts the filtered list of persons by {@code comparator}, which is the order index-based commands use.
+     * @see seedu.address.model.Model#updateSortedPersonList(Comparator)
+     */
+    void updateSortedPersonList(Comparator<Person> comparator);
+
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
 
+    /** Returns an unmodifiable view of the number of persons assigned to each event ID */
+    ObservableMap<Integer, Integer> getEventAttendanceCounts();
+
     /**
      * Returns the user prefs' address book file path.
      */
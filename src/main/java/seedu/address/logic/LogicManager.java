@@ -3,20 +3,34 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.CommandExecuteEvent;
+import seedu.address.commons.core.jfr.CommandParseEvent;
+import seedu.address.commons.core.metrics.LatencyMetrics;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BatchedAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,11 +42,49 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String COMMAND_SEPARATOR = ";";
+    public static final String BEGIN_COMMAND_WORD = "begin";
+    public static final String COMMIT_COMMAND_WORD = "commit";
+    public static final String ROLLBACK_COMMAND_WORD = "rollback";
+    /** Name under which the saves after a sequence of commands separated by {@value #COMMAND_SEPARATOR} are timed. */
+    public static final String SEQUENCE_NAME = "sequence";
+
+    public static final String MESSAGE_TRANSACTION_BEGUN = "Transaction started. Changes will only be saved once "
+            + "you enter '" + COMMIT_COMMAND_WORD + "', and can be discarded with '" + ROLLBACK_COMMAND_WORD + "'.";
+    public static final String MESSAGE_TRANSACTION_COMMITTED = "Transaction committed: %1$d commands saved";
+    public static final String MESSAGE_TRANSACTION_ROLLED_BACK = "Transaction rolled back: %1$d commands discarded";
+    public static final String MESSAGE_SEQUENCE_ROLLED_BACK = "No command in the sequence was applied.";
+    public static final String MESSAGE_TRANSACTION_IN_PROGRESS = "A transaction is already in progress";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction in progress";
+    public static final String MESSAGE_UNDO_IN_TRANSACTION =
+            "Undo and redo cannot be used in a transaction or a sequence of commands";
+    public static final String MESSAGE_CHECK_IN_IN_TRANSACTION = "Check-in cannot be started in a transaction";
+    public static final String MESSAGE_NOT_STANDALONE = "'%1$s' can only be entered in the app";
+    public static final String MESSAGE_SESSION_IN_PROGRESS =
+            "The command was not executed, as a transaction or check-in is in progress in the app";
+    public static final String MESSAGE_BACKGROUND_SAVE_FAILED = "Warning: check-ins could not be saved yet: %s";
+
+    /** Number of check-ins saved together, unless fewer arrive within {@link #CHECK_IN_SAVE_DELAY_MILLIS}. */
+    public static final int CHECK_IN_SAVE_BATCH_SIZE = 25;
+    public static final long CHECK_IN_SAVE_DELAY_MILLIS = 500;
+
+    /** Words of the commands that start or end a transaction or check-in session. */
+    private static final List<String> SESSION_COMMAND_WORDS = List.of(BEGIN_COMMAND_WORD, COMMIT_COMMAND_WORD,
+            ROLLBACK_COMMAND_WORD, CheckInSession.COMMAND_WORD);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+    private final LatencyMetrics metrics = LatencyMetrics.getInstance();
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private boolean isInTransaction;
+    private int transactionCommandCount;
+    private int saveInterval = 1;
+    private int unsavedCommandCount;
+    private CheckInSession checkInSession;
+    private BatchedAddressBookSaver checkInSaver;
+    private CommandTraceRecorder traceRecorder;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -43,23 +95,339 @@ public class LogicManager implements Logic {
         addressBookParser = new AddressBookParser();
     }
 
+    /**
+     * {@inheritDoc}
+     * Commands are executed one at a time, so that there is a single writer of the model even when commands come
+     * from more than one thread.
+     *
+     * {@code commandText} may contain several commands separated by {@value #COMMAND_SEPARATOR}, which are executed
+     * together: if any of them fails, the changes made by all of them are discarded, and they are saved once.
+     * A transaction, started by {@value #BEGIN_COMMAND_WORD} and ended by {@value #COMMIT_COMMAND_WORD} or
+     * {@value #ROLLBACK_COMMAND_WORD}, executes all commands entered in between together in the same way.
+     *
+     * A check-in session, started by {@code checkin EVENT}, treats everything entered until {@code done} as the ID or
+     * name of a person to check in. Check-ins are saved in batches in the background instead of after each entry.
+     *
+     * The time taken to parse, execute and save each command is recorded in {@link LatencyMetrics} by command word.
+     * If a {@code CommandTraceRecorder} is set, {@code commandText} is recorded with it before being executed.
+     */
+    @Override
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        if (traceRecorder != null) {
+            traceRecorder.record(model.getSnapshot().getVersion(), commandText);
+        }
+
+        // Entries of a check-in session are names or IDs, which must not be shown as command words
+        String commandWord = checkInSession != null ? CheckInSession.COMMAND_WORD : getCommandWord(commandText);
+        long startTime = System.nanoTime();
+        try {
+            return executeCommandText(commandText);
+        } finally {
+            metrics.recordLastCommand(commandWord, System.nanoTime() - startTime);
+        }
+    }
+
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+    public synchronized CommandResult executeStandalone(String commandText) throws CommandException, ParseException {
+        for (String text : splitCommandTexts(commandText)) {
+            String commandWord = getCommandWord(text);
+            if (SESSION_COMMAND_WORDS.contains(commandWord)) {
+                throw new CommandException(String.format(MESSAGE_NOT_STANDALONE, commandWord));
+            }
+        }
+        if (isInTransaction || checkInSession != null) {
+            throw new CommandException(MESSAGE_SESSION_IN_PROGRESS);
+        }
+        return execute(commandText);
+    }
+
+    private CommandResult executeCommandText(String commandText) throws CommandException, ParseException {
+        if (checkInSession != null) {
+            return checkIn(commandText);
+        }
+        String[] commandWordAndArguments = commandText.trim().split("\\s+", 2);
+        String commandWord = commandWordAndArguments[0];
+        if (commandWord.equals(CheckInSession.COMMAND_WORD)) {
+            return startCheckIn(commandWordAndArguments.length > 1 ? commandWordAndArguments[1] : "");
+        }
+
+        switch (commandText.trim()) {
+        case BEGIN_COMMAND_WORD:
+            return beginTransaction();
+        case COMMIT_COMMAND_WORD:
+            return commitTransaction();
+        case ROLLBACK_COMMAND_WORD:
+            return rollbackTransaction();
+        default:
+            break;
+        }
+
+        // All commands are parsed before any is executed, so a typo does not leave a sequence half done
+        List<Command> commands = parseCommands(commandText);
+        if (commands.size() == 1 && !isInTransaction) {
+            CommandResult commandResult = executeRecorded(commandWord, () -> {
+                try {
+                    return commands.get(0).execute(model);
+                } finally {
+                    // The changes made by each command are undone together
+                    model.commitAddressBook();
+                }
+            });
+            recordExecutedCommand(commandWord);
+            return commandResult;
+        }
+
+        List<String> commandWords = splitCommandTexts(commandText).stream().map(LogicManager::getCommandWord).toList();
+        CommandResult commandResult = executeTogether(commands, commandWords);
+        if (!isInTransaction) {
+            model.commitAddressBook();
+            recordExecutedCommand(SEQUENCE_NAME);
+        }
+        return commandResult;
+    }
+
+    private static List<String> splitCommandTexts(String commandText) {
+        return Arrays.stream(commandText.split(COMMAND_SEPARATOR))
+                .filter(text -> !text.isBlank())
+                .toList();
+    }
+
+    private List<Command> parseCommands(String commandText) throws ParseException {
+        List<String> commandTexts = splitCommandTexts(commandText);
+        if (commandTexts.size() <= 1) {
+            return List.of(parseCommand(commandTexts.isEmpty() ? commandText : commandTexts.get(0)));
+        }
+
+        List<Command> commands = new ArrayList<>();
+        for (String text : commandTexts) {
+            commands.add(parseCommand(text));
+        }
+        return commands;
+    }
+
+    /**
+     * Parses {@code commandText}, timing it by command word if it is a valid command.
+     */
+    private Command parseCommand(String commandText) throws ParseException {
+        CommandParseEvent event = new CommandParseEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        boolean isParsed = false;
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            isParsed = true;
+            metrics.record(LatencyMetrics.PARSE_PREFIX + getCommandWord(commandText), System.nanoTime() - startTime);
+            return command;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setResult(getCommandWord(commandText), isParsed);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Runs {@code action}, which executes the command with the word {@code commandWord}, recording how long it took
+     * and its result.
+     */
+    private CommandResult executeRecorded(String commandWord, CommandAction action) throws CommandException {
+        CommandExecuteEvent event = new CommandExecuteEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        CommandResult commandResult = null;
+        String errorMessage = null;
+        try {
+            commandResult = action.run();
+            return commandResult;
+        } catch (CommandException e) {
+            errorMessage = e.getMessage();
+            throw e;
+        } finally {
+            metrics.record(LatencyMetrics.EXECUTE_PREFIX + commandWord, System.nanoTime() - startTime);
+            if (event.shouldCommit()) {
+                event.setResult(commandWord, commandResult != null,
+                        commandResult != null ? commandResult.getFeedbackToUser() : errorMessage);
+                event.commit();
+            }
+        }
+    }
+
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
+    /**
+     * Executes {@code commands} in order without committing their changes. If any of them fails, discards all
+     * changes made since the last commit, including those made earlier in the transaction, and ends the transaction.
+     *
+     * @param commandWords the words of {@code commands}, by which their execution is timed.
+     * @return a result with the feedback of every command.
+     */
+    private CommandResult executeTogether(List<Command> commands, List<String> commandWords) throws CommandException {
+        if (commands.stream().anyMatch(command -> command instanceof UndoCommand || command instanceof RedoCommand)) {
+            throw new CommandException(MESSAGE_UNDO_IN_TRANSACTION);
+        }
+
+        List<CommandResult> commandResults = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            Command command = commands.get(i);
+            try {
+                commandResults.add(executeRecorded(commandWords.get(i), () -> command.execute(model)));
+            } catch (CommandException e) {
+                throw new CommandException(e.getMessage() + "\n" + discardChangesMadeTogether(), e);
+            } catch (RuntimeException e) {
+                discardChangesMadeTogether();
+                throw e;
+            }
+        }
+        transactionCommandCount += commands.size();
+
+        CommandResult lastResult = commandResults.get(commandResults.size() - 1);
+        return new CommandResult(
+                commandResults.stream().map(CommandResult::getFeedbackToUser).collect(Collectors.joining("\n")),
+                commandResults.stream().anyMatch(CommandResult::isShowHelp),
+                commandResults.stream().anyMatch(CommandResult::isExit),
+                lastResult.isShowPersonList(), lastResult.isShowEventList());
+    }
+
+    /**
+     * Discards all changes made since the last commit and ends the transaction, if any.
+     *
+     * @return a message describing what was discarded.
+     */
+    private String discardChangesMadeTogether() {
+        model.rollbackAddressBook();
+        String message = isInTransaction
+                ? String.format(MESSAGE_TRANSACTION_ROLLED_BACK, transactionCommandCount)
+                : MESSAGE_SEQUENCE_ROLLED_BACK;
+        isInTransaction = false;
+        return message;
+    }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    private CommandResult beginTransaction() throws CommandException {
+        if (isInTransaction) {
+            throw new CommandException(MESSAGE_TRANSACTION_IN_PROGRESS);
+        }
+        // Changes made before the transaction are not discarded if it is rolled back
+        model.commitAddressBook();
+        isInTransaction = true;
+        transactionCommandCount = 0;
+        return new CommandResult(MESSAGE_TRANSACTION_BEGUN);
+    }
 
+    private CommandResult commitTransaction() throws CommandException {
+        if (!isInTransaction) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+        isInTransaction = false;
+        model.commitAddressBook();
+        recordExecutedCommand(COMMIT_COMMAND_WORD);
+        return new CommandResult(String.format(MESSAGE_TRANSACTION_COMMITTED, transactionCommandCount));
+    }
+
+    private CommandResult rollbackTransaction() throws CommandException {
+        if (!isInTransaction) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+        isInTransaction = false;
+        model.rollbackAddressBook();
+        return new CommandResult(String.format(MESSAGE_TRANSACTION_ROLLED_BACK, transactionCommandCount));
+    }
+
+    private CommandResult startCheckIn(String eventText) throws CommandException, ParseException {
+        if (isInTransaction) {
+            throw new CommandException(MESSAGE_CHECK_IN_IN_TRANSACTION);
+        }
+        checkInSession = CheckInSession.start(model, eventText);
+        // Saving snapshots lets check-ins be written to disk while the next ones are recorded
+        checkInSaver = new BatchedAddressBookSaver(storage, model::getSnapshot, CHECK_IN_SAVE_BATCH_SIZE,
+                CHECK_IN_SAVE_DELAY_MILLIS);
+        return new CommandResult(String.format(CheckInSession.MESSAGE_STARTED,
+                checkInSession.getEvent().getEventName()));
+    }
+
+    private CommandResult checkIn(String entry) throws CommandException {
+        if (entry.trim().equals(CheckInSession.DONE_WORD)) {
+            return endCheckIn();
+        }
+
+        String feedback = executeRecorded(CheckInSession.COMMAND_WORD, () -> {
+            try {
+                return new CommandResult(checkInSession.checkIn(entry));
+            } finally {
+                // Each check-in can be undone on its own, like the assignment of an event
+                model.commitAddressBook();
+            }
+        }).getFeedbackToUser();
+        checkInSaver.recordChange();
+        Optional<IOException> failure = checkInSaver.takeFailure();
+        if (failure.isPresent()) {
+            feedback += "\n" + String.format(MESSAGE_BACKGROUND_SAVE_FAILED, failure.get().getMessage());
+        }
+        return new CommandResult(feedback);
+    }
+
+    private CommandResult endCheckIn() throws CommandException {
+        CheckInSession session = checkInSession;
+        BatchedAddressBookSaver saver = checkInSaver;
+        checkInSession = null;
+        checkInSaver = null;
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saver.close();
+        } catch (IOException e) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()) + "\n"
+                    + session.getSummary(), e);
+        }
+        // The snapshot saved last includes the commands executed before the session
+        unsavedCommandCount = 0;
+        return new CommandResult(session.getSummary());
+    }
+
+    /**
+     * Saves the address book if enough commands have been executed since it was last saved, timing the save under
+     * {@code commandWord}.
+     */
+    private void recordExecutedCommand(String commandWord) throws CommandException {
+        unsavedCommandCount++;
+        if (saveInterval > 0 && unsavedCommandCount >= saveInterval) {
+            long startTime = System.nanoTime();
+            try {
+                saveAddressBook();
+            } finally {
+                metrics.record(LatencyMetrics.SAVE_PREFIX + commandWord, System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void saveAddressBook() throws CommandException {
+        try {
+            if (checkInSaver != null) {
+                // An earlier snapshot must not be written after this save
+                checkInSaver.flush();
+            }
+            // The snapshot is only replaced on a commit, so it leaves out the changes of an open transaction
+            storage.saveAddressBook(isInTransaction ? model.getSnapshot() : model.getAddressBook());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        unsavedCommandCount = 0;
+    }
 
-        return commandResult;
+    @Override
+    public synchronized void setSaveInterval(int saveInterval) {
+        if (saveInterval < 0) {
+            throw new IllegalArgumentException("Save interval cannot be negative");
+        }
+        this.saveInterval = saveInterval;
+    }
+
+    @Override
+    public synchronized void setCommandTraceRecorder(CommandTraceRecorder recorder) {
+        traceRecorder = recorder;
     }
 
     @Override
@@ -67,16 +435,31 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        model.updateSortedPersonList(comparator);
+    }
+
     @Override
     public ObservableList<Event> getFilteredEventList() {
         return model.getFilteredEventList();
     }
 
+    @Override
+    public ObservableMap<Integer, Integer> getEventAttendanceCounts() {
+        return model.getEventAttendanceCounts();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -91,4 +474,12 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Executes a command.
+     */
+    @FunctionalInterface
+    private interface CommandAction {
+        CommandResult run() throws CommandException;
+    }
 }
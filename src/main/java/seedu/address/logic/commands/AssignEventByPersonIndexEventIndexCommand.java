@@ -53,9 +53,7 @@ public class AssignEventByPersonIndexEventIndexCommand extends AssignEventComman
                     personToAssign.getName(), eventToAssign.getEventName()));
         }
 
-        model.assignEventToPerson(personToAssign, eventToAssign);
-        return new CommandResult(
-                String.format(MESSAGE_SUCCESS, eventToAssign.getEventName(), personToAssign.getName()));
+        return new CommandResult(assignEvent(model, personToAssign, eventToAssign));
     }
 
     @Override
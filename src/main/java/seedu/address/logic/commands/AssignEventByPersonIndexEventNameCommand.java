@@ -56,9 +56,7 @@ public class AssignEventByPersonIndexEventNameCommand extends AssignEventCommand
                     personToAssign.getName(), eventToAssign.getEventName()));
         }
 
-        model.assignEventToPerson(personToAssign, eventToAssign);
-        return new CommandResult(
-                String.format(MESSAGE_SUCCESS, eventToAssign.getEventName(), personToAssign.getName()));
+        return new CommandResult(assignEvent(model, personToAssign, eventToAssign));
     }
 
     @Override
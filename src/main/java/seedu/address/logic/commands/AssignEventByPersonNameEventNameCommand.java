@@ -57,9 +57,7 @@ public class AssignEventByPersonNameEventNameCommand extends AssignEventCommand
                     personToAssign.getName(), eventToAssign.getEventName()));
         }
 
-        model.assignEventToPerson(personToAssign, eventToAssign);
-        return new CommandResult(
-                String.format(MESSAGE_SUCCESS, eventToAssign.getEventName(), personToAssign.getName()));
+        return new CommandResult(assignEvent(model, personToAssign, eventToAssign));
     }
 
     @Override
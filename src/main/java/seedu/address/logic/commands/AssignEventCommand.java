@@ -3,8 +3,13 @@ package seedu.address.logic.commands;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
 
 /**
  * Assigns an existing event to an existing person in the address book.
@@ -20,6 +25,25 @@ public abstract class AssignEventCommand extends Command {
             + "Example: " + COMMAND_WORD + " " + PREFIX_PERSON + "1 " + PREFIX_EVENT + "CS2103T Project Meeting";
 
     public static final String MESSAGE_SUCCESS = "Assigned Event '%1$s' to: %2$s";
+    public static final String MESSAGE_SCHEDULE_CLASH = "Warning: %1$s is also assigned to %2$s on the same days";
+
+    /**
+     * Assigns {@code event} to {@code person} and returns the success message, with a warning if {@code person} is
+     * already assigned to other events that take place on any of the same days.
+     */
+    protected static String assignEvent(Model model, Person person, Event event) {
+        List<Event> clashingEvents = model.findClashingEvents(person, event);
+        model.assignEventToPerson(person, event);
+
+        String message = String.format(MESSAGE_SUCCESS, event.getEventName(), person.getName());
+        if (clashingEvents.isEmpty()) {
+            return message;
+        }
+        String clashingEventNames = clashingEvents.stream()
+                .map(clashingEvent -> "'" + clashingEvent.getEventName() + "'")
+                .collect(Collectors.joining(", "));
+        return message + "\n" + String.format(MESSAGE_SCHEDULE_CLASH, person.getName(), clashingEventNames);
+    }
 
     @Override
     public abstract CommandResult execute(Model model) throws CommandException;
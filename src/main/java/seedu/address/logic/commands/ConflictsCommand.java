@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.event.ScheduleConflict;
+
+/**
+ * Lists every pair of overlapping events assigned to the same person in the address book.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_NO_CONFLICTS = "No schedule conflicts found.";
+    public static final String MESSAGE_CONFLICTS_FOUND = "%1$d schedule conflicts found:";
+    public static final String MESSAGE_CONFLICT = "%1$s: '%2$s' and '%3$s'";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScheduleConflict> conflicts = model.findScheduleConflicts();
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_CONFLICTS_FOUND, conflicts.size()));
+        for (ScheduleConflict conflict : conflicts) {
+            message.append('\n').append(String.format(MESSAGE_CONFLICT, conflict.getPerson().getName(),
+                    conflict.getEarlierEvent().getEventName(), conflict.getLaterEvent().getEventName()));
+        }
+        return new CommandResult(message.toString());
+    }
+}
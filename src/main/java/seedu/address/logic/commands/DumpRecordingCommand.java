@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.core.jfr.FlightRecording;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Writes the flight recording of the app made so far to its file, without stopping it.
+ */
+public class DumpRecordingCommand extends Command {
+
+    public static final String COMMAND_WORD = "dump_recording";
+
+    public static final String MESSAGE_SUCCESS = "Flight recording saved to %1$s";
+    public static final String MESSAGE_NO_RECORDING = "No flight recording is running. "
+            + "Start ClubConnect with --flight-recording=FILE to record one.";
+    public static final String MESSAGE_DUMP_FAILED = "Could not save the flight recording: %1$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<FlightRecording> recording = FlightRecording.getCurrent();
+        if (recording.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_RECORDING);
+        }
+
+        try {
+            recording.get().dump();
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_DUMP_FAILED, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, recording.get().getDumpPath()));
+    }
+}
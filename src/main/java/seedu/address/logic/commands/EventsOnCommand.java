@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventOverlapsDurationPredicate;
+
+/**
+ * Lists all events taking place on a given date.
+ */
+public class EventsOnCommand extends Command {
+
+    public static final String COMMAND_WORD = "events_on";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all events taking place on the given date.\n"
+            + "Parameters: DATE (in YYYY-MM-DD format)\n"
+            + "Example: " + COMMAND_WORD + " 2024-10-02";
+
+    private final LocalDate date;
+
+    public EventsOnCommand(LocalDate date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredEventList(new EventOverlapsDurationPredicate(new EventDuration(date, date)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()), true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventsOnCommand)) {
+            return false;
+        }
+
+        EventsOnCommand otherEventsOnCommand = (EventsOnCommand) other;
+        return date.equals(otherEventsOnCommand.date);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("date", date)
+                .toString();
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -73,13 +74,16 @@ public class ImportCommand extends Command {
 
         // Parse and import the list of persons from the file
         List<Person> personList = getPersonList(filePath);
+        List<Person> personsToAdd = new ArrayList<>();
+        Set<String> namesToAdd = new HashSet<>();
         for (Person person : personList) {
-            if (!model.hasPerson(person)) {
+            // Only the first of the persons in the file with the same name is added
+            if (!model.hasPerson(person) && namesToAdd.add(person.getName().getLowerCaseFullName())) {
                 int updatedPersonId = model.generateNewPersonId();
-                Person updatedIdPerson = person.changeId(updatedPersonId);
-                model.addPerson(updatedIdPerson);
+                personsToAdd.add(person.changeId(updatedPersonId));
             }
         }
+        model.addPersons(personsToAdd);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, fileName));
     }
@@ -3,22 +3,75 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
 
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventOverlapsDurationPredicate;
 
 /**
- * Lists all events in the address book to the user.
+ * Lists all events in the address book to the user, or only the events taking place within a range of dates.
  */
 public class ListEventsCommand extends Command {
 
     public static final String COMMAND_WORD = "list_events";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all events, or only the events taking place "
+            + "on at least one day from START_DATE to END_DATE (inclusive).\n"
+            + "Parameters: [from/START_DATE to/END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " from/2024-10-02 to/2024-10-11";
+
     public static final String MESSAGE_SUCCESS = "Listed all events";
 
+    private final Predicate<Event> predicate;
+
+    /**
+     * Creates a ListEventsCommand to list all events.
+     */
+    public ListEventsCommand() {
+        this.predicate = PREDICATE_SHOW_ALL_EVENTS;
+    }
+
+    /**
+     * Creates a ListEventsCommand to list the events matching {@code predicate}.
+     */
+    public ListEventsCommand(EventOverlapsDurationPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
-        return new CommandResult(MESSAGE_SUCCESS, true);
+        model.updateFilteredEventList(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_EVENTS) {
+            return new CommandResult(MESSAGE_SUCCESS, true);
+        }
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()), true);
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListEventsCommand)) {
+            return false;
+        }
+
+        ListEventsCommand otherListEventsCommand = (ListEventsCommand) other;
+        return predicate.equals(otherListEventsCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
 }
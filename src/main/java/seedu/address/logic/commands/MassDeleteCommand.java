@@ -68,9 +68,7 @@ public class MassDeleteCommand extends Command {
             throw new CommandException(MESSAGE_NO_VALID_IDS);
         }
 
-        for (Person person : personsToDelete) {
-            model.deletePerson(person);
-        }
+        model.deletePersons(personsToDelete);
 
         StringBuilder resultMessage = new StringBuilder();
         resultMessage.append(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, validDeletedIndices));
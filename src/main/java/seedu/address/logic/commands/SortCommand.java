@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonSortOrder;
+
+/**
+ * Sorts the displayed person list in the given order.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed person list by the given field. "
+            + "Index numbers of later commands refer to the sorted list.\n"
+            + "Parameters: by/FIELD (name, id or tags)\n"
+            + "Example: " + COMMAND_WORD + " by/name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+
+    private final PersonSortOrder sortOrder;
+
+    public SortCommand(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedPersonList(sortOrder.getComparator());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder.equals(otherSortCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.event.EventSortOrder;
+
+/**
+ * Sorts the displayed event list in the given order.
+ */
+public class SortEventsCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort_events";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed event list by the given field. "
+            + "Index numbers of later commands refer to the sorted list.\n"
+            + "Parameters: by/FIELD (start, name or attendance)\n"
+            + "Example: " + COMMAND_WORD + " by/start";
+
+    public static final String MESSAGE_SUCCESS = "Sorted events by %1$s";
+
+    private final EventSortOrder sortOrder;
+
+    public SortEventsCommand(EventSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedEventList(sortOrder);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder), true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortEventsCommand)) {
+            return false;
+        }
+
+        SortEventsCommand otherSortEventsCommand = (SortEventsCommand) other;
+        return sortOrder.equals(otherSortEventsCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
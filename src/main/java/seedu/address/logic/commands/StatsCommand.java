@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.SortedMap;
+
+import seedu.address.commons.core.metrics.LatencyHistogram;
+import seedu.address.commons.core.metrics.LatencyMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each kind of command has taken to parse, execute and save, and how much memory the app uses.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_NO_LATENCIES = "No commands have been timed yet.";
+    public static final String MESSAGE_LATENCIES_HEADER = "Latencies in ms (count, mean, p50, p90, p99, max):";
+    public static final String MESSAGE_LATENCY = "%1$s: %2$d, %3$s, %4$s, %5$s, %6$s, %7$s";
+
+    private final LatencyMetrics metrics;
+
+    /**
+     * Creates a {@code StatsCommand} showing the latencies recorded by the app.
+     */
+    public StatsCommand() {
+        this(LatencyMetrics.getInstance());
+    }
+
+    /**
+     * Creates a {@code StatsCommand} showing the latencies recorded in {@code metrics}.
+     */
+    public StatsCommand(LatencyMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SortedMap<String, LatencyHistogram> histograms = metrics.getHistograms();
+        StringBuilder message = new StringBuilder(
+                histograms.isEmpty() ? MESSAGE_NO_LATENCIES : MESSAGE_LATENCIES_HEADER);
+        histograms.forEach((name, histogram) -> message.append('\n').append(String.format(MESSAGE_LATENCY, name,
+                histogram.getCount(),
+                LatencyMetrics.formatMillis(histogram.getMeanNanos()),
+                LatencyMetrics.formatMillis(histogram.getPercentileNanos(50)),
+                LatencyMetrics.formatMillis(histogram.getPercentileNanos(90)),
+                LatencyMetrics.formatMillis(histogram.getPercentileNanos(99)),
+                LatencyMetrics.formatMillis(histogram.getMaxNanos()))));
+        message.append('\n').append(LatencyMetrics.describeHeapUsage());
+        return new CommandResult(message.toString());
+    }
+
+}
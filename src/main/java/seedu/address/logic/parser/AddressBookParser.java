@@ -13,10 +13,13 @@ import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AssignEventCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
+import seedu.address.logic.commands.DumpRecordingCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditEventCommand;
+import seedu.address.logic.commands.EventsOnCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
@@ -25,8 +28,13 @@ import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListEventsCommand;
 import seedu.address.logic.commands.MassDeleteCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.SortEventsCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnassignEventCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -59,7 +67,7 @@ public class AddressBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         switch (commandWord) {
 
@@ -103,7 +111,10 @@ public class AddressBookParser {
             return new AddEventCommandParser().parse(arguments);
 
         case ListEventsCommand.COMMAND_WORD:
-            return new ListEventsCommand();
+            return new ListEventsCommandParser().parse(arguments);
+
+        case EventsOnCommand.COMMAND_WORD:
+            return new EventsOnCommandParser().parse(arguments);
 
         case EditEventCommand.COMMAND_WORD:
             return new EditEventCommandParser().parse(arguments);
@@ -117,8 +128,29 @@ public class AddressBookParser {
         case AssignEventCommand.COMMAND_WORD:
             return new AssignEventCommandParser().parse(arguments);
 
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
+        case SortEventsCommand.COMMAND_WORD:
+            return new SortEventsCommandParser().parse(arguments);
+
+        case ConflictsCommand.COMMAND_WORD:
+            return new ConflictsCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case DumpRecordingCommand.COMMAND_WORD:
+            return new DumpRecordingCommand();
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
@@ -16,6 +16,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_EVENT_START_DATE = new Prefix("f/");
     public static final Prefix PREFIX_EVENT_END_DATE = new Prefix("t/");
     public static final Prefix PREFIX_FIELD = new Prefix("by/");
+    /* Used in date range queries on events */
+    public static final Prefix PREFIX_DATE_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_DATE_TO = new Prefix("to/");
     /* Used in Assign / Unassign Events */
     public static final Prefix PREFIX_PERSON = new Prefix("p/");
     public static final Prefix PREFIX_EVENT = new Prefix("ev/");
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.EventsOnCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new EventsOnCommand object
+ */
+public class EventsOnCommandParser implements Parser<EventsOnCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EventsOnCommand
+     * and returns an EventsOnCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EventsOnCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EventsOnCommand.MESSAGE_USAGE));
+        }
+        LocalDate date = ParserUtil.parseDate(args);
+        return new EventsOnCommand(date);
+    }
+}
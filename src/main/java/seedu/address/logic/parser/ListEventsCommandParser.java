@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_TO;
+
+import seedu.address.logic.commands.ListEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventOverlapsDurationPredicate;
+
+/**
+ * Parses input arguments and creates a new ListEventsCommand object
+ */
+public class ListEventsCommandParser implements Parser<ListEventsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListEventsCommand
+     * and returns a ListEventsCommand object for execution.
+     * Arguments without a date range are ignored, and all events are listed.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListEventsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE_FROM, PREFIX_DATE_TO);
+
+        if (argMultimap.getValue(PREFIX_DATE_FROM).isEmpty() && argMultimap.getValue(PREFIX_DATE_TO).isEmpty()) {
+            return new ListEventsCommand();
+        }
+
+        if (!AddEventCommandParser.arePrefixesPresent(argMultimap, PREFIX_DATE_FROM, PREFIX_DATE_TO)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE_FROM, PREFIX_DATE_TO);
+        EventDuration range = ParserUtil.parseEventDuration(argMultimap.getValue(PREFIX_DATE_FROM).get(),
+                argMultimap.getValue(PREFIX_DATE_TO).get());
+        return new ListEventsCommand(new EventOverlapsDurationPredicate(range));
+    }
+}
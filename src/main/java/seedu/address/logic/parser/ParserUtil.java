@@ -17,9 +17,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.EventDescription;
 import seedu.address.model.event.EventDuration;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventSortOrder;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonSortOrder;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -160,6 +162,21 @@ public class ParserUtil {
         return new EventDescription(trimmedEventDescription);
     }
 
+    /**
+     * Parses a {@code String date} in YYYY-MM-DD format into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException exception) {
+            throw new ParseException(EventDuration.MESSAGE_CONSTRAINTS_DATE_STRING);
+        }
+    }
+
     /**
      * Parses a {@code String eventStartDate and String eventEndDate} into an {@code EventDuration}.
      *
@@ -212,4 +229,28 @@ public class ParserUtil {
         List<String> keywords = Arrays.asList(keywordArgument.get(0).split("\\s+"));
         return keywords;
     }
+
+    /**
+     * Parses a {@code String sortOrder} into a {@code PersonSortOrder}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code sortOrder} is invalid.
+     */
+    public static PersonSortOrder parsePersonSortOrder(String sortOrder) throws ParseException {
+        requireNonNull(sortOrder);
+        return PersonSortOrder.fromKeyword(sortOrder.trim())
+                .orElseThrow(() -> new ParseException(PersonSortOrder.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Parses a {@code String sortOrder} into an {@code EventSortOrder}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code sortOrder} is invalid.
+     */
+    public static EventSortOrder parseEventSortOrder(String sortOrder) throws ParseException {
+        requireNonNull(sortOrder);
+        return EventSortOrder.fromKeyword(sortOrder.trim())
+                .orElseThrow(() -> new ParseException(EventSortOrder.MESSAGE_CONSTRAINTS));
+    }
 }
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIELD;
+
+import seedu.address.logic.commands.SortEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.EventSortOrder;
+
+/**
+ * Parses input arguments and creates a new SortEventsCommand object
+ */
+public class SortEventsCommandParser implements Parser<SortEventsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortEventsCommand
+     * and returns a SortEventsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortEventsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FIELD);
+
+        if (argMultimap.getValue(PREFIX_FIELD).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortEventsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FIELD);
+        EventSortOrder sortOrder = ParserUtil.parseEventSortOrder(argMultimap.getValue(PREFIX_FIELD).get());
+        return new SortEventsCommand(sortOrder);
+    }
+}
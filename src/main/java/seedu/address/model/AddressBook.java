@@ -2,12 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDuration;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.ScheduleConflict;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.id.counter.list.IdCounterList;
 import seedu.address.model.person.Name;
@@ -23,6 +31,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueEventList events;
     private final IdCounterList idCounterList;
+    private final PersonSchedules schedules;
+
+    /** Number of persons assigned to each event ID, without entries for event IDs that no one is assigned to. */
+    private final ObservableMap<Integer, Integer> attendanceCounts;
+    private final ObservableMap<Integer, Integer> unmodifiableAttendanceCounts;
+
+    /** The persons and events, kept up to date with every change so that snapshots can share them without copying. */
+    private PersistentList<Person> sharedPersons = PersistentList.empty();
+    private PersistentList<Event> sharedEvents = PersistentList.empty();
+    private PersistentIdMap<Person> sharedPersonsById = PersistentIdMap.empty(Person::getId);
+    private PersistentIdMap<Event> sharedEventsById = PersistentIdMap.empty(Event::getEventId);
+
+    /**
+     * Incremented on every modification of the persons, events or ID counters.
+     * It is incremented before the modification, so list listeners already observe the new version.
+     */
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -35,6 +60,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         events = new UniqueEventList();
         idCounterList = new IdCounterList();
+        schedules = new PersonSchedules(this::findEventById);
+        attendanceCounts = FXCollections.observableHashMap();
+        unmodifiableAttendanceCounts = FXCollections.unmodifiableObservableMap(attendanceCounts);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            sharedPersons = sharedPersons.withChange(change);
+            sharedPersonsById = sharedPersonsById.withChange(change);
+        });
+        events.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) change -> {
+            sharedEvents = sharedEvents.withChange(change);
+            sharedEventsById = sharedEventsById.withChange(change);
+        });
     }
 
     public AddressBook() {}
@@ -54,7 +90,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = List.copyOf(this.persons.asUnmodifiableObservableList());
+        incrementVersion();
         this.persons.setPersons(persons);
+        schedules.clear();
+        setAttendanceCounts(this.persons);
+
+        List<Person> newPersons = List.copyOf(persons);
+        recordChange(() -> setPersons(oldPersons), () -> setPersons(newPersons),
+                oldPersons.size() + newPersons.size());
     }
 
     /**
@@ -62,7 +106,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code events} must not contain duplicate events.
      */
     public void setEvents(List<Event> events) {
+        List<Event> oldEvents = List.copyOf(this.events.asUnmodifiableObservableList());
+        incrementVersion();
         this.events.setEvents(events);
+        schedules.clear();
+
+        List<Event> newEvents = List.copyOf(events);
+        recordChange(() -> setEvents(oldEvents), () -> setEvents(newEvents), oldEvents.size() + newEvents.size());
     }
 
     /**
@@ -70,8 +120,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code idCounterList} should contain the largest unique person/event ID that currently exists.
      */
     public void setIdCounterList(IdCounterList idCounterList) {
+        IdCounterList oldIdCounterList = getIdCounterList();
+        incrementVersion();
         this.idCounterList.setPersonIdCounter(idCounterList.getPersonIdCounter());
         this.idCounterList.setEventIdCounter(idCounterList.getEventIdCounter());
+
+        IdCounterList newIdCounterList = getIdCounterList();
+        recordChange(() -> setIdCounterList(oldIdCounterList), () -> setIdCounterList(newIdCounterList), 0);
     }
 
     /**
@@ -89,13 +144,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.getById(eventId);
     }
 
+    private Event findEventById(int eventId) {
+        return events.containsId(eventId) ? events.getById(eventId) : null;
+    }
+
     /**
      * Replaces the given event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the address book.
      */
     public void setEvent(Event target, Event editedEvent) {
         requireNonNull(editedEvent);
-        events.setEvent(target, editedEvent);
+        incrementVersion();
+        Event replacedEvent = events.setEvent(target, editedEvent);
+        schedules.clear();
+
+        recordChange(() -> setEvent(editedEvent, replacedEvent), () -> setEvent(replacedEvent, editedEvent), 2);
     }
 
     /**
@@ -127,13 +190,36 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.getPersonsWithName(name);
     }
 
+    /**
+     * Returns the person with the given ID, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Person> findPersonById(int personId) {
+        return persons.getById(personId);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book and must have a unique ID.
      */
     public void addPerson(Person p) {
         assert p.getId() != -1 : "Person added should not have an ID of -1";
+        incrementVersion();
         persons.add(p);
+        updateAttendance(p, 1);
+
+        recordChange(() -> removePerson(p), () -> addPerson(p), 1);
+    }
+
+    /**
+     * Adds a person to the address book at {@code index}, when undoing the removal of the person.
+     */
+    private void addPerson(int index, Person p) {
+        incrementVersion();
+        persons.add(index, p);
+        schedules.invalidate(p);
+        updateAttendance(p, 1);
+
+        recordChange(() -> removePerson(p), () -> addPerson(index, p), 1);
     }
 
     /**
@@ -145,7 +231,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
         assert editedPerson.getId() != -1 : "Edited person should not have an ID of -1.";
 
-        persons.setPerson(target, editedPerson);
+        incrementVersion();
+        Person replacedPerson = persons.setPerson(target, editedPerson);
+        schedules.invalidate(replacedPerson);
+        schedules.invalidate(editedPerson);
+        updateAttendance(replacedPerson, -1);
+        updateAttendance(editedPerson, 1);
+
+        recordChange(() -> setPerson(editedPerson, replacedPerson), () -> setPerson(replacedPerson, editedPerson), 2);
     }
 
     /**
@@ -153,7 +246,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        incrementVersion();
+        int index = persons.asUnmodifiableObservableList().indexOf(key);
+        Person removedPerson = persons.remove(key);
+        schedules.invalidate(removedPerson);
+        updateAttendance(removedPerson, -1);
+
+        recordChange(() -> addPerson(index, removedPerson), () -> removePerson(removedPerson), 1);
     }
 
     //// event-level operations
@@ -172,7 +271,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEvent(Event event) {
         assert event.getEventId() != -1 : "Event added should not have an ID of -1.";
-        events.add(event);
+        addEvent(events.asUnmodifiableObservableList().size(), event);
+    }
+
+    private void addEvent(int index, Event event) {
+        incrementVersion();
+        events.add(index, event);
+        // A person may still hold the ID of a deleted event that is now reused
+        schedules.clear();
+
+        recordChange(() -> removeEventOnly(event), () -> addEvent(index, event), 1);
     }
 
     /**
@@ -180,8 +288,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeEvent(Event key) {
-        events.remove(key);
-        persons.unassignEventFromAllPersons(key);
+        removeEventOnly(key);
+        for (Person person : List.copyOf(persons.asUnmodifiableObservableList())) {
+            if (person.checkAssignedToEvent(key)) {
+                unassignEventFromPerson(person, key);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code key} from the event list, leaving the persons assigned to it unchanged.
+     */
+    private void removeEventOnly(Event key) {
+        incrementVersion();
+        int index = events.indexOf(key);
+        Event removedEvent = events.remove(key);
+        schedules.clear();
+
+        recordChange(() -> addEvent(index, removedEvent), () -> removeEventOnly(removedEvent), 1);
     }
 
     /**
@@ -192,13 +316,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.getEventsWithName(eventName);
     }
 
+    /**
+     * Returns the events that take place on at least one day of {@code duration}, ordered by start date.
+     */
+    public List<Event> findEventsOverlapping(EventDuration duration) {
+        requireNonNull(duration);
+        return events.getEventsOverlapping(duration);
+    }
+
     /**
      * Assigns an event to a person.
      */
     public void assignEventToPerson(Person person, Event event) {
         requireNonNull(person);
         requireNonNull(event);
-        persons.assignEventToPerson(person, event);
+        incrementVersion();
+        persons.assignEventToPerson(person, event).ifPresent(editedPerson -> {
+            schedules.assign(person, event);
+            updateAttendance(event.getEventId(), 1);
+            recordChange(() -> setPerson(editedPerson, person), () -> setPerson(person, editedPerson), 2);
+        });
     }
 
     /**
@@ -207,7 +344,80 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void unassignEventFromPerson(Person person, Event event) {
         requireNonNull(person);
         requireNonNull(event);
-        persons.unassignEventFromPerson(person, event);
+        incrementVersion();
+        persons.unassignEventFromPerson(person, event).ifPresent(editedPerson -> {
+            schedules.invalidate(person);
+            updateAttendance(event.getEventId(), -1);
+            recordChange(() -> setPerson(editedPerson, person), () -> setPerson(person, editedPerson), 2);
+        });
+    }
+
+    /**
+     * Returns the events assigned to {@code person}, other than {@code event} itself, that take place on at least
+     * one day of {@code event}, ordered by start date.
+     */
+    public List<Event> findEventsClashingWith(Person person, Event event) {
+        requireNonNull(person);
+        requireNonNull(event);
+        return schedules.getEventsOverlapping(person, event.getEventDuration()).stream()
+                .filter(assignedEvent -> assignedEvent.getEventId() != event.getEventId())
+                .toList();
+    }
+
+    /**
+     * Returns every pair of overlapping events assigned to the same person, grouped by person in list order.
+     */
+    public List<ScheduleConflict> findScheduleConflicts() {
+        return PersonSchedules.findConflicts(persons, this::findEventById);
+    }
+
+    //// attendance-level operations
+
+    /**
+     * Returns the number of persons assigned to {@code event}.
+     */
+    public int getAttendance(Event event) {
+        requireNonNull(event);
+        return attendanceCounts.getOrDefault(event.getEventId(), 0);
+    }
+
+    /**
+     * Returns the number of persons assigned to each event ID as an unmodifiable {@code ObservableMap}.
+     * Event IDs that no one is assigned to have no entry.
+     */
+    public ObservableMap<Integer, Integer> getAttendanceCounts() {
+        return unmodifiableAttendanceCounts;
+    }
+
+    /**
+     * Replaces the attendance counts with those of {@code persons}.
+     * Only the counts that differ are written, so each event whose count changes is reported to listeners once.
+     */
+    private void setAttendanceCounts(Iterable<Person> persons) {
+        Map<Integer, Integer> newCounts = new HashMap<>();
+        persons.forEach(person -> person.getEventIds().forEach(eventId -> newCounts.merge(eventId, 1, Integer::sum)));
+        List<Integer> unattendedEventIds = attendanceCounts.keySet().stream()
+                .filter(eventId -> !newCounts.containsKey(eventId))
+                .toList();
+        unattendedEventIds.forEach(attendanceCounts::remove);
+        newCounts.forEach((eventId, count) -> {
+            if (!count.equals(attendanceCounts.get(eventId))) {
+                attendanceCounts.put(eventId, count);
+            }
+        });
+    }
+
+    private void updateAttendance(Person person, int change) {
+        person.getEventIds().forEach(eventId -> updateAttendance(eventId, change));
+    }
+
+    private void updateAttendance(int eventId, int change) {
+        int count = attendanceCounts.getOrDefault(eventId, 0) + change;
+        if (count > 0) {
+            attendanceCounts.put(eventId, count);
+        } else {
+            attendanceCounts.remove(eventId);
+        }
     }
 
     //// ID counter-level operations
@@ -234,6 +444,56 @@ public class AddressBook implements ReadOnlyAddressBook {
         return newEventId;
     }
 
+    //// version-level operations
+
+    /**
+     * Returns the current persons as a {@code PersistentList}, which can be kept without copying it.
+     */
+    PersistentList<Person> getSharedPersonList() {
+        return sharedPersons;
+    }
+
+    /**
+     * Returns the current events as a {@code PersistentList}, which can be kept without copying it.
+     */
+    PersistentList<Event> getSharedEventList() {
+        return sharedEvents;
+    }
+
+    /**
+     * Returns the current persons by ID as a {@code PersistentIdMap}, which can be kept without copying it.
+     */
+    PersistentIdMap<Person> getSharedPersonsById() {
+        return sharedPersonsById;
+    }
+
+    /**
+     * Returns the current events by ID as a {@code PersistentIdMap}, which can be kept without copying it.
+     */
+    PersistentIdMap<Event> getSharedEventsById() {
+        return sharedEventsById;
+    }
+
+    /**
+     * Returns the modification counter of this address book.
+     * The counter increases monotonically with every change to the persons, events or ID counters, so two reads
+     * returning the same version are guaranteed to have seen the same data.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private void incrementVersion() {
+        version++;
+    }
+
+    /**
+     * Called after every change to the persons, events or ID counters, with actions that undo and redo the change.
+     * {@code size} is the number of persons and events the actions refer to.
+     * Does nothing by default; overridden to keep a history of changes.
+     */
+    protected void recordChange(Runnable undo, Runnable redo, int size) {}
+
     //// util methods
 
     @Override
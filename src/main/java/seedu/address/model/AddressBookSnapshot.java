@@ -0,0 +1,129 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.id.counter.list.IdCounterList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons, events and ID counters of an address book at one version.
+ *
+ * Snapshots can be read from any thread without locking, as they never change after they are created. Persons and
+ * events are immutable themselves, and the lists of them are {@link PersistentList}s shared with the address book,
+ * so creating a snapshot copies nothing. The same goes for the maps used to find persons and events by ID.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Event> events;
+    private final PersistentIdMap<Person> personsById;
+    private final PersistentIdMap<Event> eventsById;
+    private final int personIdCounter;
+    private final int eventIdCounter;
+
+    /**
+     * Creates a snapshot of the current data in {@code addressBook}.
+     */
+    public AddressBookSnapshot(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        version = addressBook.getVersion();
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(addressBook.getSharedPersonList()));
+        events = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(addressBook.getSharedEventList()));
+        personsById = addressBook.getSharedPersonsById();
+        eventsById = addressBook.getSharedEventsById();
+        IdCounterList idCounterList = addressBook.getIdCounterList();
+        personIdCounter = idCounterList.getPersonIdCounter();
+        eventIdCounter = idCounterList.getEventIdCounter();
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was created from.
+     *
+     * @see AddressBook#getVersion()
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this snapshot has the same data as the current data in {@code addressBook}.
+     */
+    public boolean isCurrent(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        IdCounterList idCounterList = addressBook.getIdCounterList();
+        // Generating an ID advances the ID counters without changing the version
+        return version == addressBook.getVersion()
+                && personIdCounter == idCounterList.getPersonIdCounter()
+                && eventIdCounter == idCounterList.getEventIdCounter();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    /**
+     * Returns the person with ID {@code personId}, in {@code O(log n)} time.
+     */
+    public Optional<Person> findPersonById(int personId) {
+        return personsById.get(personId);
+    }
+
+    /**
+     * Returns the event with ID {@code eventId}, in {@code O(log n)} time.
+     */
+    public Optional<Event> findEventById(int eventId) {
+        return eventsById.get(eventId);
+    }
+
+    @Override
+    public IdCounterList getIdCounterList() {
+        return new IdCounterList(personIdCounter, eventIdCounter);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons)
+                && events.equals(otherSnapshot.events)
+                && personIdCounter == otherSnapshot.personIdCounter
+                && eventIdCounter == otherSnapshot.eventIdCounter;
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .add("events", events)
+                .toString();
+    }
+}
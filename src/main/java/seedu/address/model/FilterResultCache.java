@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A bounded, least-recently-used cache of filter results.
+ * Each entry maps a filter {@code Predicate} to the elements it matched, stamped with the address book version at the
+ * time the result was computed. An entry is only returned while the address book is still at that version, so any
+ * mutation of the address book invalidates all cached results automatically.
+ *
+ * Predicates are used as map keys, so they must implement {@code equals} and {@code hashCode} by value for repeated
+ * searches to hit the cache.
+ */
+public class FilterResultCache<T> {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<Predicate<? super T>, CachedResult<T>> results;
+
+    /**
+     * Constructs a {@code FilterResultCache} holding at most {@code capacity} results.
+     */
+    public FilterResultCache(int capacity) {
+        assert capacity > 0 : "Cache capacity should be positive";
+        results = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<? super T>, CachedResult<T>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Constructs a {@code FilterResultCache} with the {@link #DEFAULT_CAPACITY}.
+     */
+    public FilterResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a membership test for the elements that {@code predicate} matched at {@code version}, if cached.
+     * Stale entries from an older version are evicted.
+     */
+    public Optional<Predicate<T>> get(Predicate<? super T> predicate, long version) {
+        requireNonNull(predicate);
+        CachedResult<T> result = results.get(predicate);
+        if (result == null) {
+            return Optional.empty();
+        }
+        if (result.version != version) {
+            results.remove(predicate);
+            return Optional.empty();
+        }
+        return Optional.of(result.matches::contains);
+    }
+
+    /**
+     * Caches {@code matches} as the result of filtering with {@code predicate} at {@code version}.
+     * Elements are compared by identity, as the address book replaces rather than mutates its elements.
+     */
+    public void put(Predicate<? super T> predicate, long version, Collection<? extends T> matches) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        Set<T> matchSet = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        matchSet.addAll(matches);
+        results.put(predicate, new CachedResult<>(version, matchSet));
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    /**
+     * Returns the number of results currently cached.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * The elements matched by a predicate, and the address book version they were computed at.
+     */
+    private static class CachedResult<T> {
+        private final long version;
+        private final Set<T> matches;
+
+        CachedResult(long version, Set<T> matches) {
+            this.version = version;
+            this.matches = matches;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventSortOrder;
+import seedu.address.model.event.ScheduleConflict;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
@@ -59,6 +64,42 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book as of the last commit.
+     * Unlike the other methods, this can be called from any thread, and never blocks.
+     */
+    AddressBookSnapshot getSnapshot();
+
+    /**
+     * Saves the changes made to the address book since the last commit as one step that can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Discards the changes made to the address book since the last commit.
+     */
+    void rollbackAddressBook();
+
+    /**
+     * Returns true if there are changes to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there are undone changes to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the most recent step of changes to the address book.
+     */
+    void undoAddressBook();
+
+    /**
+     * Redoes the most recently undone step of changes to the address book.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -70,12 +111,25 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons.
+     * The persons must all exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book and its ID should not be -1.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons.
+     * {@code persons} must not already exist in the address book, must not contain the same person twice and their
+     * IDs should not be -1.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -88,6 +142,11 @@ public interface Model {
      */
     List<Person> findPersonsWithName(Name name);
 
+    /**
+     * Returns the person with the given ID, or an empty {@code Optional} if there is none.
+     */
+    Optional<Person> findPersonById(int personId);
+
     List<Person> getPersonList();
 
     /** Returns an unmodifiable view of the filtered person list */
@@ -99,6 +158,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Sorts the filtered person list by the given {@code comparator}.
+     * Index-based commands refer to persons by their position in the sorted list.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void updateSortedPersonList(Comparator<Person> comparator);
+
     /**
      * Returns true if an event with the same identity as {@code event} exists in the address book.
      */
@@ -157,6 +223,23 @@ public interface Model {
      */
     void updateFilteredEventList(Predicate<Event> predicate);
 
+    /**
+     * Sorts the filtered event list in the given {@code sortOrder}.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void updateSortedEventList(EventSortOrder sortOrder);
+
+    /**
+     * Returns the number of persons assigned to {@code event}.
+     */
+    int getEventAttendance(Event event);
+
+    /**
+     * Returns an unmodifiable view of the number of persons assigned to each event ID.
+     * Event IDs that no one is assigned to have no entry.
+     */
+    ObservableMap<Integer, Integer> getEventAttendanceCounts();
+
     /**
      * Assigns an event to a person.
      */
@@ -167,6 +250,17 @@ public interface Model {
      */
     void unassignEventFromPerson(Person person, Event event);
 
+    /**
+     * Returns the events assigned to {@code person}, other than {@code event} itself, that take place on at least
+     * one day of {@code event}, ordered by start date.
+     */
+    List<Event> findClashingEvents(Person person, Event event);
+
+    /**
+     * Returns every pair of overlapping events assigned to the same person in the address book.
+     */
+    List<ScheduleConflict> findScheduleConflicts();
+
     /**
      * Generates a new unique person ID.
      */
@@ -4,17 +4,33 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.ModelBulkOperationEvent;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventOverlapsDurationPredicate;
+import seedu.address.model.event.EventSortOrder;
+import seedu.address.model.event.ScheduleConflict;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
@@ -24,10 +40,27 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Event> filteredEvents;
+    /** The events found in the interval index by the active {@code EventOverlapsDurationPredicate}, if any. */
+    private final ObservableList<Event> eventsInRange = FXCollections.observableArrayList();
+    /** Shows either {@code filteredEvents} or {@code eventsInRange}. */
+    private final SwitchableList<Event> displayedEvents;
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Event> sortedEvents;
+    private final FilterResultCache<Person> personFilterCache = new FilterResultCache<>();
+    private final FilterResultCache<Event> eventFilterCache = new FilterResultCache<>();
+    private Predicate<Person> activePersonPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    private Predicate<Event> activeEventPredicate = PREDICATE_SHOW_ALL_EVENTS;
+    /** The order of the event list, or null if events are shown in the order they were added. */
+    private EventSortOrder activeEventSortOrder;
+    /** The date range being listed from the interval index, or null if {@code filteredEvents} is shown. */
+    private EventOverlapsDurationPredicate activeRangePredicate;
+
+    /** The address book as of the last commit, which can be read from any thread. */
+    private volatile AddressBookSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,12 +68,18 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryBudget());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        displayedEvents = new SwitchableList<>(filteredEvents);
+        sortedEvents = new SortedList<>(displayedEvents);
+        this.addressBook.getEventList().addListener(this::updateEventsInRange);
+        this.addressBook.getAttendanceCounts().addListener(this::resortEventsOnAttendanceChange);
+        snapshot = new AddressBookSnapshot(this.addressBook);
     }
 
     public ModelManager() {
@@ -53,6 +92,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setHistoryBudget(userPrefs.getUndoHistoryBudget());
     }
 
     @Override
@@ -86,7 +126,78 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        ModelBulkOperationEvent event = new ModelBulkOperationEvent("set address book");
+        event.begin();
         this.addressBook.resetData(addressBook);
+        commitEvent(event);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+        publishSnapshot();
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        ModelBulkOperationEvent event = new ModelBulkOperationEvent("rollback");
+        event.begin();
+        addressBook.rollback();
+        commitEvent(event);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        ModelBulkOperationEvent event = new ModelBulkOperationEvent("undo");
+        event.begin();
+        addressBook.undo();
+        publishSnapshot();
+        commitEvent(event);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        ModelBulkOperationEvent event = new ModelBulkOperationEvent("redo");
+        event.begin();
+        addressBook.redo();
+        publishSnapshot();
+        commitEvent(event);
+    }
+
+    /**
+     * Ends {@code event} and records it with the size of the address book, if it is being recorded.
+     */
+    private void commitEvent(ModelBulkOperationEvent event) {
+        if (event.shouldCommit()) {
+            event.setResult(addressBook.getPersonList().size(), addressBook.getEventList().size());
+            event.commit();
+        }
+    }
+
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the published snapshot with one of the current data, unless the data has not changed since.
+     * Only the thread that modifies the address book may call this, so that the snapshot is never of a half-done
+     * change. The snapshot is published through a volatile write, so readers on other threads see all of it.
+     */
+    private void publishSnapshot() {
+        if (!snapshot.isCurrent(addressBook)) {
+            snapshot = new AddressBookSnapshot(addressBook);
+        }
     }
 
     @Override
@@ -105,6 +216,15 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+        ModelBulkOperationEvent event = new ModelBulkOperationEvent("delete persons");
+        event.begin();
+        targets.forEach(addressBook::removePerson);
+        commitEvent(event);
+    }
+
     @Override
     public void addPerson(Person person) {
         assert person.getId() != -1 : "Person ID should not be -1 when adding the person to the address book.";
@@ -112,6 +232,19 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        ModelBulkOperationEvent event = new ModelBulkOperationEvent("add persons");
+        event.begin();
+        for (Person person : persons) {
+            assert person.getId() != -1 : "Person ID should not be -1 when adding the person to the address book.";
+            addressBook.addPerson(person);
+        }
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        commitEvent(event);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -126,6 +259,11 @@ public class ModelManager implements Model {
         return addressBook.findPersonsWithName(name);
     }
 
+    @Override
+    public Optional<Person> findPersonById(int personId) {
+        return addressBook.findPersonById(personId);
+    }
+
     @Override
     public List<Person> getPersonList() {
         return addressBook.getPersonList();
@@ -145,7 +283,11 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteEvent(Event target) {
+        // Removes the event from every person assigned to it
+        ModelBulkOperationEvent event = new ModelBulkOperationEvent("delete event");
+        event.begin();
         addressBook.removeEvent(target);
+        commitEvent(event);
     }
 
     @Override
@@ -173,6 +315,17 @@ public class ModelManager implements Model {
         addressBook.unassignEventFromPerson(person, event);
     }
 
+    @Override
+    public List<Event> findClashingEvents(Person person, Event event) {
+        requireAllNonNull(person, event);
+        return addressBook.findEventsClashingWith(person, event);
+    }
+
+    @Override
+    public List<ScheduleConflict> findScheduleConflicts() {
+        return addressBook.findScheduleConflicts();
+    }
+
     @Override
     public int generateNewPersonId() {
         return addressBook.generateNewPersonId();
@@ -187,33 +340,163 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered and then sorted.
+     * The sorted view is maintained incrementally, so adding or editing a person only repositions that person.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            filteredPersons.setPredicate(predicate);
+        } else {
+            applyCachedFilter(filteredPersons, personFilterCache, predicate, activePersonPredicate);
+        }
+        activePersonPredicate = predicate;
+    }
+
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        sortedPersons.setComparator(comparator);
     }
 
     //=========== Filtered Event List Accessors =============================================================
     /**
      * Returns an unmodifiable view of the list of {@code Event} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered and then sorted.
      */
     @Override
     public ObservableList<Event> getFilteredEventList() {
-        return filteredEvents;
+        return sortedEvents;
     }
 
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        filteredEvents.setPredicate(predicate);
+        if (predicate instanceof EventOverlapsDurationPredicate) {
+            // Answered by the interval index of the address book, so only the matching events are visited
+            activeRangePredicate = (EventOverlapsDurationPredicate) predicate;
+            eventsInRange.setAll(addressBook.findEventsOverlapping(activeRangePredicate.getDuration()));
+            displayedEvents.setSource(eventsInRange);
+            return;
+        }
+
+        // The filtered list is not shown while a date range is listed, so it can be updated before switching back
+        if (predicate == PREDICATE_SHOW_ALL_EVENTS) {
+            filteredEvents.setPredicate(predicate);
+        } else {
+            applyCachedFilter(filteredEvents, eventFilterCache, predicate, activeEventPredicate);
+        }
+        activeEventPredicate = predicate;
+        activeRangePredicate = null;
+        displayedEvents.setSource(filteredEvents);
+        eventsInRange.clear();
+    }
+
+    /**
+     * Keeps {@code eventsInRange} up to date with events added, edited or removed while a date range is listed.
+     */
+    private void updateEventsInRange(ListChangeListener.Change<? extends Event> change) {
+        if (activeRangePredicate == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.wasRemoved()) {
+                // The events in range are the same objects as in the event list, so they are matched by identity
+                Set<Event> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+                removed.addAll(change.getRemoved());
+                eventsInRange.removeIf(removed::contains);
+            }
+            change.getAddedSubList().stream()
+                    .filter(activeRangePredicate)
+                    .forEach(eventsInRange::add);
+        }
+    }
+
+    @Override
+    public void updateSortedEventList(EventSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        activeEventSortOrder = sortOrder;
+        sortedEvents.setComparator(sortOrder.getComparator(this::getEventAttendance));
+    }
+
+    /**
+     * Sorts the event list again when an attendance count changes, if the events are ordered by attendance.
+     */
+    private void resortEventsOnAttendanceChange(MapChangeListener.Change<? extends Integer, ? extends Integer> change) {
+        if (activeEventSortOrder == null || !activeEventSortOrder.dependsOnAttendance()) {
+            return;
+        }
+        // A new comparator instance is needed, as setting the same comparator does not sort the list again
+        sortedEvents.setComparator(activeEventSortOrder.getComparator(this::getEventAttendance));
+    }
+
+    @Override
+    public int getEventAttendance(Event event) {
+        requireNonNull(event);
+        return addressBook.getAttendance(event);
+    }
+
+    @Override
+    public ObservableMap<Integer, Integer> getEventAttendanceCounts() {
+        return addressBook.getAttendanceCounts();
+    }
+
+    /**
+     * Filters {@code filteredList} by {@code predicate}, reusing the result of an earlier identical filter if the
+     * address book has not been modified since. Otherwise, the predicate is evaluated and its result is cached.
+     * If {@code predicate} narrows {@code activePredicate}, only the elements currently in {@code filteredList} are
+     * evaluated. Large lists are evaluated with a parallel scan, and the result is then applied to
+     * {@code filteredList} in one change.
+     */
+    private <T> void applyCachedFilter(FilteredList<T> filteredList, FilterResultCache<T> cache,
+            Predicate<T> predicate, Predicate<T> activePredicate) {
+        long version = addressBook.getVersion();
+        Optional<Predicate<T>> cachedResult = cache.get(predicate, version);
+        if (cachedResult.isPresent()) {
+            logger.fine(() -> "Filter result cache hit for " + predicate);
+            filteredList.setPredicate(withFallback(cachedResult.get(), predicate, version));
+            return;
+        }
+
+        if (predicate instanceof NarrowingPredicate && ((NarrowingPredicate<?>) predicate).narrows(activePredicate)) {
+            List<T> candidates = new ArrayList<>(filteredList);
+            logger.fine(() -> "Refining " + candidates.size() + " filtered elements with " + predicate);
+            List<T> matches = candidates.size() < ParallelFilter.DEFAULT_THRESHOLD
+                    ? candidates.stream().filter(predicate).collect(Collectors.toList())
+                    : ParallelFilter.filter(candidates, predicate);
+            cache.put(predicate, version, matches);
+            filteredList.setPredicate(withFallback(cache.get(predicate, version).get(), predicate, version));
+            return;
+        }
+
+        List<? extends T> source = filteredList.getSource();
+        if (source.size() < ParallelFilter.DEFAULT_THRESHOLD) {
+            filteredList.setPredicate(predicate);
+            cache.put(predicate, version, filteredList);
+            return;
+        }
+
+        logger.fine(() -> "Filtering " + source.size() + " elements in parallel with " + predicate);
+        cache.put(predicate, version, ParallelFilter.filter(source, predicate));
+        filteredList.setPredicate(withFallback(cache.get(predicate, version).get(), predicate, version));
+    }
+
+    /**
+     * Returns a filter that uses {@code cachedResult} while the address book is at {@code version}.
+     * Elements added or replaced after that are not in the cached result, so they are tested with {@code predicate}.
+     */
+    private <T> Predicate<T> withFallback(Predicate<T> cachedResult, Predicate<T> predicate, long version) {
+        return element -> cachedResult.test(element)
+                || (addressBook.getVersion() != version && predicate.test(element));
     }
 
     @Override
@@ -251,8 +534,8 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
-                && filteredEvents.equals(otherModelManager.filteredEvents);
+                && sortedPersons.equals(otherModelManager.sortedPersons)
+                && sortedEvents.equals(otherModelManager.sortedEvents);
     }
 
 }
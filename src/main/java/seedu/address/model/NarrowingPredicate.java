@@ -0,0 +1,16 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+/**
+ * A filter {@code Predicate} that can tell when it only matches a subset of what another predicate matches.
+ * When a new filter narrows the active one, only the elements that are currently shown need to be tested again.
+ */
+public interface NarrowingPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if every element matched by this predicate is also matched by {@code other}.
+     * Returning false is always safe, and only means the narrowing cannot be proven.
+     */
+    boolean narrows(Predicate<?> other);
+}
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a filter {@code Predicate} over a list with a fork-join parallel scan.
+ * Intended for large lists with expensive predicates, where testing every element sequentially is noticeably slow.
+ * The predicate must be safe to call from multiple threads at once.
+ */
+public class ParallelFilter {
+
+    /** Lists smaller than this are not worth splitting across worker threads. */
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    /** Number of elements each fork-join leaf task tests sequentially. */
+    private static final int LEAF_SIZE = 2_048;
+
+    private ParallelFilter() {} // prevents instantiation
+
+    /**
+     * Returns a {@code BitSet} whose set bits are the indices of the elements of {@code list} that match
+     * {@code predicate}. {@code list} must not be modified while it is being scanned.
+     */
+    public static <T> BitSet evaluate(List<? extends T> list, Predicate<? super T> predicate) {
+        requireAllNonNull(list, predicate);
+        boolean[] isMatch = new boolean[list.size()];
+        ForkJoinPool.commonPool().invoke(new ScanTask<>(list, predicate, isMatch, 0, list.size()));
+
+        BitSet matches = new BitSet(isMatch.length);
+        for (int i = 0; i < isMatch.length; i++) {
+            if (isMatch[i]) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the elements of {@code list} that match {@code predicate}, in list order.
+     */
+    public static <T> List<T> filter(List<? extends T> list, Predicate<? super T> predicate) {
+        BitSet matches = evaluate(list, predicate);
+        List<T> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(list.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Tests the elements in {@code [from, to)}, splitting the range in half until it is at most {@code LEAF_SIZE}.
+     * Results are written into the shared {@code isMatch} array; each task only writes to its own range.
+     */
+    private static class ScanTask<T> extends RecursiveAction {
+        private final List<? extends T> list;
+        private final Predicate<? super T> predicate;
+        private final boolean[] isMatch;
+        private final int from;
+        private final int to;
+
+        ScanTask(List<? extends T> list, Predicate<? super T> predicate, boolean[] isMatch, int from, int to) {
+            this.list = list;
+            this.predicate = predicate;
+            this.isMatch = isMatch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    isMatch[i] = predicate.test(list.get(i));
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScanTask<>(list, predicate, isMatch, from, mid),
+                    new ScanTask<>(list, predicate, isMatch, mid, to));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * An immutable map from IDs to the elements with those IDs, which is changed by creating a new map that shares all
+ * but {@code O(log n)} of its nodes with the map it was created from.
+ *
+ * This lets an {@link AddressBookSnapshot} find persons and events by ID without searching its lists: the address
+ * book keeps a {@code PersistentIdMap} up to date with each change to its lists, next to its {@link PersistentList}s.
+ * The elements are held in a balanced tree ordered by ID, so {@link #get(int)} takes {@code O(log n)} time. Maps can
+ * be read from any thread, as they never change after they are created.
+ */
+public final class PersistentIdMap<E> {
+
+    private final ToIntFunction<? super E> getId;
+    private final Node<E> root;
+
+    private PersistentIdMap(ToIntFunction<? super E> getId, Node<E> root) {
+        this.getId = getId;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map of elements whose IDs are given by {@code getId}.
+     */
+    public static <E> PersistentIdMap<E> empty(ToIntFunction<? super E> getId) {
+        requireNonNull(getId);
+        return new PersistentIdMap<>(getId, null);
+    }
+
+    /**
+     * Returns a map of the elements of {@code elements}, whose IDs are given by {@code getId}.
+     */
+    public static <E> PersistentIdMap<E> copyOf(List<? extends E> elements, ToIntFunction<? super E> getId) {
+        requireNonNull(elements);
+        requireNonNull(getId);
+        TreeMap<Integer, List<E>> elementsById = new TreeMap<>();
+        for (E element : elements) {
+            elementsById.computeIfAbsent(getId.applyAsInt(element), id -> new ArrayList<>()).add(element);
+        }
+        List<Map.Entry<Integer, List<E>>> entries = new ArrayList<>(elementsById.entrySet());
+        return new PersistentIdMap<>(getId, build(entries, 0, entries.size()));
+    }
+
+    private static <E> Node<E> build(List<Map.Entry<Integer, List<E>>> entries, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Map.Entry<Integer, List<E>> entry = entries.get(mid);
+        return Node.of(entry.getKey(), List.copyOf(entry.getValue()),
+                build(entries, from, mid), build(entries, mid + 1, to));
+    }
+
+    /**
+     * Returns the element with ID {@code id}, or any of them if several elements have that ID.
+     */
+    public Optional<E> get(int id) {
+        Node<E> node = root;
+        while (node != null) {
+            if (id < node.id) {
+                node = node.left;
+            } else if (id > node.id) {
+                node = node.right;
+            } else {
+                return Optional.of(node.elements.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns this map with {@code element} added, keeping any other elements with the same ID.
+     */
+    public PersistentIdMap<E> plus(E element) {
+        requireNonNull(element);
+        return new PersistentIdMap<>(getId, insert(root, getId.applyAsInt(element), element));
+    }
+
+    /**
+     * Returns this map without one occurrence of {@code element}, or this map if it does not contain it.
+     */
+    public PersistentIdMap<E> minus(E element) {
+        requireNonNull(element);
+        return new PersistentIdMap<>(getId, remove(root, getId.applyAsInt(element), element));
+    }
+
+    /**
+     * Returns this map with the elements removed and added that {@code change} reports for the list it is from.
+     * This map must have the same elements as that list before the change. A change to a large part of the list is
+     * applied by copying the whole list instead.
+     */
+    public PersistentIdMap<E> withChange(ListChangeListener.Change<? extends E> change) {
+        requireNonNull(change);
+        PersistentIdMap<E> result = this;
+        while (change.next()) {
+            if (change.wasUpdated() || change.wasPermutated()) {
+                // The same elements are still in the list
+                continue;
+            }
+            int changedSize = change.getRemovedSize() + change.getAddedSize();
+            if (changedSize > change.getList().size() / 16) {
+                change.reset();
+                return copyOf(change.getList(), getId);
+            }
+            for (E element : change.getRemoved()) {
+                result = result.minus(element);
+            }
+            for (E element : change.getAddedSubList()) {
+                result = result.plus(element);
+            }
+        }
+        change.reset();
+        return result;
+    }
+
+    /**
+     * Returns the number of different IDs in this map.
+     */
+    public int size() {
+        return Node.size(root);
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int id, E element) {
+        if (node == null) {
+            return Node.of(id, List.of(element), null, null);
+        }
+        if (id < node.id) {
+            return Node.balanced(node.id, node.elements, insert(node.left, id, element), node.right);
+        } else if (id > node.id) {
+            return Node.balanced(node.id, node.elements, node.left, insert(node.right, id, element));
+        }
+        List<E> elements = new ArrayList<>(node.elements);
+        elements.add(element);
+        return Node.of(id, List.copyOf(elements), node.left, node.right);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int id, E element) {
+        if (node == null) {
+            return null;
+        }
+        if (id < node.id) {
+            return Node.balanced(node.id, node.elements, remove(node.left, id, element), node.right);
+        } else if (id > node.id) {
+            return Node.balanced(node.id, node.elements, node.left, remove(node.right, id, element));
+        }
+        List<E> elements = new ArrayList<>(node.elements);
+        if (!elements.remove(element)) {
+            return node;
+        }
+        if (!elements.isEmpty()) {
+            return Node.of(id, List.copyOf(elements), node.left, node.right);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return Node.balanced(successor.id, successor.elements, node.left, removeFirst(node.right));
+    }
+
+    private static <E> Node<E> removeFirst(Node<E> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return Node.balanced(node.id, node.elements, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * A node of an AVL tree ordered by ID, which holds the elements with its ID and knows the number of IDs in its
+     * subtree.
+     */
+    private static final class Node<E> {
+        private final int id;
+        private final List<E> elements;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(int id, List<E> elements, Node<E> left, Node<E> right) {
+            this.id = id;
+            this.elements = elements;
+            this.left = left;
+            this.right = right;
+            size = size(left) + size(right) + 1;
+            height = Math.max(height(left), height(right)) + 1;
+        }
+
+        static <E> Node<E> of(int id, List<E> elements, Node<E> left, Node<E> right) {
+            return new Node<>(id, elements, left, right);
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        /**
+         * Returns a node of {@code id} between {@code left} and {@code right}, rotated if their heights differ by
+         * two after a single insertion or removal.
+         */
+        static <E> Node<E> balanced(int id, List<E> elements, Node<E> left, Node<E> right) {
+            int balance = height(left) - height(right);
+            if (balance > 1) {
+                if (height(left.left) < height(left.right)) {
+                    left = rotateLeft(left);
+                }
+                return of(left.id, left.elements, left.left, of(id, elements, left.right, right));
+            } else if (balance < -1) {
+                if (height(right.right) < height(right.left)) {
+                    right = rotateRight(right);
+                }
+                return of(right.id, right.elements, of(id, elements, left, right.left), right.right);
+            }
+            return of(id, elements, left, right);
+        }
+
+        private static <E> Node<E> rotateLeft(Node<E> node) {
+            return of(node.right.id, node.right.elements,
+                    of(node.id, node.elements, node.left, node.right.left), node.right.right);
+        }
+
+        private static <E> Node<E> rotateRight(Node<E> node) {
+            return of(node.left.id, node.left.elements, node.left.left,
+                    of(node.id, node.elements, node.left.right, node.right));
+        }
+    }
+}
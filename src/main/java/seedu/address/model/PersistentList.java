@@ -0,0 +1,257 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * An immutable list that is changed by creating a new list, which shares all but {@code O(log n)} of its nodes with
+ * the list it was created from.
+ *
+ * This lets an {@link AddressBookSnapshot} keep the elements of an address book without copying them: the address
+ * book keeps a {@code PersistentList} up to date with each change to its lists, and a snapshot only keeps the current
+ * one. The elements are held in a balanced tree, so {@link #get(int)} takes {@code O(log n)} time and iterating over
+ * the list takes {@code O(n)} time. Lists can be read from any thread, as they never change after they are created.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in the same order.
+     */
+    public static <E> PersistentList<E> copyOf(List<? extends E> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return Node.of(elements.get(mid), build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    /**
+     * Returns this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns this list without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index);
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns this list with the same change applied as the one that {@code change} reports for the list it is
+     * from. This list must be equal to that list before the change. A change to a large part of the list is applied
+     * by copying the whole list instead.
+     */
+    public PersistentList<E> withChange(ListChangeListener.Change<? extends E> change) {
+        requireNonNull(change);
+        PersistentList<E> result = this;
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            int changedSize = change.getRemovedSize() + change.getAddedSize();
+            if (change.wasPermutated() || changedSize > change.getList().size() / 16) {
+                change.reset();
+                return copyOf(change.getList());
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                result = result.minus(change.getFrom());
+            }
+            int index = change.getFrom();
+            for (E element : change.getAddedSubList()) {
+                result = result.plus(index++, element);
+            }
+        }
+        change.reset();
+        return result;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return Node.size(root);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return Node.of(element, null, null);
+        }
+        int leftSize = Node.size(node.left);
+        if (index <= leftSize) {
+            return Node.balanced(node.element, insert(node.left, index, element), node.right);
+        }
+        return Node.balanced(node.element, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return Node.balanced(node.element, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return Node.balanced(node.element, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return Node.balanced(successor.element, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Visits the elements of a tree in list order, keeping the path from the root to the next element.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftmostPath(root);
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.element;
+        }
+    }
+
+    /**
+     * A node of an AVL tree ordered by list index, which knows the number of elements in its subtree.
+     */
+    private static final class Node<E> {
+        private final E element;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            size = size(left) + size(right) + 1;
+            height = Math.max(height(left), height(right)) + 1;
+        }
+
+        static <E> Node<E> of(E element, Node<E> left, Node<E> right) {
+            return new Node<>(element, left, right);
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        /**
+         * Returns a node of {@code element} between {@code left} and {@code right}, rotated if their heights differ
+         * by two after a single insertion or removal.
+         */
+        static <E> Node<E> balanced(E element, Node<E> left, Node<E> right) {
+            int balance = height(left) - height(right);
+            if (balance > 1) {
+                if (height(left.left) < height(left.right)) {
+                    left = rotateLeft(left);
+                }
+                return of(left.element, left.left, of(element, left.right, right));
+            } else if (balance < -1) {
+                if (height(right.right) < height(right.left)) {
+                    right = rotateRight(right);
+                }
+                return of(right.element, of(element, left, right.left), right.right);
+            }
+            return of(element, left, right);
+        }
+
+        private static <E> Node<E> rotateLeft(Node<E> node) {
+            return of(node.right.element, of(node.element, node.left, node.right.left), node.right.right);
+        }
+
+        private static <E> Node<E> rotateRight(Node<E> node) {
+            return of(node.left.element, node.left.left, of(node.element, node.left.right, node.right));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventIntervalTree;
+import seedu.address.model.event.ScheduleConflict;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes the events assigned to each person by their {@code EventDuration}, so that checking whether a new
+ * assignment clashes with the existing ones takes O(log k) time for a person with k assigned events.
+ *
+ * A person's index is built from their event IDs the first time it is needed and kept until the person or any event
+ * changes. Event IDs that do not belong to an existing event are ignored.
+ */
+public class PersonSchedules {
+
+    private static final Comparator<Event> START_ORDER = Comparator.comparing(Event::getEventStartDate)
+            .thenComparing(Event::getEventEndDate)
+            .thenComparingInt(Event::getEventId);
+
+    private final Map<Integer, EventIntervalTree> schedulesByPersonId = new HashMap<>();
+    private final IntFunction<Event> eventLookup;
+
+    /**
+     * Creates an index that resolves event IDs with {@code eventLookup}, which returns null for unknown IDs.
+     */
+    public PersonSchedules(IntFunction<Event> eventLookup) {
+        requireNonNull(eventLookup);
+        this.eventLookup = eventLookup;
+    }
+
+    /**
+     * Returns the events assigned to {@code person} that take place on at least one day of {@code duration},
+     * ordered by start date.
+     */
+    public List<Event> getEventsOverlapping(Person person, EventDuration duration) {
+        requireAllNonNull(person, duration);
+        return getSchedule(person).getEventsOverlapping(duration.getStartDate(), duration.getEndDate());
+    }
+
+    /**
+     * Records that {@code event} has been assigned to {@code person}.
+     */
+    public void assign(Person person, Event event) {
+        requireAllNonNull(person, event);
+        EventIntervalTree schedule = schedulesByPersonId.get(person.getId());
+        if (schedule != null) {
+            schedule.add(event);
+        }
+    }
+
+    /**
+     * Discards the index of {@code person}, to be rebuilt the next time it is needed.
+     */
+    public void invalidate(Person person) {
+        requireNonNull(person);
+        schedulesByPersonId.remove(person.getId());
+    }
+
+    /**
+     * Discards the indexes of all persons.
+     */
+    public void clear() {
+        schedulesByPersonId.clear();
+    }
+
+    /**
+     * Returns every pair of overlapping events assigned to the same person in {@code persons}.
+     * Each person's events are swept in order of start date, keeping the events that have not ended yet in a queue
+     * ordered by end date, which takes O(k log k + c) time for k assigned events and c conflicts.
+     */
+    public static List<ScheduleConflict> findConflicts(Iterable<Person> persons, IntFunction<Event> eventLookup) {
+        requireAllNonNull(persons, eventLookup);
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        for (Person person : persons) {
+            List<Event> events = getAssignedEvents(person, eventLookup);
+            events.sort(START_ORDER);
+            PriorityQueue<Event> ongoing = new PriorityQueue<>(Comparator.comparing(Event::getEventEndDate));
+            for (Event event : events) {
+                while (!ongoing.isEmpty() && ongoing.peek().getEventEndDate().isBefore(event.getEventStartDate())) {
+                    ongoing.remove();
+                }
+                ongoing.stream()
+                        .sorted(START_ORDER)
+                        .forEach(earlier -> conflicts.add(new ScheduleConflict(person, earlier, event)));
+                ongoing.add(event);
+            }
+        }
+        return conflicts;
+    }
+
+    private EventIntervalTree getSchedule(Person person) {
+        return schedulesByPersonId.computeIfAbsent(person.getId(), id -> {
+            EventIntervalTree schedule = new EventIntervalTree();
+            schedule.setAll(getAssignedEvents(person, eventLookup));
+            return schedule;
+        });
+    }
+
+    private static List<Event> getAssignedEvents(Person person, IntFunction<Event> eventLookup) {
+        List<Event> events = new ArrayList<>();
+        for (int eventId : person.getEventIds()) {
+            Event event = eventLookup.apply(eventId);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
@@ -13,4 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the rough number of bytes of memory the undo history can take up.
+     */
+    long getUndoHistoryBudget();
+
 }
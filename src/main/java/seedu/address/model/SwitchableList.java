@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of one of several source lists, which can be switched to another source at any time.
+ * Changes to the current source are passed on as they are. Switching the source is reported as a single change that
+ * replaces all elements, which takes time proportional to the sizes of the old and the new source.
+ */
+public class SwitchableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::forwardChange;
+    private ObservableList<? extends E> source;
+
+    /**
+     * Creates a view of {@code source}.
+     */
+    public SwitchableList(ObservableList<? extends E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Returns the list this view currently shows.
+     */
+    public ObservableList<? extends E> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows {@code newSource} instead of the current source. Does nothing if {@code newSource} is already shown.
+     */
+    public void setSource(ObservableList<? extends E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(source);
+        source.removeListener(sourceListener);
+        source = newSource;
+        source.addListener(sourceListener);
+        if (removed.isEmpty() && source.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, source.size(), removed);
+        endChange();
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
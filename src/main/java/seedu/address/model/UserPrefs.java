@@ -13,8 +13,11 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_UNDO_HISTORY_BUDGET = 16L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "clubconnect.json");
+    private long undoHistoryBudget = DEFAULT_UNDO_HISTORY_BUDGET;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    /**
+     * Sets the rough number of bytes of memory the undo history can take up.
+     * @throws IllegalArgumentException if {@code undoHistoryBudget} is negative.
+     */
+    public void setUndoHistoryBudget(long undoHistoryBudget) {
+        if (undoHistoryBudget < 0) {
+            throw new IllegalArgumentException("Undo history budget cannot be negative");
+        }
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +88,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryBudget == otherUserPrefs.undoHistoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryBudget);
     }
 
     @Override
@@ -0,0 +1,220 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * An {@code AddressBook} that keeps a history of its changes, so that they can be undone and redone.
+ *
+ * Every change is remembered as a pair of actions that undo and redo it, holding on to only the persons and events
+ * that were added, removed or replaced. These share their fields with the current data, so the memory used by a step
+ * of the history grows with the size of the change rather than the size of the address book. The changes made since
+ * the last {@link #commit()} form one step, and the oldest steps are forgotten once the history grows beyond its
+ * memory budget. The most recent step is always kept, even if it alone is larger than the budget, so the last
+ * command can always be undone.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /** Rough number of bytes held by a person or event that is remembered only by the history. */
+    public static final long ESTIMATED_BYTES_PER_ELEMENT = 512;
+
+    /** Bytes held by a change regardless of its size, for the change itself and its actions. */
+    private static final long BYTES_PER_CHANGE = 64;
+
+    /** Steps that can be undone, the most recent first. */
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    /** Steps that can be redone, the most recently undone first. */
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private long historyBudget;
+    private long historySize;
+    private boolean isReplaying;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the data in {@code initialState} and no history, whose history
+     * takes up roughly {@code historyBudget} bytes at most.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, long historyBudget) {
+        super();
+        resetData(initialState);
+        pendingChanges.clear();
+        setHistoryBudget(historyBudget);
+    }
+
+    /**
+     * Sets the rough number of bytes the history can take up, forgetting the oldest steps if it is now exceeded.
+     */
+    public void setHistoryBudget(long historyBudget) {
+        if (historyBudget < 0) {
+            throw new IllegalArgumentException("History budget cannot be negative");
+        }
+        this.historyBudget = historyBudget;
+        trimHistory();
+    }
+
+    /**
+     * Saves the changes made since the last commit as one step of the history, which undoes all of them together.
+     * Discards the steps that were undone, as they can no longer be redone. Does nothing if there are no changes.
+     */
+    public void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        redoSteps.forEach(step -> historySize -= step.size);
+        redoSteps.clear();
+
+        Step step = new Step(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        undoSteps.push(step);
+        historySize += step.size;
+        trimHistory();
+    }
+
+    /**
+     * Returns true if there is a step that can be undone.
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty() || !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Returns true if there is a step that can be redone.
+     */
+    public boolean canRedo() {
+        return !redoSteps.isEmpty() && pendingChanges.isEmpty();
+    }
+
+    /**
+     * Undoes the most recent step, committing any changes made since the last commit first.
+     *
+     * @throws NoUndoableStateException if there is no step to undo.
+     */
+    public void undo() {
+        commit();
+        if (undoSteps.isEmpty()) {
+            throw new NoUndoableStateException();
+        }
+        Step step = undoSteps.pop();
+        replay(() -> {
+            for (int i = step.changes.size() - 1; i >= 0; i--) {
+                step.changes.get(i).undo.run();
+            }
+        });
+        redoSteps.push(step);
+    }
+
+    /**
+     * Redoes the most recently undone step.
+     *
+     * @throws NoRedoableStateException if there is no step to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        Step step = redoSteps.pop();
+        replay(() -> step.changes.forEach(change -> change.redo.run()));
+        undoSteps.push(step);
+    }
+
+    /**
+     * Undoes the changes made since the last commit, without keeping them as a step that can be redone.
+     */
+    public void rollback() {
+        List<Change> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        replay(() -> {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo.run();
+            }
+        });
+    }
+
+    /**
+     * Returns the rough number of bytes taken up by the history.
+     */
+    public long getHistorySize() {
+        return historySize;
+    }
+
+    @Override
+    protected void recordChange(Runnable undo, Runnable redo, int size) {
+        requireNonNull(undo);
+        requireNonNull(redo);
+        if (!isReplaying) {
+            pendingChanges.add(new Change(undo, redo, size));
+        }
+    }
+
+    private void replay(Runnable actions) {
+        isReplaying = true;
+        try {
+            actions.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Forgets the oldest undoable steps but the most recent one, and then the furthest redoable steps, until the
+     * history fits its budget.
+     */
+    private void trimHistory() {
+        while (historySize > historyBudget && undoSteps.size() > 1) {
+            historySize -= undoSteps.removeLast().size;
+        }
+        while (historySize > historyBudget && !redoSteps.isEmpty()) {
+            historySize -= redoSteps.removeLast().size;
+        }
+    }
+
+    /**
+     * A change to the address book, with the actions that undo and redo it.
+     */
+    private static class Change {
+        private final Runnable undo;
+        private final Runnable redo;
+        private final long size;
+
+        Change(Runnable undo, Runnable redo, int elementCount) {
+            this.undo = undo;
+            this.redo = redo;
+            this.size = BYTES_PER_CHANGE + elementCount * ESTIMATED_BYTES_PER_ELEMENT;
+        }
+    }
+
+    /**
+     * The changes made by one step of the history, in the order they were made.
+     */
+    private static class Step {
+        private final List<Change> changes;
+        private final long size;
+
+        Step(List<Change> changes) {
+            this.changes = changes;
+            this.size = changes.stream().mapToLong(change -> change.size).sum();
+        }
+    }
+
+    /**
+     * Signals that there is no step of the history to undo.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("There are no changes to undo.");
+        }
+    }
+
+    /**
+     * Signals that there is no step of the history to redo.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("There are no undone changes to redo.");
+        }
+    }
+}
@@ -36,6 +36,14 @@ public class EventDuration {
         return !(eventFrom.isAfter(eventTo));
     }
 
+    /**
+     * Returns true if this duration shares at least one day with {@code other}.
+     */
+    public boolean overlaps(EventDuration other) {
+        requireNonNull(other);
+        return !eventFrom.isAfter(other.eventTo) && !eventTo.isBefore(other.eventFrom);
+    }
+
     @Override
     public String toString() {
         return "from: " + eventFrom.toString() + "; to: " + eventTo.toString();
@@ -0,0 +1,208 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * An index of events by their {@code EventDuration}, answering which events overlap a range of dates in
+ * O(log n + k) expected time, where k is the number of events returned.
+ *
+ * Implemented as a treap ordered by start date and then end date, where every node also stores the latest end date
+ * in its subtree. Events with exactly the same duration share a node.
+ */
+public class EventIntervalTree {
+
+    private static final Comparator<EventDuration> DURATION_ORDER =
+            Comparator.comparing(EventDuration::getStartDate).thenComparing(EventDuration::getEndDate);
+
+    private final Random priorities = new Random(0);
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code event} to the index.
+     */
+    public void add(Event event) {
+        requireNonNull(event);
+        Node node = find(event.getEventDuration());
+        if (node != null) {
+            node.events.add(event);
+        } else {
+            Node[] split = split(root, event.getEventDuration());
+            root = merge(merge(split[0], new Node(event, priorities.nextInt())), split[1]);
+        }
+        size++;
+    }
+
+    /**
+     * Removes {@code event} from the index. Does nothing if the exact {@code event} was not added.
+     */
+    public void remove(Event event) {
+        requireNonNull(event);
+        Node node = find(event.getEventDuration());
+        if (node == null || !node.events.removeIf(indexed -> indexed == event)) {
+            return;
+        }
+        size--;
+        if (node.events.isEmpty()) {
+            root = erase(root, event.getEventDuration());
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code events}.
+     */
+    public void setAll(Iterable<Event> events) {
+        requireNonNull(events);
+        clear();
+        events.forEach(this::add);
+    }
+
+    /**
+     * Removes all events from the index.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the events that take place on at least one day from {@code from} to {@code to}, both inclusive,
+     * ordered by start date and then end date.
+     */
+    public List<Event> getEventsOverlapping(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        List<Event> result = new ArrayList<>();
+        collectOverlapping(root, from, to, result);
+        return result;
+    }
+
+    private void collectOverlapping(Node node, LocalDate from, LocalDate to, List<Event> result) {
+        // No event in this subtree ends on or after from
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, result);
+        // This event and every event to its right start after to
+        if (node.duration.getStartDate().isAfter(to)) {
+            return;
+        }
+        if (!node.duration.getEndDate().isBefore(from)) {
+            result.addAll(node.events);
+        }
+        collectOverlapping(node.right, from, to, result);
+    }
+
+    private Node find(EventDuration duration) {
+        Node node = root;
+        while (node != null) {
+            int comparison = DURATION_ORDER.compare(duration, node.duration);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Splits {@code node} into the nodes ordered before {@code duration} and the nodes ordered after it.
+     * There must be no node with exactly {@code duration}.
+     */
+    private static Node[] split(Node node, EventDuration duration) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (DURATION_ORDER.compare(duration, node.duration) < 0) {
+            Node[] split = split(node.left, duration);
+            node.left = split[1];
+            node.update();
+            return new Node[] {split[0], node};
+        } else {
+            Node[] split = split(node.right, duration);
+            node.right = split[0];
+            node.update();
+            return new Node[] {node, split[1]};
+        }
+    }
+
+    /**
+     * Merges two treaps, where every node in {@code left} is ordered before every node in {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.update();
+            return right;
+        }
+    }
+
+    private static Node erase(Node node, EventDuration duration) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = DURATION_ORDER.compare(duration, node.duration);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = erase(node.left, duration);
+        } else {
+            node.right = erase(node.right, duration);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * A node of the treap, holding all events with the same {@code duration}.
+     */
+    private static class Node {
+        private final EventDuration duration;
+        private final List<Event> events = new ArrayList<>(1);
+        private final int priority;
+        private LocalDate maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Event event, int priority) {
+            this.duration = event.getEventDuration();
+            this.priority = priority;
+            events.add(event);
+            update();
+        }
+
+        /**
+         * Recomputes {@code maxEnd} from this node and its children.
+         */
+        void update() {
+            maxEnd = duration.getEndDate();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
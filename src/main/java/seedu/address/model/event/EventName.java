@@ -3,6 +3,9 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+
 /**
  * Represents an Event's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +21,16 @@ public class EventName {
      */
     public static final String VALIDATION_REGEX = "^[A-Za-z][\\p{Alnum} ]*$";
 
+    private static final Collator COLLATOR = Collator.getInstance();
+
     public final String eventName;
 
+    /** Lower case form of {@code eventName}, cached for case-insensitive searches. */
+    private final String lowerCaseEventName;
+
+    /** Collation key of {@code eventName} for sorting in the order of the default locale, computed on first use. */
+    private CollationKey collationKey;
+
     /**
      * Constructs a {@code EventName}.
      *
@@ -29,6 +40,7 @@ public class EventName {
         requireNonNull(eventName);
         checkArgument(isValidName(eventName), MESSAGE_CONSTRAINTS);
         this.eventName = eventName;
+        lowerCaseEventName = eventName.toLowerCase();
     }
 
     /**
@@ -44,6 +56,20 @@ public class EventName {
         return eventName;
     }
 
+    /**
+     * Returns the collation key of this name, so that sorting by name follows the rules of the default locale.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = COLLATOR.getCollationKey(eventName);
+        }
+        return collationKey;
+    }
+
+    public String getLowerCaseEventName() {
+        return lowerCaseEventName;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,23 +3,34 @@ package seedu.address.model.event;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.NarrowingPredicate;
 
 /**
  * Tests that a {@code Event}'s {@code EventName} matches any of the keywords given.
  */
-public class EventNameContainsKeywordsPredicate implements Predicate<Event> {
+public class EventNameContainsKeywordsPredicate implements NarrowingPredicate<Event> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate matching event names that contain any of {@code keywords}, ignoring case.
+     */
     public EventNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Event event) {
-        String fullName = event.getName().eventName;
-        return keywords.stream()
-                .anyMatch(keyword -> fullName.toLowerCase().contains(keyword.toLowerCase()));
+        return matcher.matchesAny(event.getName().getLowerCaseEventName());
+    }
+
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof EventNameContainsKeywordsPredicate
+                && KeywordMatcher.isNarrowing(keywords, ((EventNameContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -38,6 +49,11 @@ public class EventNameContainsKeywordsPredicate implements Predicate<Event> {
         return keywords.equals(otherEventNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
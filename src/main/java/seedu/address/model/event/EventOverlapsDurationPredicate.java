@@ -0,0 +1,53 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an {@code Event} takes place on at least one day of the given {@code EventDuration}.
+ */
+public class EventOverlapsDurationPredicate implements Predicate<Event> {
+    private final EventDuration duration;
+
+    public EventOverlapsDurationPredicate(EventDuration duration) {
+        requireNonNull(duration);
+        this.duration = duration;
+    }
+
+    public EventDuration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public boolean test(Event event) {
+        return event.getEventDuration().overlaps(duration);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventOverlapsDurationPredicate)) {
+            return false;
+        }
+
+        EventOverlapsDurationPredicate otherPredicate = (EventOverlapsDurationPredicate) other;
+        return duration.equals(otherPredicate.duration);
+    }
+
+    @Override
+    public int hashCode() {
+        return duration.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("duration", duration).toString();
+    }
+}
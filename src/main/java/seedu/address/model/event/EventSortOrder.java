@@ -0,0 +1,59 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Represents an order in which the displayed event list can be sorted.
+ * Events that are equal in the chosen order are ordered by their ID.
+ */
+public enum EventSortOrder {
+    START_DATE("start", attendance ->
+            Comparator.comparing(Event::getEventStartDate).thenComparing(Event::getEventEndDate)),
+    NAME("name", attendance -> Comparator.comparing(event -> event.getEventName().getCollationKey())),
+    ATTENDANCE("attendance", attendance -> Comparator.comparingInt(attendance).reversed());
+
+    public static final String MESSAGE_CONSTRAINTS = "Events can only be sorted by start, name or attendance";
+
+    private final String keyword;
+    private final Function<ToIntFunction<Event>, Comparator<Event>> comparatorFactory;
+
+    EventSortOrder(String keyword, Function<ToIntFunction<Event>, Comparator<Event>> comparatorFactory) {
+        this.keyword = keyword;
+        this.comparatorFactory = comparatorFactory;
+    }
+
+    /**
+     * Returns the sort order identified by {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<EventSortOrder> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Stream.of(values()).filter(order -> order.keyword.equalsIgnoreCase(keyword)).findFirst();
+    }
+
+    /**
+     * Returns the comparator for this order, where {@code attendance} gives the number of persons assigned to an
+     * event.
+     */
+    public Comparator<Event> getComparator(ToIntFunction<Event> attendance) {
+        requireNonNull(attendance);
+        return comparatorFactory.apply(attendance).thenComparingInt(Event::getEventId);
+    }
+
+    /**
+     * Returns true if the position of an event in this order depends on the number of persons assigned to it.
+     */
+    public boolean dependsOnAttendance() {
+        return this == ATTENDANCE;
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents two events assigned to the same person that take place on at least one common day.
+ * Guarantees: immutable; the earlier event does not start after the later event.
+ */
+public class ScheduleConflict {
+
+    private final Person person;
+    private final Event earlierEvent;
+    private final Event laterEvent;
+
+    /**
+     * Constructs a {@code ScheduleConflict} between two overlapping events assigned to {@code person}.
+     */
+    public ScheduleConflict(Person person, Event earlierEvent, Event laterEvent) {
+        requireAllNonNull(person, earlierEvent, laterEvent);
+        this.person = person;
+        this.earlierEvent = earlierEvent;
+        this.laterEvent = laterEvent;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Event getEarlierEvent() {
+        return earlierEvent;
+    }
+
+    public Event getLaterEvent() {
+        return laterEvent;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduleConflict otherConflict)) {
+            return false;
+        }
+
+        return person.equals(otherConflict.person)
+                && earlierEvent.equals(otherConflict.earlierEvent)
+                && laterEvent.equals(otherConflict.laterEvent);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, earlierEvent, laterEvent);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person)
+                .add("earlierEvent", earlierEvent)
+                .add("laterEvent", laterEvent)
+                .toString();
+    }
+}
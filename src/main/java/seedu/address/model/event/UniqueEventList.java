@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import javafx.collections.FXCollections;
@@ -29,6 +31,15 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final EventIntervalTree intervalTree = new EventIntervalTree();
+
+    /**
+     * Events by ID, updated in place on each change. If several events share an ID, a change to one of them may
+     * change which event the ID refers to, so the map is then rebuilt on the next lookup instead.
+     */
+    private final Map<Integer, Event> eventsById = new HashMap<>();
+    private boolean hasDuplicateIds;
+    private boolean isEventsByIdStale;
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
@@ -50,7 +61,7 @@ public class UniqueEventList implements Iterable<Event> {
      * Returns true if the list contains an event with the same ID as the given argument.
      */
     public boolean containsId(int idToCheck) {
-        return internalList.stream().anyMatch(event -> event.getEventId() == idToCheck);
+        return getEventsById().containsKey(idToCheck);
     }
 
     /**
@@ -58,10 +69,76 @@ public class UniqueEventList implements Iterable<Event> {
      * @throws NoSuchElementException if the event does not exist.
      */
     public Event getById(int eventId) {
-        return internalList.stream()
-                .filter(event -> event.getEventId() == eventId)
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("No event with ID: " + eventId));
+        Event event = getEventsById().get(eventId);
+        if (event == null) {
+            throw new NoSuchElementException("No event with ID: " + eventId);
+        }
+        return event;
+    }
+
+    /**
+     * Returns the events by ID. If several events share an ID, the first one in the list is used.
+     */
+    private Map<Integer, Event> getEventsById() {
+        if (isEventsByIdStale) {
+            eventsById.clear();
+            hasDuplicateIds = false;
+            for (Event event : internalList) {
+                if (eventsById.putIfAbsent(event.getEventId(), event) != null) {
+                    hasDuplicateIds = true;
+                }
+            }
+            isEventsByIdStale = false;
+        }
+        return eventsById;
+    }
+
+    /**
+     * Returns the position of {@code event} in the list, or -1 if it is not in the list.
+     * The event in the list is found by its ID, so the list is only searched for the same object.
+     */
+    public int indexOf(Event event) {
+        requireNonNull(event);
+        Event eventWithId = getEventsById().get(event.getEventId());
+        if (eventWithId == null || !eventWithId.equals(event)) {
+            // Events that share an ID, such as those built in tests, are not all in the map
+            return hasDuplicateIds ? internalList.indexOf(event) : -1;
+        }
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == eventWithId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds {@code event}, which has just been put into the list, to {@code eventsById}.
+     * {@code isLast} is whether it was put at the end of the list, after any other event with the same ID.
+     */
+    private void indexEvent(Event event, boolean isLast) {
+        if (isEventsByIdStale) {
+            return;
+        }
+        if (eventsById.putIfAbsent(event.getEventId(), event) != null) {
+            hasDuplicateIds = true;
+            isEventsByIdStale = !isLast;
+        }
+    }
+
+    /**
+     * Removes {@code event}, which has just been taken out of the list, from {@code eventsById}.
+     */
+    private void unindexEvent(Event event) {
+        if (isEventsByIdStale) {
+            return;
+        }
+        if (hasDuplicateIds) {
+            // Another event with the same ID may take its place
+            isEventsByIdStale = true;
+            return;
+        }
+        eventsById.remove(event.getEventId());
     }
 
 
@@ -75,17 +152,34 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        intervalTree.add(toAdd);
+        indexEvent(toAdd, true);
+    }
+
+    /**
+     * Adds an event to the list at {@code index}.
+     * The event must not already exist in the list.
+     */
+    public void add(int index, Event toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateEventException();
+        }
+        internalList.add(index, toAdd);
+        intervalTree.add(toAdd);
+        indexEvent(toAdd, index == internalList.size() - 1);
     }
 
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
      * The event identity of {@code editedEvent} must not be the same as another existing event in the list.
+     * Returns the event that was replaced.
      */
-    public void setEvent(Event target, Event editedEvent) {
+    public Event setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -94,18 +188,29 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        Event replacedEvent = internalList.set(index, editedEvent);
+        intervalTree.remove(replacedEvent);
+        intervalTree.add(editedEvent);
+        unindexEvent(replacedEvent);
+        indexEvent(editedEvent, index == internalList.size() - 1);
+        return replacedEvent;
     }
 
     /**
      * Removes the equivalent event from the list.
      * The event must exist in the list.
+     * Returns the event that was removed.
      */
-    public void remove(Event toRemove) {
+    public Event remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        Event removedEvent = internalList.remove(index);
+        intervalTree.remove(removedEvent);
+        unindexEvent(removedEvent);
+        return removedEvent;
     }
 
     /**
@@ -119,9 +224,19 @@ public class UniqueEventList implements Iterable<Event> {
         return new ArrayList<>();
     }
 
+    /**
+     * Returns the events that take place on at least one day of {@code duration}, ordered by start date.
+     */
+    public List<Event> getEventsOverlapping(EventDuration duration) {
+        requireNonNull(duration);
+        return intervalTree.getEventsOverlapping(duration.getStartDate(), duration.getEndDate());
+    }
+
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        intervalTree.setAll(internalList);
+        isEventsByIdStale = true;
     }
 
     /**
@@ -135,6 +250,8 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.setAll(events);
+        intervalTree.setAll(internalList);
+        isEventsByIdStale = true;
     }
 
     /**
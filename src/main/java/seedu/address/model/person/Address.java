@@ -19,6 +19,9 @@ public class Address {
 
     public final String value;
 
+    /** Lower case form of {@code value}, cached for case-insensitive searches. */
+    private final String lowerCaseValue;
+
     /**
      * Constructs an {@code Address}.
      *
@@ -28,6 +31,7 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        lowerCaseValue = value.toLowerCase();
     }
 
     /**
@@ -42,6 +46,10 @@ public class Address {
         return value;
     }
 
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,23 +3,34 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.NarrowingPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsPredicate implements NarrowingPredicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate matching addresses that contain any of {@code keywords}, ignoring case.
+     */
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        String address = person.getAddress().value;
-        return keywords.stream()
-                .anyMatch(keyword -> address.toLowerCase().contains(keyword.toLowerCase()));
+        return matcher.matchesAny(person.getAddress().getLowerCaseValue());
+    }
+
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof AddressContainsKeywordsPredicate
+                && KeywordMatcher.isNarrowing(keywords, ((AddressContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -38,6 +49,11 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherAddressContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -33,6 +33,9 @@ public class Email {
 
     public final String value;
 
+    /** Lower case form of {@code value}, cached for case-insensitive searches. */
+    private final String lowerCaseValue;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -42,6 +45,7 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        lowerCaseValue = value.toLowerCase();
     }
 
     /**
@@ -56,6 +60,10 @@ public class Email {
         return value;
     }
 
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,23 +3,34 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.NarrowingPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements NarrowingPredicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate matching emails that contain any of {@code keywords}, ignoring case.
+     */
     public EmailContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        String email = person.getEmail().value;
-        return keywords.stream()
-                .anyMatch(keyword -> email.toLowerCase().contains(keyword.toLowerCase()));
+        return matcher.matchesAny(person.getEmail().getLowerCaseValue());
+    }
+
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof EmailContainsKeywordsPredicate
+                && KeywordMatcher.isNarrowing(keywords, ((EmailContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -37,6 +48,11 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherEmailContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
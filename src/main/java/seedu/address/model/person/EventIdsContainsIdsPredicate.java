@@ -39,6 +39,11 @@ public class EventIdsContainsIdsPredicate implements Predicate<Person> {
         return ids.equals(otherEventIdsContainsIdsPredicate.ids);
     }
 
+    @Override
+    public int hashCode() {
+        return ids.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("ids", ids).toString();
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +21,16 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "^[A-Za-z][\\p{Alnum} ]*$";
 
+    private static final Collator COLLATOR = Collator.getInstance();
+
     public final String fullName;
 
+    /** Lower case form of {@code fullName}, cached for case-insensitive searches. */
+    private final String lowerCaseFullName;
+
+    /** Collation key of {@code fullName} for sorting in the order of the default locale, computed on first use. */
+    private CollationKey collationKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +40,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseFullName = fullName.toLowerCase();
     }
 
     /**
@@ -44,6 +56,20 @@ public class Name {
         return fullName;
     }
 
+    /**
+     * Returns the collation key of this name, so that sorting by name follows the rules of the default locale.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = COLLATOR.getCollationKey(fullName);
+        }
+        return collationKey;
+    }
+
+    public String getLowerCaseFullName() {
+        return lowerCaseFullName;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
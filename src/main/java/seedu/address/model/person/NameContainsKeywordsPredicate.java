@@ -3,23 +3,34 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.NarrowingPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements NarrowingPredicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate matching names that contain any of {@code keywords}, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        String fullName = person.getName().fullName;
-        return keywords.stream()
-                .anyMatch(keyword -> fullName.toLowerCase().contains(keyword.toLowerCase()));
+        return matcher.matchesAny(person.getName().getLowerCaseFullName());
+    }
+
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof NameContainsKeywordsPredicate
+                && KeywordMatcher.isNarrowing(keywords, ((NameContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -37,6 +48,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
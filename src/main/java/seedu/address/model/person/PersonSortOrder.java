@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Represents an order in which the displayed person list can be sorted.
+ * Persons that are equal in the chosen order are ordered by their ID.
+ */
+public enum PersonSortOrder {
+    NAME("name", Comparator.comparing(person -> person.getName().getCollationKey())),
+    ID("id", Comparator.comparingInt(Person::getId)),
+    TAG_COUNT("tags", Comparator.comparingInt((Person person) -> person.getTags().size()).reversed());
+
+    public static final String MESSAGE_CONSTRAINTS = "Persons can only be sorted by name, id or tags";
+
+    private final String keyword;
+    private final Comparator<Person> comparator;
+
+    PersonSortOrder(String keyword, Comparator<Person> comparator) {
+        this.keyword = keyword;
+        this.comparator = comparator.thenComparingInt(Person::getId);
+    }
+
+    /**
+     * Returns the sort order identified by {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<PersonSortOrder> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Stream.of(values()).filter(order -> order.keyword.equalsIgnoreCase(keyword)).findFirst();
+    }
+
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
@@ -15,6 +15,9 @@ public class Phone {
     public static final String VALIDATION_REGEX = "\\d{3,}";
     public final String value;
 
+    /** Lower case form of {@code value}, cached for case-insensitive searches. */
+    private final String lowerCaseValue;
+
     /**
      * Constructs a {@code Phone}.
      *
@@ -24,6 +27,7 @@ public class Phone {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
+        lowerCaseValue = value.toLowerCase();
     }
 
     /**
@@ -38,6 +42,10 @@ public class Phone {
         return value;
     }
 
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,23 +3,34 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.NarrowingPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
+public class PhoneContainsKeywordsPredicate implements NarrowingPredicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate matching phone numbers that contain any of {@code keywords}, ignoring case.
+     */
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        String phone = person.getPhone().value;
-        return keywords.stream()
-                .anyMatch(keyword -> phone.toLowerCase().contains(keyword.toLowerCase()));
+        return matcher.matchesAny(person.getPhone().getLowerCaseValue());
+    }
+
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof PhoneContainsKeywordsPredicate
+                && KeywordMatcher.isNarrowing(keywords, ((PhoneContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -37,6 +48,11 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherPhoneContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
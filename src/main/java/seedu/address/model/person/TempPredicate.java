@@ -41,6 +41,11 @@ public class TempPredicate implements Predicate<Person> {
         return keywords.equals(otherTempPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -4,8 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -31,12 +37,21 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Positions of persons by ID and by lower case name. They are moved along with the persons after an insertion or
+     * removal, and only rebuilt on the next lookup after the whole list is replaced or if persons share an ID.
+     */
+    private final Map<Integer, Integer> indexesById = new HashMap<>();
+    private final Map<String, Integer> indexesByName = new HashMap<>();
+    private boolean hasDuplicateIds;
+    private boolean isIndexStale;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return containsName(toCheck.getName());
     }
 
     /**
@@ -44,14 +59,132 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsName(Name nameToCheck) {
         requireNonNull(nameToCheck);
-        return internalList.stream().anyMatch(p -> p.getName().equalsLowerCase(nameToCheck));
+        return getPersonWithName(nameToCheck).isPresent();
     }
 
     /**
      * Returns true if the list contains a person with the same ID as the given argument.
      */
     public boolean containsId(int idToCheck) {
-        return internalList.stream().anyMatch(p -> p.getId() == idToCheck);
+        return getById(idToCheck).isPresent();
+    }
+
+    /**
+     * Returns the person with the given ID, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Person> getById(int id) {
+        refreshIndex();
+        Integer index = indexesById.get(id);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the person whose name is the same (case-insensitive) as the given argument, if any.
+     */
+    private Optional<Person> getPersonWithName(Name name) {
+        refreshIndex();
+        Integer index = indexesByName.get(toKey(name));
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if it is not in the list.
+     */
+    private int indexOf(Person person) {
+        refreshIndex();
+        Integer index = indexesById.get(person.getId());
+        if (index != null && internalList.get(index).equals(person)) {
+            return index;
+        }
+        // Persons that share an ID, such as those built in tests, are not all in the index
+        return internalList.indexOf(person);
+    }
+
+    private void refreshIndex() {
+        if (!isIndexStale) {
+            return;
+        }
+        indexesById.clear();
+        indexesByName.clear();
+        hasDuplicateIds = false;
+        for (int i = 0; i < internalList.size(); i++) {
+            putIndex(internalList.get(i), i);
+        }
+        isIndexStale = false;
+    }
+
+    private void putIndex(Person person, int index) {
+        if (indexesById.putIfAbsent(person.getId(), index) != null) {
+            hasDuplicateIds = true;
+        }
+        indexesByName.putIfAbsent(toKey(person.getName()), index);
+    }
+
+    /**
+     * Updates the positions after {@code person} has been put into the list at {@code index}.
+     */
+    private void indexInsertion(Person person, int index) {
+        if (isIndexStale) {
+            return;
+        }
+        if (hasDuplicateIds) {
+            isIndexStale = true;
+            return;
+        }
+        movePositionsFrom(index + 1);
+        putIndex(person, index);
+        // The person found by an ID must be the first with that ID
+        isIndexStale = hasDuplicateIds;
+    }
+
+    /**
+     * Updates the positions after {@code person} has been removed from the list at {@code index}.
+     */
+    private void indexRemoval(Person person, int index) {
+        if (isIndexStale) {
+            return;
+        }
+        if (hasDuplicateIds) {
+            // Another person with the same ID may take its place
+            isIndexStale = true;
+            return;
+        }
+        indexesById.remove(person.getId());
+        indexesByName.remove(toKey(person.getName()));
+        movePositionsFrom(index);
+    }
+
+    /**
+     * Updates the positions after {@code replacedPerson} at {@code index} has been replaced by {@code editedPerson}.
+     */
+    private void indexReplacement(Person replacedPerson, Person editedPerson, int index) {
+        if (isIndexStale) {
+            return;
+        }
+        if (hasDuplicateIds) {
+            isIndexStale = true;
+            return;
+        }
+        indexesById.remove(replacedPerson.getId());
+        indexesByName.remove(toKey(replacedPerson.getName()));
+        putIndex(editedPerson, index);
+        isIndexStale = hasDuplicateIds;
+    }
+
+    /**
+     * Sets the positions of the persons from {@code index} to the end of the list to where they are now.
+     * Only the persons after an insertion or removal have moved, so only theirs are updated.
+     */
+    private void movePositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            indexesById.put(person.getId(), i);
+            indexesByName.put(toKey(person.getName()), i);
+        }
+    }
+
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -64,17 +197,34 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        if (!isIndexStale) {
+            putIndex(toAdd, internalList.size() - 1);
+        }
+    }
+
+    /**
+     * Adds a person to the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        indexInsertion(toAdd, index);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * Returns the person that was replaced.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -83,18 +233,27 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replacedPerson = internalList.set(index, editedPerson);
+        if (replacedPerson.getId() != editedPerson.getId() || !replacedPerson.isSamePerson(editedPerson)) {
+            indexReplacement(replacedPerson, editedPerson, index);
+        }
+        return replacedPerson;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     * Returns the person that was removed.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removedPerson = internalList.remove(index);
+        indexRemoval(removedPerson, index);
+        return removedPerson;
     }
 
     /**
@@ -102,15 +261,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public List<Person> getPersonsWithName(Name name) {
         requireNonNull(name);
-        if (this.containsName(name)) {
-            return internalList.stream().filter(p -> p.getName().equalsLowerCase(name)).toList();
-        }
-        return new ArrayList<>();
+        return getPersonWithName(name).map(List::of).orElseGet(ArrayList::new);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        isIndexStale = true;
     }
 
     /**
@@ -124,47 +281,43 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        isIndexStale = true;
     }
 
     /**
      * Assigns an event to a person.
+     * Returns the edited person, or an empty {@code Optional} if the person is not in the list or was already
+     * assigned to the event.
      */
-    public void assignEventToPerson(Person person, Event event) {
+    public Optional<Person> assignEventToPerson(Person person, Event event) {
         requireAllNonNull(person, event);
-        if (internalList.contains(person)) {
+        if (!person.checkAssignedToEvent(event) && indexOf(person) != -1) {
             Person editedPerson = new Person(person.getName(), person.getPhone(),
                     person.getEmail(), person.getAddress(),
                     person.getTags(), person.getEventIds(), person.getId());
             editedPerson.addEventId(event.getEventId());
             setPerson(person, editedPerson);
+            return Optional.of(editedPerson);
         }
+        return Optional.empty();
     }
 
     /**
      * Removes an assigned event from a person.
+     * Returns the edited person, or an empty {@code Optional} if the person is not in the list or was not assigned
+     * to the event.
      */
-    public void unassignEventFromPerson(Person person, Event event) {
+    public Optional<Person> unassignEventFromPerson(Person person, Event event) {
         requireAllNonNull(person, event);
-        if (internalList.contains(person)) {
+        if (person.checkAssignedToEvent(event) && indexOf(person) != -1) {
             Person editedPerson = new Person(person.getName(), person.getPhone(),
                     person.getEmail(), person.getAddress(),
                     person.getTags(), person.getEventIds(), person.getId());
             editedPerson.removeEventId(event.getEventId());
             setPerson(person, editedPerson);
+            return Optional.of(editedPerson);
         }
-    }
-
-    /**
-     * Removes an event from all {@code Person} objects in the address book.
-     * Used when deleting an event from the address book.
-     */
-    public void unassignEventFromAllPersons(Event event) {
-        requireNonNull(event);
-        for (Person person : internalList) {
-            if (person.checkAssignedToEvent(event)) {
-                unassignEventFromPerson(person, event);
-            }
-        }
+        return Optional.empty();
     }
 
     /**
@@ -208,11 +361,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(toKey(person.getName()))) {
+                return false;
             }
         }
         return true;
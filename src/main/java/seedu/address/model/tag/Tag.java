@@ -14,6 +14,9 @@ public class Tag {
 
     public final String tagName;
 
+    /** Lower case form of {@code tagName}, cached for case-insensitive searches. */
+    private final String lowerCaseTagName;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -23,6 +26,7 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        lowerCaseTagName = tagName.toLowerCase();
     }
 
     /**
@@ -52,6 +56,10 @@ public class Tag {
         return tagName.hashCode();
     }
 
+    public String getLowerCaseTagName() {
+        return lowerCaseTagName;
+    }
+
     /**
      * Format state as text for viewing.
      */
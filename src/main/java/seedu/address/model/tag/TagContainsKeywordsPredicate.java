@@ -1,28 +1,42 @@
 package seedu.address.model.tag;
 
 import java.util.List;
-import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.NarrowingPredicate;
 import seedu.address.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements NarrowingPredicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate matching tag names that contain any of {@code keywords}, ignoring case.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        Set<Tag> tags = person.getTags();
-        return keywords.stream()
-                .anyMatch(keyword -> tags.stream().anyMatch(tag ->
-                        tag.toString().toLowerCase().contains(keyword.toLowerCase())));
+        for (Tag tag : person.getTags()) {
+            if (matcher.matchesAny(tag.getLowerCaseTagName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof TagContainsKeywordsPredicate
+                && KeywordMatcher.isNarrowing(keywords, ((TagContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -41,6 +55,11 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherTagContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,72 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Computes SHA-256 checksums of the persons and of the events of an address book, in the order they are listed, so
+ * that two address books can be compared, for example after replaying the same commands before and after a change.
+ *
+ * Tags and event IDs are sorted first, so the checksums do not depend on the order of the sets holding them.
+ */
+public class AddressBookChecksum {
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+
+    /**
+     * Returns the checksum of the persons in {@code addressBook}, in hexadecimal.
+     */
+    public static String ofPersons(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        MessageDigest digest = newDigest();
+        for (Person person : addressBook.getPersonList()) {
+            update(digest, person.getId(), person.getName().fullName, person.getPhone().value,
+                    person.getEmail().value, person.getAddress().value,
+                    person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(",")),
+                    person.getEventIds().stream().sorted().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns the checksum of the events in {@code addressBook}, in hexadecimal.
+     */
+    public static String ofEvents(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        MessageDigest digest = newDigest();
+        for (Event event : addressBook.getEventList()) {
+            update(digest, event.getEventId(), event.getEventName().toString(),
+                    event.getEventDescription().toString(), event.getEventStartDate().toString(),
+                    event.getEventEndDate().toString());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform has to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, int id, String... fields) {
+        StringBuilder data = new StringBuilder().append(id);
+        for (String field : fields) {
+            data.append(FIELD_SEPARATOR).append(field);
+        }
+        data.append(RECORD_SEPARATOR);
+        digest.update(data.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDescription;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventName;
+import seedu.address.model.id.counter.list.IdCounterList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates any number of realistic persons and events, in the style of those from {@code SampleDataUtil}, for
+ * benchmarks and soak tests.
+ *
+ * Each person and event is generated on its own from its ID and the seed, so the same seed always gives the same
+ * data, and data of any size can be generated one record at a time in bounded memory.
+ * The events that persons attend, and their tags, follow a Zipf distribution: a few events and tags are shared by
+ * many persons, while most are shared by few.
+ */
+public class SampleDataGenerator {
+
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Aisha",
+        "Benjamin", "Chen", "Divya", "Ethan", "Farah", "Gabriel", "Hui Min", "Isaac", "Jia Hui", "Kumar", "Li Ting",
+        "Muhammad", "Nur", "Oliver", "Priya", "Qi Xuan", "Rachel", "Siti", "Tan", "Umar", "Vanessa", "Wei Jie",
+        "Xin Yi", "Yusuf", "Zoe"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh", "Teo", "Rahman", "Abdullah", "Kumar", "Singh",
+        "Pillai", "Fernandez", "Chong", "Ho", "Low"};
+    private static final String[] STREETS = {"Geylang Street 29", "Lorong 3 Serangoon Gardens",
+        "Ang Mo Kio Street 74", "Serangoon Gardens Street 26", "Tampines Street 20", "Aljunied Street 85",
+        "Clementi Ave 2", "Jurong West Ave 6", "Bedok North Road", "Yishun Ring Road", "Bukit Batok Street 31",
+        "Toa Payoh Lorong 1", "Pasir Ris Drive 6", "Woodlands Ave 5", "Hougang Ave 8", "Punggol Field"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "u.nus.edu", "gmail.com", "outlook.com"};
+    private static final String[] TAG_NAMES = {"friends", "colleagues", "neighbours", "family", "classmates",
+        "committee", "exco", "member", "alumni", "freshman", "volunteer", "treasurer", "secretary", "president",
+        "owesMoney", "logistics", "publicity", "welfare", "sponsor", "mentor"};
+    private static final String[] EVENT_TOPICS = {"CS2103T", "Orbital", "Hackathon", "Freshmen", "Welfare",
+        "Recruitment", "Alumni", "Sports", "Music", "Photography", "Robotics", "Debate", "Community", "Career"};
+    private static final String[] EVENT_KINDS = {"Meeting", "Workshop", "Briefing", "Social", "Training",
+        "Talk", "Camp", "Night", "Outing", "Fair"};
+    private static final LocalDate FIRST_EVENT_DATE = LocalDate.parse("2024-01-01");
+    private static final int EVENT_DAYS = 730;
+    private static final int MAX_EVENT_LENGTH_DAYS = 3;
+
+    // Large odd constants that spread the IDs of persons and events over different parts of the seed space
+    private static final long PERSON_SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final long EVENT_SEED_MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+
+    private final long seed;
+    private final int personCount;
+    private final int eventCount;
+    private final int tagsPerPerson;
+    private final int assignmentsPerPerson;
+    private final ZipfDistribution eventDistribution;
+    private final ZipfDistribution tagDistribution;
+
+    /**
+     * Creates a generator of {@code personCount} persons and {@code eventCount} events from {@code seed}, where each
+     * person has {@code tagsPerPerson} tags and attends {@code assignmentsPerPerson} events, or every event if there
+     * are fewer. The lower the rank of an event or tag, the more likely it is to be picked, in proportion to
+     * 1 / rank<sup>{@code zipfExponent}</sup>.
+     */
+    public SampleDataGenerator(long seed, int personCount, int eventCount, int tagsPerPerson,
+            int assignmentsPerPerson, double zipfExponent) {
+        checkArgument(personCount >= 0 && eventCount >= 0, "Counts of persons and events cannot be negative");
+        checkArgument(tagsPerPerson >= 0 && assignmentsPerPerson >= 0,
+                "Counts of tags and assignments per person cannot be negative");
+        checkArgument(zipfExponent >= 0, "Zipf exponent cannot be negative");
+        this.seed = seed;
+        this.personCount = personCount;
+        this.eventCount = eventCount;
+        this.tagsPerPerson = tagsPerPerson;
+        this.assignmentsPerPerson = Math.min(assignmentsPerPerson, eventCount);
+        eventDistribution = new ZipfDistribution(eventCount, zipfExponent);
+        tagDistribution = new ZipfDistribution(Math.max(TAG_NAMES.length, tagsPerPerson), zipfExponent);
+    }
+
+    /**
+     * Creates a generator as above, with a Zipf exponent of {@value #DEFAULT_ZIPF_EXPONENT}.
+     */
+    public SampleDataGenerator(long seed, int personCount, int eventCount, int tagsPerPerson,
+            int assignmentsPerPerson) {
+        this(seed, personCount, eventCount, tagsPerPerson, assignmentsPerPerson, DEFAULT_ZIPF_EXPONENT);
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the ID counters of an address book with all the persons and events of this generator.
+     */
+    public IdCounterList getIdCounterList() {
+        return new IdCounterList(personCount, eventCount);
+    }
+
+    /**
+     * Returns the person with ID {@code id}, which is from 1 to the number of persons.
+     */
+    public Person getPerson(int id) {
+        checkArgument(id >= 1 && id <= personCount, "Person ID out of range: " + id);
+        SplittableRandom random = new SplittableRandom(seed ^ (id * PERSON_SEED_MULTIPLIER));
+
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        // The ID keeps names unique, as two persons cannot have the same name
+        Name name = new Name(firstName + " " + lastName + " " + id);
+        Phone phone = new Phone((random.nextBoolean() ? "9" : "8") + (1_000_000 + random.nextInt(9_000_000)));
+        Email email = new Email(firstName.toLowerCase(Locale.ROOT).replace(' ', '.') + "."
+                + lastName.toLowerCase(Locale.ROOT) + id + "@" + pick(EMAIL_DOMAINS, random));
+        Address address = new Address(String.format(Locale.ROOT, "Blk %d %s, #%02d-%02d", 1 + random.nextInt(999),
+                pick(STREETS, random), 1 + random.nextInt(25), 1 + random.nextInt(99)));
+
+        Set<Tag> tags = sampleDistinct(tagDistribution, tagsPerPerson, random).stream()
+                .map(rank -> new Tag(rank <= TAG_NAMES.length ? TAG_NAMES[rank - 1] : "tag" + rank))
+                .collect(Collectors.toSet());
+        Set<Integer> eventIds = sampleDistinct(eventDistribution, assignmentsPerPerson, random);
+        return new Person(name, phone, email, address, tags, eventIds, id);
+    }
+
+    /**
+     * Returns the event with ID {@code id}, which is from 1 to the number of events.
+     * Events with lower IDs are attended by more persons.
+     */
+    public Event getEvent(int id) {
+        checkArgument(id >= 1 && id <= eventCount, "Event ID out of range: " + id);
+        SplittableRandom random = new SplittableRandom(seed ^ (id * EVENT_SEED_MULTIPLIER));
+
+        String topic = pick(EVENT_TOPICS, random);
+        String kind = pick(EVENT_KINDS, random);
+        // The ID keeps names unique, as two events cannot have the same name
+        EventName name = new EventName(topic + " " + kind + " " + id);
+        EventDescription description = new EventDescription(kind + " for " + topic);
+        LocalDate from = FIRST_EVENT_DATE.plusDays(random.nextInt(EVENT_DAYS));
+        LocalDate to = from.plusDays(random.nextInt(MAX_EVENT_LENGTH_DAYS + 1));
+        return new Event(name, description, new EventDuration(from, to), id);
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns {@code count} different ranks from {@code distribution}, or all of its ranks if it has fewer.
+     * If picking at random keeps giving ranks that were already picked, the lowest ranks not yet picked are used.
+     */
+    private static Set<Integer> sampleDistinct(ZipfDistribution distribution, int count, SplittableRandom random) {
+        int target = Math.min(count, distribution.size());
+        Set<Integer> ranks = new LinkedHashSet<>();
+        for (int attempt = 0; ranks.size() < target && attempt < target * 8; attempt++) {
+            ranks.add(distribution.sample(random));
+        }
+        for (int rank = 1; ranks.size() < target; rank++) {
+            ranks.add(rank);
+        }
+        return ranks;
+    }
+
+    /**
+     * A Zipf distribution over the ranks from 1 to {@code size}, sampled by a binary search of its cumulative
+     * probabilities.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeProbabilities;
+
+        ZipfDistribution(int size, double exponent) {
+            cumulativeProbabilities = new double[size];
+            double total = 0;
+            for (int rank = 1; rank <= size; rank++) {
+                total += 1 / Math.pow(rank, exponent);
+                cumulativeProbabilities[rank - 1] = total;
+            }
+            for (int i = 0; i < size; i++) {
+                cumulativeProbabilities[i] /= total;
+            }
+        }
+
+        int size() {
+            return cumulativeProbabilities.length;
+        }
+
+        int sample(SplittableRandom random) {
+            double value = random.nextDouble();
+            int low = 0;
+            int high = cumulativeProbabilities.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulativeProbabilities[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low + 1;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package seedu.address.server;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.storage.JsonAdaptedEvent;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * Serves the persons and events of the address book as JSON over HTTP, and executes commands sent by clients.
+ *
+ * <ul>
+ *     <li>{@code GET /api/persons[?name=KEYWORD]} and {@code GET /api/events[?name=KEYWORD]} list the persons or
+ *     events, optionally only those whose name contains {@code KEYWORD}, ignoring case.</li>
+ *     <li>{@code GET /api/persons/ID} and {@code GET /api/events/ID} return the person or event with that ID.</li>
+ *     <li>{@code POST /api/commands} with a body of {@code {"command": "COMMAND_TEXT"}} and a
+ *     {@code Content-Type} of {@code application/json} executes the command.</li>
+ * </ul>
+ *
+ * The API is only meant for programs on the same computer, not for web pages. Requests with an {@code Origin}
+ * header, which browsers add to requests from web pages, are rejected with {@code 403}. Requiring JSON commands also
+ * stops web pages from sending commands without asking the server first, which it never allows.
+ *
+ * Requests are handled concurrently by a bounded pool of threads. Requests that arrive while all threads are busy
+ * and the queue is full are answered with {@code 503} straight away. Reads are answered from the latest
+ * {@code AddressBookSnapshot}, so they never wait for commands. Commands are passed to a single writer, which
+ * executes them one at a time, as the model may only be modified by one thread. Each command is executed on its own
+ * with {@link Logic#executeStandalone(String)}, so clients cannot take part in a transaction or check-in session of
+ * the app.
+ */
+public class ApiServer {
+
+    public static final String PATH_PERSONS = "/api/persons";
+    public static final String PATH_EVENTS = "/api/events";
+    public static final String PATH_COMMANDS = "/api/commands";
+
+    public static final String MESSAGE_NOT_FOUND = "Not found";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed";
+    public static final String MESSAGE_CROSS_ORIGIN = "Requests from web pages are not allowed";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "Content-Type must be application/json";
+    public static final String MESSAGE_MISSING_COMMAND = "Request body must be a JSON object with a \"command\"";
+    public static final String MESSAGE_TIMEOUT = "The command was not executed, as it could not be started in time";
+    public static final String MESSAGE_INTERRUPTED = "The command was started, but the server stopped waiting for it";
+    public static final String MESSAGE_OVERLOADED = "Too many requests, try again later";
+
+    public static final int DEFAULT_READ_THREADS = Runtime.getRuntime().availableProcessors();
+    /** Number of requests that can wait for a thread before new requests are rejected. */
+    public static final int REQUEST_QUEUE_CAPACITY = 64;
+    /** Time a command may wait for the writer to start it before it is cancelled. */
+    public static final long COMMAND_TIMEOUT_MILLIS = 30_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    /** Whether the request being handled on this thread was rejected by the pool of request threads. */
+    private static final ThreadLocal<Boolean> isRejectedRequest = ThreadLocal.withInitial(() -> false);
+
+    private final Logic logic;
+    private final Executor writer;
+    private final long commandTimeoutMillis;
+    private final HttpServer server;
+    private final ThreadPoolExecutor requestThreads;
+
+    /**
+     * Creates a server for {@code logic} on {@code port} of the loopback address, or any free port if
+     * {@code port} is 0. Commands are executed on {@code writer}, which must run one task at a time, such as the
+     * JavaFX application thread. The server does not accept requests until {@link #start()} is called.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Executor writer, int port, int readThreads) throws IOException {
+        this(logic, writer, port, readThreads, COMMAND_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates a server as above, which cancels commands that {@code writer} has not started within
+     * {@code commandTimeoutMillis}.
+     */
+    ApiServer(Logic logic, Executor writer, int port, int readThreads, long commandTimeoutMillis) throws IOException {
+        requireAllNonNull(logic, writer);
+        this.logic = logic;
+        this.writer = writer;
+        this.commandTimeoutMillis = commandTimeoutMillis;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        requestThreads = new ThreadPoolExecutor(readThreads, readThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REQUEST_QUEUE_CAPACITY), ApiServer::rejectRequest);
+        server.setExecutor(requestThreads);
+        server.createContext(PATH_PERSONS, exchange -> handle(exchange, this::getPersons));
+        server.createContext(PATH_EVENTS, exchange -> handle(exchange, this::getEvents));
+        server.createContext(PATH_COMMANDS, exchange -> handle(exchange, this::executeCommand));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests, waiting up to a second for requests in progress to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        requestThreads.shutdown();
+        logger.info("Stopped serving the API");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private Response getPersons(HttpExchange exchange) {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            return Response.error(405, MESSAGE_METHOD_NOT_ALLOWED);
+        }
+        AddressBookSnapshot snapshot = logic.getSnapshot();
+        return get(exchange, PATH_PERSONS, snapshot, snapshot.getPersonList(), snapshot::findPersonById,
+                person -> person.getName().fullName, JsonAdaptedPerson::new, "persons");
+    }
+
+    private Response getEvents(HttpExchange exchange) {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            return Response.error(405, MESSAGE_METHOD_NOT_ALLOWED);
+        }
+        AddressBookSnapshot snapshot = logic.getSnapshot();
+        return get(exchange, PATH_EVENTS, snapshot, snapshot.getEventList(), snapshot::findEventById,
+                event -> event.getEventName().toString(), JsonAdaptedEvent::new, "events");
+    }
+
+    /**
+     * Returns the element found by {@code findById} for the ID at the end of the request path, or all elements of
+     * {@code elements} whose name contains the {@code name} query parameter, or all elements if neither is given.
+     */
+    private <T> Response get(HttpExchange exchange, String basePath, AddressBookSnapshot snapshot, List<T> elements,
+            IntFunction<Optional<T>> findById, Function<T, String> getName, Function<T, Object> toJson,
+            String listName) {
+        String path = exchange.getRequestURI().getPath();
+        if (path.length() > basePath.length() + 1) {
+            Optional<Integer> id = parseId(path.substring(basePath.length() + 1));
+            return id.flatMap(findById::apply)
+                    .map(element -> new Response(200, toJson.apply(element)))
+                    .orElseGet(() -> Response.error(404, MESSAGE_NOT_FOUND));
+        }
+        if (!path.equals(basePath) && !path.equals(basePath + "/")) {
+            return Response.error(404, MESSAGE_NOT_FOUND);
+        }
+
+        Predicate<T> filter = getQueryParameter(exchange, "name")
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .map(keyword -> (Predicate<T>) element ->
+                        getName.apply(element).toLowerCase(Locale.ROOT).contains(keyword))
+                .orElse(element -> true);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", snapshot.getVersion());
+        body.put(listName, elements.stream().filter(filter).map(toJson).toList());
+        return new Response(200, body);
+    }
+
+    private Response executeCommand(HttpExchange exchange) {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            return Response.error(405, MESSAGE_METHOD_NOT_ALLOWED);
+        }
+        if (!isJson(exchange)) {
+            return Response.error(415, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        }
+        Optional<String> commandText = readCommandText(exchange);
+        if (commandText.isEmpty()) {
+            return Response.error(400, MESSAGE_MISSING_COMMAND);
+        }
+
+        // Claimed either by the writer to start the command, or by this thread to cancel it, whichever is first
+        AtomicBoolean isClaimed = new AtomicBoolean();
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            if (!isClaimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(logic.executeStandalone(commandText.get()));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            CommandResult commandResult;
+            try {
+                commandResult = result.get(commandTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (isClaimed.compareAndSet(false, true)) {
+                    return Response.error(503, MESSAGE_TIMEOUT);
+                }
+                // The command has started, so its result is reported once it is done
+                commandResult = result.get();
+            }
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("feedback", commandResult.getFeedbackToUser());
+            body.put("version", logic.getSnapshot().getVersion());
+            return new Response(200, body);
+        } catch (ExecutionException e) {
+            return Response.error(400, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return isClaimed.compareAndSet(false, true)
+                    ? Response.error(503, MESSAGE_TIMEOUT)
+                    : Response.error(500, MESSAGE_INTERRUPTED);
+        }
+    }
+
+    /**
+     * Handles {@code request} on the calling thread, marked as rejected so that it is answered with {@code 503}
+     * without doing any of its work.
+     */
+    private static void rejectRequest(Runnable request, ThreadPoolExecutor executor) {
+        isRejectedRequest.set(true);
+        try {
+            request.run();
+        } finally {
+            isRejectedRequest.set(false);
+        }
+    }
+
+    private void handle(HttpExchange exchange, RequestHandler handler) throws IOException {
+        Response response;
+        try {
+            if (isRejectedRequest.get()) {
+                response = Response.error(503, MESSAGE_OVERLOADED);
+            } else if (exchange.getRequestHeaders().containsKey("Origin")) {
+                response = Response.error(403, MESSAGE_CROSS_ORIGIN);
+            } else {
+                response = handler.handle(exchange);
+            }
+        } catch (RuntimeException | IOException e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            response = Response.error(500, e.getMessage());
+        }
+
+        byte[] body = JsonUtil.toJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    /**
+     * Returns true if the body of the request is declared to be JSON, with or without parameters such as the charset.
+     */
+    private static boolean isJson(HttpExchange exchange) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null) {
+            return false;
+        }
+        String mediaType = contentType.split(";", 2)[0].trim();
+        return mediaType.equalsIgnoreCase("application/json");
+    }
+
+    private static Optional<String> readCommandText(HttpExchange exchange) {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            Map<?, ?> request = JsonUtil.fromJsonString(
+                    new String(requestBody.readAllBytes(), StandardCharsets.UTF_8), Map.class);
+            Object commandText = request == null ? null : request.get("command");
+            return commandText instanceof String ? Optional.of((String) commandText) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Integer> parseId(String id) {
+        try {
+            return Optional.of(Integer.parseInt(id));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> getQueryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return Optional.empty();
+        }
+        for (String parameter : query.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            if (nameAndValue.length == 2 && nameAndValue[0].equals(name)) {
+                return Optional.of(URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Handles a request to one path of the API.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * The status code and JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, Map.of("error", String.valueOf(message)));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book on a background thread, once for every batch of changes instead of after every change.
+ * A save is started once {@code batchSize} changes have been recorded, or {@code delayMillis} after the first
+ * change of a batch, whichever comes first. At most one save waits to be started at any time, so changes recorded
+ * while a save is waiting or running are saved together by the next one.
+ *
+ * The address book to save is taken from {@code source} on the background thread, so it must be safe to read from
+ * any thread, such as the latest {@code AddressBookSnapshot}.
+ */
+public class BatchedAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BatchedAddressBookSaver.class);
+
+    private final Storage storage;
+    private final Supplier<? extends ReadOnlyAddressBook> source;
+    private final int batchSize;
+    private final long delayMillis;
+    private final ScheduledExecutorService saver;
+
+    private final AtomicInteger unsavedChangeCount = new AtomicInteger();
+    /** The save that has not been started yet, if any. Guarded by this saver. */
+    private ScheduledFuture<?> pendingSave;
+    private volatile IOException lastFailure;
+
+    /**
+     * Creates a saver that saves the address book given by {@code source} to {@code storage}.
+     */
+    public BatchedAddressBookSaver(Storage storage, Supplier<? extends ReadOnlyAddressBook> source, int batchSize,
+            long delayMillis) {
+        requireAllNonNull(storage, source);
+        if (batchSize < 1 || delayMillis < 0) {
+            throw new IllegalArgumentException("Batch size must be positive and delay cannot be negative");
+        }
+        this.storage = storage;
+        this.source = source;
+        this.batchSize = batchSize;
+        this.delayMillis = delayMillis;
+        saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Records that the address book has changed, saving it soon after without waiting for the save to finish.
+     * The change must already be visible through {@code source}.
+     */
+    public void recordChange() {
+        boolean isBatchFull = unsavedChangeCount.incrementAndGet() >= batchSize;
+        synchronized (this) {
+            if (pendingSave == null) {
+                pendingSave = saver.schedule(this::save, isBatchFull ? 0 : delayMillis, TimeUnit.MILLISECONDS);
+            } else if (isBatchFull && pendingSave.getDelay(TimeUnit.MILLISECONDS) > 0 && pendingSave.cancel(false)) {
+                // Brings the save waiting for the delay forward
+                pendingSave = saver.schedule(this::save, 0, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Returns the error of the last background save if it failed and has not been reported yet.
+     */
+    public Optional<IOException> takeFailure() {
+        IOException failure = lastFailure;
+        lastFailure = null;
+        return Optional.ofNullable(failure);
+    }
+
+    /**
+     * Saves all recorded changes, waiting until they have been saved.
+     *
+     * @throws IOException if the changes could not be saved.
+     */
+    public void flush() throws IOException {
+        try {
+            saver.submit(this::save).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        Optional<IOException> failure = takeFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Saves all recorded changes and stops the background thread.
+     *
+     * @throws IOException if the changes could not be saved.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            saver.shutdownNow();
+        }
+    }
+
+    private void save() {
+        // Cleared before reading the source, so that changes recorded from now on are saved by another save
+        synchronized (this) {
+            if (pendingSave != null) {
+                // If this save was started by a flush, the pending one has nothing left to save
+                pendingSave.cancel(false);
+                pendingSave = null;
+            }
+        }
+        int changeCount = unsavedChangeCount.getAndSet(0);
+        if (changeCount == 0) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(source.get());
+            lastFailure = null;
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background " + StringUtil.getDetails(e));
+            lastFailure = e;
+            // The changes are saved again with the next batch
+            unsavedChangeCount.addAndGet(changeCount);
+        }
+    }
+}
@@ -3,11 +3,14 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.StorageReadEvent;
+import seedu.address.commons.core.jfr.StorageWriteEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
@@ -44,18 +47,33 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        ReadOnlyAddressBook addressBook = null;
+        boolean isFailed = true;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                isFailed = false;
+                return Optional.empty();
+            }
+
+            try {
+                addressBook = jsonAddressBook.get().toModelType();
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            isFailed = false;
+            return Optional.of(addressBook);
+        } finally {
+            // Committed even if reading fails, so that slow failed reads show up too
+            if (event.shouldCommit()) {
+                event.setResult(filePath.toString(), getFileSize(filePath), countPersons(addressBook),
+                        countEvents(addressBook), isFailed);
+                event.commit();
+            }
         }
     }
 
@@ -73,8 +91,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        boolean isFailed = true;
+        try {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+            isFailed = false;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setResult(filePath.toString(), getFileSize(filePath),
+                        isFailed ? 0 : countPersons(addressBook), isFailed ? 0 : countEvents(addressBook), isFailed);
+                event.commit();
+            }
+        }
+    }
+
+    private static int countPersons(ReadOnlyAddressBook addressBook) {
+        return addressBook == null ? 0 : addressBook.getPersonList().size();
+    }
+
+    private static int countEvents(ReadOnlyAddressBook addressBook) {
+        return addressBook == null ? 0 : addressBook.getEventList().size();
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath} in bytes, or -1 if it cannot be found.
+     */
+    private static long getFileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
     }
 
 }
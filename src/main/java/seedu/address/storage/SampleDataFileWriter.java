@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Writes the persons and events of a {@code SampleDataGenerator} to a file, one at a time, so that files with
+ * millions of persons can be written without holding them in memory.
+ */
+public class SampleDataFileWriter {
+
+    /**
+     * Writes all persons and events of {@code generator} to {@code filePath} as a JSON address book, in the same
+     * format as {@code JsonAddressBookStorage}.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void writeJson(SampleDataGenerator generator, Path filePath) throws IOException {
+        requireAllNonNull(generator, filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+                JsonGenerator json = JsonUtil.createJsonGenerator(writer)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("persons");
+            for (int id = 1; id <= generator.getPersonCount(); id++) {
+                json.writeObject(new JsonAdaptedPerson(generator.getPerson(id)));
+            }
+            json.writeEndArray();
+            json.writeArrayFieldStart("events");
+            for (int id = 1; id <= generator.getEventCount(); id++) {
+                json.writeObject(new JsonAdaptedEvent(generator.getEvent(id)));
+            }
+            json.writeEndArray();
+            json.writeObjectField("idCounterList", new JsonAdaptedIdCounterList(generator.getIdCounterList()));
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes all persons of {@code generator} to {@code filePath} as CSV, in the format read by the {@code import}
+     * command. Events cannot be imported, so they are left out.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void writeCsv(SampleDataGenerator generator, Path filePath) throws IOException {
+        requireAllNonNull(generator, filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            writer.write(ImportCommand.COLUMN_HEADERS);
+            writer.newLine();
+            for (int id = 1; id <= generator.getPersonCount(); id++) {
+                writer.write(generator.getPerson(id).toCsvFormat());
+                writer.newLine();
+            }
+        }
+    }
+}
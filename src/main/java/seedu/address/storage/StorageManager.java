@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.LatencyMetrics;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -60,8 +61,13 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        long startTime = System.nanoTime();
+        try {
+            return addressBookStorage.readAddressBook(filePath);
+        } finally {
+            LatencyMetrics.getInstance().record(LatencyMetrics.STORAGE_LOAD, System.nanoTime() - startTime);
+        }
     }
 
     @Override
@@ -71,8 +77,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long startTime = System.nanoTime();
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        } finally {
+            LatencyMetrics.getInstance().record(LatencyMetrics.STORAGE_SAVE, System.nanoTime() - startTime);
+        }
     }
 
 }
@@ -0,0 +1,116 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.animation.AnimationTimer;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.jfr.UiRefreshEvent;
+import seedu.address.commons.core.metrics.LatencyMetrics;
+
+/**
+ * A copy of a list to display, which is brought up to date with its source at most once per animation pulse.
+ *
+ * Commands such as {@code import} or {@code delete_event} change the source list many times in a row. Instead of
+ * passing each of these changes on to the list view, which would lay itself out again after each of them, the copy
+ * waits for the next pulse and then applies all of them as a single change, covering only the range of elements that
+ * differ. The time the list view takes to handle each such change is recorded as {@link LatencyMetrics#UI_REFRESH}.
+ * Must only be used on the JavaFX application thread.
+ */
+public class CoalescedList<E> extends ObservableListBase<E> {
+
+    private final ObservableList<? extends E> source;
+    private final Consumer<Runnable> pulseScheduler;
+    private final List<E> elements;
+    private boolean isUpdateScheduled;
+
+    /**
+     * Creates a copy of {@code source} that is updated on the next animation pulse after {@code source} changes.
+     */
+    public CoalescedList(ObservableList<? extends E> source) {
+        this(source, CoalescedList::runOnNextPulse);
+    }
+
+    /**
+     * Creates a copy of {@code source} that is updated by the action given to {@code pulseScheduler} whenever
+     * {@code source} changes.
+     */
+    CoalescedList(ObservableList<? extends E> source, Consumer<Runnable> pulseScheduler) {
+        requireNonNull(source);
+        requireNonNull(pulseScheduler);
+        this.source = source;
+        this.pulseScheduler = pulseScheduler;
+        elements = new ArrayList<>(source);
+        source.addListener((ListChangeListener<E>) change -> scheduleUpdate());
+    }
+
+    private static void runOnNextPulse(Runnable action) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                action.run();
+            }
+        }.start();
+    }
+
+    private void scheduleUpdate() {
+        if (!isUpdateScheduled) {
+            isUpdateScheduled = true;
+            pulseScheduler.accept(this::update);
+        }
+    }
+
+    /**
+     * Replaces the elements that differ from the source, between the longest common prefix and suffix, as one
+     * change.
+     */
+    private void update() {
+        isUpdateScheduled = false;
+        int commonSize = Math.min(elements.size(), source.size());
+        int prefixSize = 0;
+        while (prefixSize < commonSize && elements.get(prefixSize) == source.get(prefixSize)) {
+            prefixSize++;
+        }
+        int suffixSize = 0;
+        while (suffixSize < commonSize - prefixSize
+                && elements.get(elements.size() - 1 - suffixSize) == source.get(source.size() - 1 - suffixSize)) {
+            suffixSize++;
+        }
+
+        List<E> replacedElements = elements.subList(prefixSize, elements.size() - suffixSize);
+        List<? extends E> newElements = source.subList(prefixSize, source.size() - suffixSize);
+        if (replacedElements.isEmpty() && newElements.isEmpty()) {
+            return;
+        }
+        UiRefreshEvent event = new UiRefreshEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        List<E> removed = new ArrayList<>(replacedElements);
+        beginChange();
+        replacedElements.clear();
+        elements.addAll(prefixSize, newElements);
+        nextReplace(prefixSize, prefixSize + newElements.size(), removed);
+        endChange();
+        LatencyMetrics.getInstance().record(LatencyMetrics.UI_REFRESH, System.nanoTime() - startTime);
+        if (event.shouldCommit()) {
+            event.setResult(removed.size(), newElements.size(), elements.size());
+            event.commit();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+}
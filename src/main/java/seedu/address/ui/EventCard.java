@@ -8,12 +8,15 @@ import seedu.address.model.event.Event;
 
 /**
  * A UI component that displays information of a {@code Event}.
+ * The same card can display different events one after another, so that list cells load it only once.
  */
 public class EventCard extends UiPart<Region> {
 
     private static final String FXML = "EventListCard.fxml";
 
-    public final Event event;
+    private Event event;
+    private int displayedIndex;
+    private int attendanceCount;
 
     @FXML
     private HBox cardPane;
@@ -27,18 +30,56 @@ public class EventCard extends UiPart<Region> {
     private Label eventFrom;
     @FXML
     private Label eventTo;
+    @FXML
+    private Label attendance;
 
     /**
-     * Creates a {@code EventCard} with the given {@code Event} and index to display.
+     * Creates an empty {@code EventCard}, to be given an event to display with {@link #setEvent(Event, int, int)}.
      */
-    public EventCard(Event event, int displayedIndex) {
+    public EventCard() {
         super(FXML);
+    }
+
+    /**
+     * Creates a {@code EventCard} with the given {@code Event}, index and number of persons attending to display.
+     */
+    public EventCard(Event event, int displayedIndex, int attendanceCount) {
+        this();
+        setEvent(event, displayedIndex, attendanceCount);
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Displays {@code event} with {@code displayedIndex} and {@code attendanceCount} instead of the event displayed
+     * before.
+     */
+    public void setEvent(Event event, int displayedIndex, int attendanceCount) {
+        if (event == this.event && displayedIndex == this.displayedIndex && attendanceCount == this.attendanceCount) {
+            return;
+        }
         this.event = event;
+        this.displayedIndex = displayedIndex;
+        this.attendanceCount = attendanceCount;
         id.setText(displayedIndex + ". ");
         eventName.setText(event.getEventName().eventName);
         eventDescription.setText(event.getEventDescription().eventDescription);
         eventFrom.setText("From: " + event.getEventStartDate().toString());
         eventTo.setText("To: " + event.getEventEndDate().toString());
+        attendance.setText("Attending: " + attendanceCount);
+    }
+
+    /**
+     * Displays {@code attendanceCount} as the number of persons attending the event displayed.
+     */
+    public void setAttendanceCount(int attendanceCount) {
+        if (attendanceCount == this.attendanceCount) {
+            return;
+        }
+        this.attendanceCount = attendanceCount;
+        attendance.setText("Attending: " + attendanceCount);
     }
 
 }
@@ -1,8 +1,13 @@
 package seedu.address.ui;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -21,19 +26,48 @@ public class EventListPanel extends UiPart<Region> {
     @FXML
     private ListView<Event> eventListView;
 
+    private final ObservableMap<Integer, Integer> attendanceCounts;
+    /** The cells created for {@code eventListView}, which it may discard at any time. */
+    private final Set<EventListViewCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
+
     /**
-     * Creates a {@code EventListPanel} with the given {@code ObservableList}.
+     * Creates a {@code EventListPanel} with the given {@code ObservableList} and number of persons assigned to each
+     * event ID.
      */
-    public EventListPanel(ObservableList<Event> eventList) {
+    public EventListPanel(ObservableList<Event> eventList, ObservableMap<Integer, Integer> attendanceCounts) {
         super(FXML);
+        this.attendanceCounts = attendanceCounts;
         eventListView.setItems(eventList);
-        eventListView.setCellFactory(listView -> new EventListViewCell());
+        eventListView.setCellFactory(listView -> {
+            EventListViewCell cell = new EventListViewCell();
+            cells.add(cell);
+            return cell;
+        });
+        attendanceCounts.addListener((MapChangeListener<Integer, Integer>) change ->
+                updateAttendanceCount(change.getKey()));
+    }
+
+    /**
+     * Updates the number of persons attending in the cells that display the event with {@code eventId}.
+     * The list view only has cells for the rows that are visible, so the other cells are left alone.
+     */
+    private void updateAttendanceCount(int eventId) {
+        int attendanceCount = attendanceCounts.getOrDefault(eventId, 0);
+        for (EventListViewCell cell : cells) {
+            Event event = cell.getItem();
+            if (!cell.isEmpty() && event != null && event.getEventId() == eventId) {
+                cell.showAttendanceCount(attendanceCount);
+            }
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Event} using a {@code EventCard}.
+     * Each cell loads its card once, and reuses it for every event it displays while scrolling.
      */
     class EventListViewCell extends ListCell<Event> {
+        private EventCard eventCard;
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
@@ -42,9 +76,18 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                int attendanceCount = attendanceCounts.getOrDefault(event.getEventId(), 0);
+                if (eventCard == null) {
+                    eventCard = new EventCard();
+                }
+                eventCard.setEvent(event, getIndex() + 1, attendanceCount);
+                setGraphic(eventCard.getRoot());
             }
         }
+
+        void showAttendanceCount(int attendanceCount) {
+            eventCard.setAttendanceCount(attendanceCount);
+        }
     }
 
 }
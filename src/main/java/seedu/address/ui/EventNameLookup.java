@@ -0,0 +1,132 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Resolves the event IDs of persons to the names of the events, for display on person cards.
+ *
+ * Events are looked up by ID in a map, and the names found for each person are remembered for the persons displayed
+ * most recently, so that scrolling back and forth does not resolve them again. When an event is added, edited or
+ * deleted, the map is rebuilt on the next lookup, and only the names remembered for persons assigned to that event
+ * are forgotten.
+ */
+public class EventNameLookup {
+
+    /** Number of persons whose event names are remembered, a few screens' worth of cards. */
+    static final int MEMO_CAPACITY = 256;
+
+    private final ObservableList<Event> events;
+    private final Map<Integer, Event> eventsById = new HashMap<>();
+    private boolean isEventsByIdStale = true;
+
+    /** Event names by person ID, together with the {@code Person} they were resolved for. */
+    private final Map<Integer, PersonEventNames> memo = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, PersonEventNames> eldest) {
+            return size() > MEMO_CAPACITY;
+        }
+    };
+
+    /**
+     * Creates an {@code EventNameLookup} over all the events in the address book.
+     */
+    public EventNameLookup(ObservableList<Event> events) {
+        requireNonNull(events);
+        this.events = events;
+        events.addListener((ListChangeListener<Event>) change -> invalidate(getChangedEventIds(change)));
+    }
+
+    /**
+     * Returns the IDs of the events added, removed or replaced by {@code change}, whose names persons may now have
+     * to show differently. Reordering events changes no names, so it is left out.
+     */
+    static Set<Integer> getChangedEventIds(ListChangeListener.Change<? extends Event> change) {
+        Set<Integer> eventIds = new HashSet<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(event -> eventIds.add(event.getEventId()));
+            change.getAddedSubList().forEach(event -> eventIds.add(event.getEventId()));
+        }
+        change.reset();
+        return eventIds;
+    }
+
+    /**
+     * Returns true if {@code person} is assigned to any of the events with {@code eventIds}.
+     */
+    static boolean isAssignedToAny(Person person, Set<Integer> eventIds) {
+        return !eventIds.isEmpty() && person.getEventIds().stream().anyMatch(eventIds::contains);
+    }
+
+    /**
+     * Returns the names of the events {@code person} is assigned to, sorted alphabetically.
+     * The same list is returned for the same {@code Person} until an event changes.
+     * IDs of events that are not in the address book are left out.
+     */
+    public List<String> getEventNames(Person person) {
+        requireNonNull(person);
+        PersonEventNames memoized = memo.get(person.getId());
+        if (memoized != null && memoized.person == person) {
+            return memoized.eventNames;
+        }
+        List<String> eventNames = resolveEventNames(person);
+        memo.put(person.getId(), new PersonEventNames(person, eventNames));
+        return eventNames;
+    }
+
+    private List<String> resolveEventNames(Person person) {
+        if (person.getEventIds().isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Event> eventsById = getEventsById();
+        return person.getEventIds().stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .map(event -> event.getEventName().toString())
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+
+    private Map<Integer, Event> getEventsById() {
+        if (isEventsByIdStale) {
+            eventsById.clear();
+            events.forEach(event -> eventsById.putIfAbsent(event.getEventId(), event));
+            isEventsByIdStale = false;
+        }
+        return eventsById;
+    }
+
+    private void invalidate(Set<Integer> changedEventIds) {
+        if (changedEventIds.isEmpty()) {
+            return;
+        }
+        isEventsByIdStale = true;
+        memo.values().removeIf(memoized -> isAssignedToAny(memoized.person, changedEventIds));
+    }
+
+    private static class PersonEventNames {
+        private final Person person;
+        private final List<String> eventNames;
+
+        PersonEventNames(Person person, List<String> eventNames) {
+            this.person = person;
+            this.eventNames = eventNames;
+        }
+    }
+}
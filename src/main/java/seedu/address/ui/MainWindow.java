@@ -2,8 +2,10 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.CheckMenuItem;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -12,10 +14,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.LatencyMetrics;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -32,6 +36,9 @@ public class MainWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private PersonTablePanel personTablePanel;
+    private ObservableList<Person> displayedPersons;
+    private boolean showPersonTable;
     private EventListPanel eventListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
@@ -42,6 +49,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private MenuItem helpMenuItem;
 
+    @FXML
+    private CheckMenuItem personTableMenuItem;
+
     @FXML
     private StackPane personListPanelPlaceholder;
 
@@ -78,6 +88,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
+        setAccelerator(personTableMenuItem, KeyCombination.valueOf("F2"));
     }
 
     /**
@@ -114,16 +125,20 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        // Commands that change many elements at once are shown with one layout pass
+        displayedPersons = new CoalescedList<>(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(displayedPersons, logic.getAddressBook().getEventList());
+        setShowPersonTable(logic.getGuiSettings().isShowPersonTable());
 
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(new CoalescedList<>(logic.getFilteredEventList()),
+                logic.getEventAttendanceCounts());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                LatencyMetrics.getInstance());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -152,6 +167,27 @@ public class MainWindow extends UiPart<Stage> {
         eventListPanelPlaceholder.setManaged(true);
     }
 
+    /**
+     * Shows the persons in a table if {@code showPersonTable} is true, or as a list of cards otherwise.
+     */
+    private void setShowPersonTable(boolean showPersonTable) {
+        this.showPersonTable = showPersonTable;
+        personTableMenuItem.setSelected(showPersonTable);
+        if (showPersonTable && personTablePanel == null) {
+            personTablePanel = new PersonTablePanel(displayedPersons, logic::updateSortedPersonList);
+        }
+        personListPanelPlaceholder.getChildren().setAll(
+                showPersonTable ? personTablePanel.getRoot() : personListPanel.getRoot());
+    }
+
+    /**
+     * Switches between showing the persons in a table and as a list of cards.
+     */
+    @FXML
+    private void handlePersonTable() {
+        setShowPersonTable(!showPersonTable);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -186,7 +222,7 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
-                (int) primaryStage.getX(), (int) primaryStage.getY());
+                (int) primaryStage.getX(), (int) primaryStage.getY(), showPersonTable);
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
@@ -204,7 +240,7 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -224,7 +260,7 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.info(() -> "An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -11,6 +15,7 @@ import seedu.address.model.person.Person;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ * The same card can display different persons one after another, so that list cells load it only once.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +29,12 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
+    private List<String> eventNames = List.of();
+
+    /** Labels removed from the card, to be reused for the tags and events of the next person displayed. */
+    private final List<Label> unusedLabels = new ArrayList<>();
 
     @FXML
     private HBox cardPane;
@@ -40,20 +50,65 @@ public class PersonCard extends UiPart<Region> {
     private Label email;
     @FXML
     private FlowPane tags;
+    @FXML
+    private FlowPane events;
+
+    /**
+     * Creates an empty {@code PersonCard}, to be given a person to display with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
 
     /**
      * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex, List.of());
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with {@code displayedIndex} and the names of the events the person is assigned to,
+     * instead of the person displayed before.
+     */
+    public void setPerson(Person person, int displayedIndex, List<String> eventNames) {
+        if (person == this.person && displayedIndex == this.displayedIndex && eventNames == this.eventNames) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
+        this.eventNames = eventNames;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setLabels(tags, person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted(Comparator.naturalOrder())
+                .toList());
+        setLabels(events, eventNames);
+    }
+
+    private void setLabels(FlowPane pane, List<String> texts) {
+        ObservableList<Node> labels = pane.getChildren();
+        while (labels.size() > texts.size()) {
+            unusedLabels.add((Label) labels.remove(labels.size() - 1));
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            if (i == labels.size()) {
+                labels.add(takeUnusedLabel());
+            }
+            ((Label) labels.get(i)).setText(texts.get(i));
+        }
+    }
+
+    private Label takeUnusedLabel() {
+        return unusedLabels.isEmpty() ? new Label() : unusedLabels.remove(unusedLabels.size() - 1);
     }
 }
@@ -1,13 +1,18 @@
 package seedu.address.ui;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,19 +25,48 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    private final EventNameLookup eventNameLookup;
+    /** The cells created for {@code personListView}, which it may discard at any time. */
+    private final Set<PersonListViewCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
+
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList} of persons to display, and all the
+     * events in the address book, whose names are shown for the persons assigned to them.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, ObservableList<Event> eventList) {
         super(FXML);
+        eventNameLookup = new EventNameLookup(eventList);
         personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.setCellFactory(listView -> {
+            PersonListViewCell cell = new PersonListViewCell();
+            cells.add(cell);
+            return cell;
+        });
+        // Registered after the lookup's own listener, so that the cells see the new event names
+        eventList.addListener((ListChangeListener<Event>) change ->
+                updateEventNames(EventNameLookup.getChangedEventIds(change)));
+    }
+
+    /**
+     * Updates the event names in the cells that display a person assigned to any of the events with
+     * {@code eventIds}. The list view only has cells for the rows that are visible, so the other cells are left alone.
+     */
+    private void updateEventNames(Set<Integer> eventIds) {
+        for (PersonListViewCell cell : cells) {
+            Person person = cell.getItem();
+            if (!cell.isEmpty() && person != null && EventNameLookup.isAssignedToAny(person, eventIds)) {
+                cell.showPerson(person);
+            }
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell loads its card once, and reuses it for every person it displays while scrolling.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,9 +75,17 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                showPerson(person);
+                setGraphic(personCard.getRoot());
             }
         }
+
+        void showPerson(Person person) {
+            personCard.setPerson(person, getIndex() + 1, eventNameLookup.getEventNames(person));
+        }
     }
 
 }
@@ -0,0 +1,87 @@
+package seedu.address.ui;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+
+/**
+ * Panel containing the persons in a table with one fixed-height row per person, which fits many more persons on
+ * screen than {@code PersonListPanel}. Clicking a column header sorts the persons by that column, in the list that
+ * index-based commands refer to, so that the index shown in the first column is the one to use in commands.
+ */
+public class PersonTablePanel extends UiPart<Region> {
+    private static final String FXML = "PersonTablePanel.fxml";
+
+    /** Rows all have this height, so that scrolling does not need to measure rows that are not shown. */
+    private static final double ROW_HEIGHT = 26;
+
+    @FXML
+    private TableView<Person> personTableView;
+    @FXML
+    private TableColumn<Person, Void> indexColumn;
+    @FXML
+    private TableColumn<Person, Integer> idColumn;
+    @FXML
+    private TableColumn<Person, String> nameColumn;
+    @FXML
+    private TableColumn<Person, String> phoneColumn;
+    @FXML
+    private TableColumn<Person, String> emailColumn;
+    @FXML
+    private TableColumn<Person, String> tagsColumn;
+    @FXML
+    private TableColumn<Person, Integer> eventCountColumn;
+
+    /**
+     * Creates a {@code PersonTablePanel} with the given {@code ObservableList}, which is sorted by passing a
+     * comparator to {@code sorter}.
+     */
+    public PersonTablePanel(ObservableList<Person> personList, Consumer<Comparator<Person>> sorter) {
+        super(FXML);
+        personTableView.setItems(personList);
+        personTableView.setFixedCellSize(ROW_HEIGHT);
+        // The list is sorted where it comes from, so that its order stays the one index-based commands use
+        personTableView.setSortPolicy(table -> {
+            Comparator<Person> comparator = table.getComparator();
+            sorter.accept(comparator == null ? PersonSortOrder.ID.getComparator() : comparator);
+            return true;
+        });
+
+        indexColumn.setSortable(false);
+        indexColumn.setCellFactory(column -> new TableCell<>() {
+            @Override
+            protected void updateItem(Void item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty ? null : String.valueOf(getIndex() + 1));
+            }
+        });
+
+        // Values are only computed for the rows that are shown
+        setCellValues(idColumn, Person::getId);
+        setCellValues(nameColumn, person -> person.getName().fullName);
+        setCellValues(phoneColumn, person -> person.getPhone().value);
+        setCellValues(emailColumn, person -> person.getEmail().value);
+        setCellValues(tagsColumn, person -> person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        setCellValues(eventCountColumn, person -> person.getEventIds().size());
+        nameColumn.setComparator(String.CASE_INSENSITIVE_ORDER);
+        emailColumn.setComparator(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    private static <T> void setCellValues(TableColumn<Person, T> column, Function<Person, T> getValue) {
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(getValue.apply(cell.getValue())));
+    }
+}
@@ -3,26 +3,54 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.address.commons.core.metrics.LatencyMetrics;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
+ * Besides the save location, it shows how long the last command took and how much memory the app uses, refreshed
+ * every second so that commands sent through the API are included.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final long REFRESH_INTERVAL_MILLIS = 1000;
+
+    private final LatencyMetrics metrics;
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label latencyStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, showing the latency of the last command recorded
+     * in {@code metrics}.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, LatencyMetrics metrics) {
         super(FXML);
+        this.metrics = metrics;
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        showLatencyAndHeapUsage();
+
+        // Runs on the JavaFX application thread, so no other thread is needed to refresh the labels
+        Timeline refresher = new Timeline(new KeyFrame(Duration.millis(REFRESH_INTERVAL_MILLIS),
+                event -> showLatencyAndHeapUsage()));
+        refresher.setCycleCount(Animation.INDEFINITE);
+        refresher.play();
     }
 
+    private void showLatencyAndHeapUsage() {
+        String lastCommandWord = metrics.getLastCommandWord();
+        String latency = lastCommandWord == null ? ""
+                : "Last: " + lastCommandWord + " " + LatencyMetrics.formatMillis(metrics.getLastCommandNanos())
+                        + " ms | ";
+        latencyStatus.setText(latency + LatencyMetrics.describeHeapUsage());
+    }
 }
@@ -0,0 +1,238 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.AddressBookChecksum;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.RandomCommandGenerator;
+import seedu.address.testutil.RandomCommandGenerator.RandomCommand;
+import seedu.address.testutil.ReferenceAddressBook;
+
+/**
+ * Executes a long run of random commands on a large address book, checking that the app keeps the same data as a
+ * {@code ReferenceAddressBook} and that its invariants hold, and that it neither slows down nor uses more and more
+ * memory as the commands go on.
+ *
+ * The run is set with system properties, which {@code ./gradlew soakTest} passes on from {@code -Psoak.<name>}:
+ * {@code soak.commands}, {@code soak.persons}, {@code soak.events} and {@code soak.seed} set its size and data,
+ * {@code soak.checkEvery} and {@code soak.roundTripEvery} how often the data is checked and saved and read back, and
+ * {@code soak.minThroughputRatio} and {@code soak.maxHeapGrowth} how much slower and bigger the app can get.
+ */
+public class LogicManagerSoakTest {
+
+    private static final int COMMAND_COUNT = Integer.getInteger("soak.commands", 1_000_000);
+    private static final int PERSON_COUNT = Integer.getInteger("soak.persons", 100_000);
+    private static final int EVENT_COUNT = Integer.getInteger("soak.events", 1_000);
+    private static final long SEED = Long.getLong("soak.seed", 0);
+    private static final int CHECK_INTERVAL = Integer.getInteger("soak.checkEvery", 10_000);
+    private static final int ROUND_TRIP_INTERVAL = Integer.getInteger("soak.roundTripEvery", 100_000);
+    private static final double MIN_THROUGHPUT_RATIO =
+            Double.parseDouble(System.getProperty("soak.minThroughputRatio", "0.5"));
+    private static final double MAX_HEAP_GROWTH = Double.parseDouble(System.getProperty("soak.maxHeapGrowth", "1.5"));
+
+    private static final int TAGS_PER_PERSON = 2;
+    private static final int ASSIGNMENTS_PER_PERSON = 3;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @BeforeAll
+    public static void setUpLogging() {
+        // Logging every command would slow down the run and flood its output
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+    }
+
+    @Test
+    public void execute_randomValidCommands_invariantsHold() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressbook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")));
+        AddressBook initialData = generateAddressBook();
+        ReferenceAddressBook reference = new ReferenceAddressBook(initialData);
+        Logic logic = new LogicManager(new ModelManager(initialData, new UserPrefs()), storage);
+        // The data is saved and read back every ROUND_TRIP_INTERVAL commands instead
+        logic.setSaveInterval(0);
+
+        RandomCommandGenerator commands = new RandomCommandGenerator(SEED, logic, reference);
+        List<Double> throughputs = new ArrayList<>();
+        List<Long> heapSizes = new ArrayList<>();
+        long windowStartTime = System.nanoTime();
+        for (int i = 1; i <= COMMAND_COUNT; i++) {
+            RandomCommand command = commands.next();
+            try {
+                logic.execute(command.getCommandText());
+            } catch (CommandException | ParseException e) {
+                throw new AssertionError("Command " + i + " failed: " + command.getCommandText(), e);
+            }
+            command.applyExpectedChange();
+            assertEquals(reference.getPersonCount(), logic.getFilteredPersonList().size(),
+                    "Wrong number of persons shown after command " + i);
+            assertEquals(reference.getEventCount(), logic.getFilteredEventList().size(),
+                    "Wrong number of events shown after command " + i);
+
+            if (i % CHECK_INTERVAL != 0 && i != COMMAND_COUNT) {
+                continue;
+            }
+            if (i % CHECK_INTERVAL == 0) {
+                throughputs.add(CHECK_INTERVAL * 1e9 / (System.nanoTime() - windowStartTime));
+            }
+            ReadOnlyAddressBook addressBook = logic.getAddressBook();
+            assertInvariants(addressBook);
+            reference.assertMatches(addressBook);
+            if (i % ROUND_TRIP_INTERVAL == 0 || i == COMMAND_COUNT) {
+                assertRoundTrip(logic, addressBookStorage, reference);
+            }
+            heapSizes.add(getUsedHeapAfterGc());
+            System.out.printf(Locale.ROOT, "%,d commands: %,d persons, %,d events, %,.0f commands/s, %,d MB heap%n",
+                    i, reference.getPersonCount(), reference.getEventCount(),
+                    throughputs.isEmpty() ? 0.0 : throughputs.get(throughputs.size() - 1),
+                    heapSizes.get(heapSizes.size() - 1) / BYTES_PER_MEGABYTE);
+            windowStartTime = System.nanoTime();
+        }
+
+        assertNoSlowdown(throughputs);
+        assertNoHeapGrowth(heapSizes);
+    }
+
+    private static AddressBook generateAddressBook() {
+        SampleDataGenerator generator = new SampleDataGenerator(SEED, PERSON_COUNT, EVENT_COUNT, TAGS_PER_PERSON,
+                ASSIGNMENTS_PER_PERSON);
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int id = 1; id <= PERSON_COUNT; id++) {
+            persons.add(generator.getPerson(id));
+        }
+        List<Event> events = new ArrayList<>(EVENT_COUNT);
+        for (int id = 1; id <= EVENT_COUNT; id++) {
+            events.add(generator.getEvent(id));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setEvents(events);
+        addressBook.setPersons(persons);
+        addressBook.setIdCounterList(generator.getIdCounterList());
+        return addressBook;
+    }
+
+    /**
+     * Checks that no two persons or events have the same name, that persons are only assigned to events that exist,
+     * and that IDs are unique and no greater than the ID counters.
+     */
+    private static void assertInvariants(ReadOnlyAddressBook addressBook) {
+        Set<String> personNames = new HashSet<>();
+        Set<Integer> personIds = new HashSet<>();
+        int largestPersonId = 0;
+        for (Person person : addressBook.getPersonList()) {
+            if (!personNames.add(person.getName().fullName.toLowerCase(Locale.ROOT))
+                    || !personIds.add(person.getId())) {
+                throw new AssertionError("Duplicate name or ID: " + person);
+            }
+            largestPersonId = Math.max(largestPersonId, person.getId());
+        }
+
+        Set<String> eventNames = new HashSet<>();
+        Set<Integer> eventIds = new HashSet<>();
+        int largestEventId = 0;
+        for (Event event : addressBook.getEventList()) {
+            if (!eventNames.add(event.getEventName().toString().toLowerCase(Locale.ROOT))
+                    || !eventIds.add(event.getEventId())) {
+                throw new AssertionError("Duplicate name or ID: " + event);
+            }
+            largestEventId = Math.max(largestEventId, event.getEventId());
+        }
+
+        for (Person person : addressBook.getPersonList()) {
+            if (!eventIds.containsAll(person.getEventIds())) {
+                throw new AssertionError("Assigned to missing event: " + person);
+            }
+        }
+        assertTrue(addressBook.getIdCounterList().isValidPersonIdCounter(largestPersonId),
+                "Person ID counter is below ID " + largestPersonId);
+        assertTrue(addressBook.getIdCounterList().isValidEventIdCounter(largestEventId),
+                "Event ID counter is below ID " + largestEventId);
+    }
+
+    /**
+     * Checks that saving the data of {@code logic} and reading it back gives the same data.
+     */
+    private static void assertRoundTrip(Logic logic, JsonAddressBookStorage addressBookStorage,
+            ReferenceAddressBook reference) throws Exception {
+        logic.saveAddressBook();
+        ReadOnlyAddressBook readBack = addressBookStorage.readAddressBook().orElseThrow();
+        assertEquals(AddressBookChecksum.ofPersons(logic.getAddressBook()), AddressBookChecksum.ofPersons(readBack));
+        assertEquals(AddressBookChecksum.ofEvents(logic.getAddressBook()), AddressBookChecksum.ofEvents(readBack));
+        assertEquals(logic.getAddressBook().getIdCounterList(), readBack.getIdCounterList());
+        reference.assertMatches(readBack);
+    }
+
+    /**
+     * Checks that the commands in the last quarter of the run were executed at least {@link #MIN_THROUGHPUT_RATIO}
+     * times as fast as those in the second quarter, after the JIT compiler has warmed up.
+     */
+    private static void assertNoSlowdown(List<Double> throughputs) {
+        if (throughputs.size() < 4) {
+            System.out.println("Too few checks to compare throughput");
+            return;
+        }
+        double earlyThroughput = average(throughputs.subList(throughputs.size() / 4, throughputs.size() / 2));
+        double lateThroughput = average(throughputs.subList(throughputs.size() * 3 / 4, throughputs.size()));
+        System.out.printf(Locale.ROOT, "Throughput went from %,.0f to %,.0f commands/s%n", earlyThroughput,
+                lateThroughput);
+        assertTrue(lateThroughput >= earlyThroughput * MIN_THROUGHPUT_RATIO, "Commands got slower");
+    }
+
+    /**
+     * Checks that the heap used at the end of the run is at most {@link #MAX_HEAP_GROWTH} times that used half way
+     * through, by when the undo history should have filled up.
+     */
+    private static void assertNoHeapGrowth(List<Long> heapSizes) {
+        if (heapSizes.size() < 4) {
+            System.out.println("Too few checks to compare heap sizes");
+            return;
+        }
+        long earlyHeapSize = heapSizes.get(heapSizes.size() / 2);
+        long lateHeapSize = heapSizes.get(heapSizes.size() - 1);
+        System.out.printf(Locale.ROOT, "Heap went from %,d to %,d MB%n", earlyHeapSize / BYTES_PER_MEGABYTE,
+                lateHeapSize / BYTES_PER_MEGABYTE);
+        assertTrue(lateHeapSize <= earlyHeapSize * MAX_HEAP_GROWTH, "Heap kept growing");
+    }
+
+    private static double average(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    }
+
+    private static long getUsedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
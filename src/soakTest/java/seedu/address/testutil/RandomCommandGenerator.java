@@ -0,0 +1,282 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteEventCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.EditEventCommand;
+import seedu.address.logic.commands.EditEventCommand.EditEventDescriptor;
+import seedu.address.logic.commands.MassDeleteCommand;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDescription;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventName;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Generates random commands that should all succeed on the data shown by a {@code Logic}, together with the change
+ * each should make to a {@code ReferenceAddressBook} of the same data.
+ *
+ * Persons and events are picked by their index in the displayed lists, as a user would, so the lists must show every
+ * person and event. New names are numbered, so that they never clash with an existing name.
+ */
+public class RandomCommandGenerator {
+
+    private static final LocalDate FIRST_EVENT_DATE = LocalDate.parse("2024-01-01");
+    private static final int EVENT_DAYS = 730;
+    private static final int MAX_EVENT_LENGTH_DAYS = 3;
+    private static final int MAX_MASS_DELETE_COUNT = 5;
+    private static final int MIN_PERSON_COUNT = 10;
+    private static final int MIN_EVENT_COUNT = 2;
+
+    // Out of 100, with the rest for delete_event, chosen so that persons and events are added about as often as
+    // they are deleted
+    private static final int ADD_WEIGHT = 19;
+    private static final int EDIT_WEIGHT = 14;
+    private static final int DELETE_WEIGHT = 12;
+    private static final int MASS_DELETE_WEIGHT = 2;
+    private static final int ASSIGN_WEIGHT = 23;
+    private static final int UNASSIGN_WEIGHT = 16;
+    private static final int ADD_EVENT_WEIGHT = 3;
+    private static final int EDIT_EVENT_WEIGHT = 8;
+
+    private final Logic logic;
+    private final ReferenceAddressBook reference;
+    private final SplittableRandom random;
+    private final SampleDataGenerator details;
+    private int nameCount;
+
+    /**
+     * Creates a generator of commands on the data shown by {@code logic}, which {@code reference} must match, picked
+     * at random from {@code seed}.
+     */
+    public RandomCommandGenerator(long seed, Logic logic, ReferenceAddressBook reference) {
+        this.logic = logic;
+        this.reference = reference;
+        random = new SplittableRandom(seed);
+        // Only used for the phones, emails, addresses and tags of new and edited persons
+        details = new SampleDataGenerator(seed, Integer.MAX_VALUE, 0, 2, 0);
+    }
+
+    /**
+     * Returns a random command that should succeed on the data currently shown.
+     */
+    public RandomCommand next() {
+        if (reference.getPersonCount() < MIN_PERSON_COUNT) {
+            return add();
+        }
+        if (reference.getEventCount() < MIN_EVENT_COUNT) {
+            return addEvent();
+        }
+
+        int choice = random.nextInt(100);
+        if (choice < ADD_WEIGHT) {
+            return add();
+        }
+        choice -= ADD_WEIGHT;
+        if (choice < EDIT_WEIGHT) {
+            return edit();
+        }
+        choice -= EDIT_WEIGHT;
+        if (choice < DELETE_WEIGHT) {
+            return delete();
+        }
+        choice -= DELETE_WEIGHT;
+        if (choice < MASS_DELETE_WEIGHT) {
+            return massDelete();
+        }
+        choice -= MASS_DELETE_WEIGHT;
+        if (choice < ASSIGN_WEIGHT + UNASSIGN_WEIGHT) {
+            return assignOrUnassign(random.nextInt(logic.getFilteredPersonList().size()), choice < ASSIGN_WEIGHT);
+        }
+        choice -= ASSIGN_WEIGHT + UNASSIGN_WEIGHT;
+        if (choice < ADD_EVENT_WEIGHT) {
+            return addEvent();
+        }
+        choice -= ADD_EVENT_WEIGHT;
+        if (choice < EDIT_EVENT_WEIGHT) {
+            return editEvent();
+        }
+        return deleteEvent();
+    }
+
+    private RandomCommand add() {
+        Person person = new PersonBuilder(newPersonDetails()).withName(nextName("Added Person")).build();
+        return new RandomCommand(PersonUtil.getAddCommand(person), () -> reference.addPerson(person));
+    }
+
+    private RandomCommand edit() {
+        int index = random.nextInt(logic.getFilteredPersonList().size());
+        Person person = logic.getFilteredPersonList().get(index);
+        Person newDetails = newPersonDetails();
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptor();
+        int fields = 1 + random.nextInt((1 << 5) - 1);
+        if ((fields & 1) != 0) {
+            descriptor.setName(new Name(nextName("Renamed Person")));
+        }
+        if ((fields & 2) != 0) {
+            descriptor.setPhone(newDetails.getPhone());
+        }
+        if ((fields & 4) != 0) {
+            descriptor.setEmail(newDetails.getEmail());
+        }
+        if ((fields & 8) != 0) {
+            descriptor.setAddress(newDetails.getAddress());
+        }
+        if ((fields & 16) != 0) {
+            descriptor.setTags(random.nextInt(4) == 0 ? Set.of() : newDetails.getTags());
+        }
+
+        Person editedPerson = new Person(descriptor.getName().orElse(person.getName()),
+                descriptor.getPhone().orElse(person.getPhone()), descriptor.getEmail().orElse(person.getEmail()),
+                descriptor.getAddress().orElse(person.getAddress()), descriptor.getTags().orElse(person.getTags()));
+        String commandText = EditCommand.COMMAND_WORD + " " + (index + 1) + " "
+                + PersonUtil.getEditPersonDescriptorDetails(descriptor);
+        int personId = person.getId();
+        return new RandomCommand(commandText, () -> reference.editPerson(personId, editedPerson));
+    }
+
+    private RandomCommand delete() {
+        int index = random.nextInt(logic.getFilteredPersonList().size());
+        int personId = logic.getFilteredPersonList().get(index).getId();
+        return new RandomCommand(DeleteCommand.COMMAND_WORD + " " + (index + 1),
+                () -> reference.deletePerson(personId));
+    }
+
+    private RandomCommand massDelete() {
+        List<Person> persons = logic.getFilteredPersonList();
+        // Leaves at least the minimum number of persons
+        int maxCount = Math.max(1, Math.min(MAX_MASS_DELETE_COUNT, persons.size() - MIN_PERSON_COUNT));
+        int count = 1 + random.nextInt(maxCount);
+        Set<Integer> indexes = new LinkedHashSet<>();
+        while (indexes.size() < count) {
+            indexes.add(random.nextInt(persons.size()));
+        }
+        List<Integer> personIds = new ArrayList<>();
+        indexes.forEach(index -> personIds.add(persons.get(index).getId()));
+        String commandText = MassDeleteCommand.COMMAND_WORD + " "
+                + indexes.stream().map(index -> String.valueOf(index + 1)).collect(Collectors.joining(" "));
+        return new RandomCommand(commandText, () -> personIds.forEach(reference::deletePerson));
+    }
+
+    /**
+     * Returns a command assigning a random event to the person at {@code personIndex}, or unassigning one of their
+     * events, whichever of the two is asked for if it is possible.
+     */
+    private RandomCommand assignOrUnassign(int personIndex, boolean isAssign) {
+        Person person = logic.getFilteredPersonList().get(personIndex);
+        List<Event> events = logic.getFilteredEventList();
+        int personId = person.getId();
+
+        if (!isAssign && !person.getEventIds().isEmpty()) {
+            List<Integer> eventIds = new ArrayList<>(person.getEventIds());
+            int eventId = eventIds.get(random.nextInt(eventIds.size()));
+            int eventIndex = indexOfEvent(events, eventId);
+            return new RandomCommand(EventUtil.getUnassignEventDetails(String.valueOf(personIndex + 1),
+                    String.valueOf(eventIndex + 1)), () -> reference.unassignEvent(personId, eventId));
+        }
+
+        int eventIndex = random.nextInt(events.size());
+        Event event = events.get(eventIndex);
+        if (person.checkAssignedToEvent(event)) {
+            return assignOrUnassign(personIndex, false);
+        }
+        int eventId = event.getEventId();
+        return new RandomCommand(EventUtil.getAssignEventDetails(String.valueOf(personIndex + 1),
+                String.valueOf(eventIndex + 1)), () -> reference.assignEvent(personId, eventId));
+    }
+
+    private RandomCommand addEvent() {
+        Event event = new Event(new EventName(nextName("Added Event")),
+                new EventDescription("Event " + nameCount), newEventDuration());
+        return new RandomCommand(EventUtil.getAddEventCommand(event), () -> reference.addEvent(event));
+    }
+
+    private RandomCommand editEvent() {
+        int index = random.nextInt(logic.getFilteredEventList().size());
+        Event event = logic.getFilteredEventList().get(index);
+
+        // The description always changes, as an edit that changes nothing fails
+        EditEventDescriptor descriptor = new EditEventDescriptor();
+        descriptor.setDescription(new EventDescription("Edited " + nextName("event")));
+        if (random.nextBoolean()) {
+            descriptor.setName(new EventName(nextName("Renamed Event")));
+        }
+        if (random.nextBoolean()) {
+            descriptor.setDuration(newEventDuration());
+        }
+
+        Event editedEvent = new Event(descriptor.getName().orElse(event.getEventName()),
+                descriptor.getDescription().get(), descriptor.getDuration().orElse(event.getEventDuration()));
+        String commandText = EditEventCommand.COMMAND_WORD + " " + (index + 1) + " "
+                + EventUtil.getEditEventDetails(descriptor);
+        int eventId = event.getEventId();
+        return new RandomCommand(commandText, () -> reference.editEvent(eventId, editedEvent));
+    }
+
+    private RandomCommand deleteEvent() {
+        int index = random.nextInt(logic.getFilteredEventList().size());
+        int eventId = logic.getFilteredEventList().get(index).getEventId();
+        return new RandomCommand(DeleteEventCommand.COMMAND_WORD + " " + (index + 1),
+                () -> reference.deleteEvent(eventId));
+    }
+
+    private Person newPersonDetails() {
+        return details.getPerson(1 + random.nextInt(Integer.MAX_VALUE - 1));
+    }
+
+    private String nextName(String prefix) {
+        nameCount++;
+        return prefix + " " + nameCount;
+    }
+
+    private EventDuration newEventDuration() {
+        LocalDate from = FIRST_EVENT_DATE.plusDays(random.nextInt(EVENT_DAYS));
+        return new EventDuration(from, from.plusDays(random.nextInt(MAX_EVENT_LENGTH_DAYS + 1)));
+    }
+
+    private static int indexOfEvent(List<Event> events, int eventId) {
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).getEventId() == eventId) {
+                return i;
+            }
+        }
+        throw new AssertionError("Event " + eventId + " is not shown");
+    }
+
+    /**
+     * The text of a generated command, and the change it should make to the reference address book.
+     */
+    public static class RandomCommand {
+        private final String commandText;
+        private final Runnable expectedChange;
+
+        RandomCommand(String commandText, Runnable expectedChange) {
+            this.commandText = commandText;
+            this.expectedChange = expectedChange;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        /**
+         * Makes the change to the reference address book that the command should have made to the app.
+         */
+        public void applyExpectedChange() {
+            expectedChange.run();
+        }
+    }
+}
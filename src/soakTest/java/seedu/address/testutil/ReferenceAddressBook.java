@@ -0,0 +1,153 @@
+package seedu.address.testutil;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * A deliberately simple model of the persons and events of an address book, kept in maps by ID, which soak tests
+ * update alongside the app to check that the app ends up with the same data.
+ *
+ * It gives new persons and events the same IDs as the app should, from its own copy of the ID counters, so that a
+ * wrongly generated ID shows up as a mismatch.
+ */
+public class ReferenceAddressBook {
+
+    private final Map<Integer, Person> persons = new HashMap<>();
+    private final Map<Integer, Event> events = new HashMap<>();
+    private int personIdCounter;
+    private int eventIdCounter;
+
+    /**
+     * Creates a {@code ReferenceAddressBook} with the same data as {@code addressBook}.
+     */
+    public ReferenceAddressBook(ReadOnlyAddressBook addressBook) {
+        addressBook.getPersonList().forEach(person -> persons.put(person.getId(), copyOf(person)));
+        addressBook.getEventList().forEach(event -> events.put(event.getEventId(), event));
+        personIdCounter = addressBook.getIdCounterList().getPersonIdCounter();
+        eventIdCounter = addressBook.getIdCounterList().getEventIdCounter();
+    }
+
+    public int getPersonCount() {
+        return persons.size();
+    }
+
+    public int getEventCount() {
+        return events.size();
+    }
+
+    /**
+     * Adds {@code person} with the next unused person ID, and returns that ID.
+     */
+    public int addPerson(Person person) {
+        do {
+            personIdCounter++;
+        } while (persons.containsKey(personIdCounter));
+        persons.put(personIdCounter, copyOf(person.changeId(personIdCounter)));
+        return personIdCounter;
+    }
+
+    /**
+     * Replaces the details of the person with ID {@code personId} with those of {@code editedPerson}, keeping the
+     * events the person is assigned to.
+     */
+    public void editPerson(int personId, Person editedPerson) {
+        Person person = persons.get(personId);
+        persons.put(personId, new Person(editedPerson.getName(), editedPerson.getPhone(), editedPerson.getEmail(),
+                editedPerson.getAddress(), editedPerson.getTags(), person.getEventIds(), personId));
+    }
+
+    public void deletePerson(int personId) {
+        persons.remove(personId);
+    }
+
+    /**
+     * Adds {@code event} with the next unused event ID, and returns that ID.
+     */
+    public int addEvent(Event event) {
+        do {
+            eventIdCounter++;
+        } while (events.containsKey(eventIdCounter));
+        events.put(eventIdCounter, new Event(event.getEventName(), event.getEventDescription(),
+                event.getEventDuration(), eventIdCounter));
+        return eventIdCounter;
+    }
+
+    /**
+     * Replaces the details of the event with ID {@code eventId} with those of {@code editedEvent}.
+     */
+    public void editEvent(int eventId, Event editedEvent) {
+        events.put(eventId, new Event(editedEvent.getEventName(), editedEvent.getEventDescription(),
+                editedEvent.getEventDuration(), eventId));
+    }
+
+    /**
+     * Deletes the event with ID {@code eventId}, and unassigns it from every person.
+     */
+    public void deleteEvent(int eventId) {
+        events.remove(eventId);
+        persons.values().forEach(person -> person.removeEventId(eventId));
+    }
+
+    public void assignEvent(int personId, int eventId) {
+        persons.get(personId).addEventId(eventId);
+    }
+
+    public void unassignEvent(int personId, int eventId) {
+        persons.get(personId).removeEventId(eventId);
+    }
+
+    /**
+     * Throws an {@code AssertionError} describing the first difference between this and {@code addressBook},
+     * comparing every field of every person and event, and the ID counters.
+     */
+    public void assertMatches(ReadOnlyAddressBook addressBook) {
+        assertEquals("number of persons", persons.size(), addressBook.getPersonList().size());
+        assertEquals("number of events", events.size(), addressBook.getEventList().size());
+        for (Person person : addressBook.getPersonList()) {
+            Person expected = persons.get(person.getId());
+            if (expected == null) {
+                throw new AssertionError("Unexpected person " + person);
+            }
+            assertEquals("person " + person.getId(), fieldsOf(expected), fieldsOf(person));
+        }
+        for (Event event : addressBook.getEventList()) {
+            Event expected = events.get(event.getEventId());
+            if (expected == null) {
+                throw new AssertionError("Unexpected event " + event);
+            }
+            assertEquals("event " + event.getEventId(), fieldsOf(expected), fieldsOf(event));
+        }
+        assertEquals("person ID counter", personIdCounter, addressBook.getIdCounterList().getPersonIdCounter());
+        assertEquals("event ID counter", eventIdCounter, addressBook.getIdCounterList().getEventIdCounter());
+    }
+
+    private static Person copyOf(Person person) {
+        // Persons are changed in place when events are assigned, so each model needs its own copy
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), new HashSet<>(person.getEventIds()), person.getId());
+    }
+
+    private static List<Object> fieldsOf(Person person) {
+        return List.of(person.getId(), person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                Set.copyOf(person.getTags()), Set.copyOf(person.getEventIds()));
+    }
+
+    private static List<Object> fieldsOf(Event event) {
+        return List.of(event.getEventId(), event.getEventName(), event.getEventDescription(),
+                event.getEventDuration());
+    }
+
+    private static void assertEquals(String description, Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError("Different " + description + ": expected " + expected + " but was " + actual);
+        }
+    }
+}
@@ -39,10 +39,55 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validServerPort_success() {
+        parametersStub.namedParameters.put("server-port", "8080");
+        expected.setServerPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidServerPort_success() {
+        parametersStub.namedParameters.put("server-port", "http");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("server-port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_flightRecordingPath_success() {
+        parametersStub.namedParameters.put("flight-recording", "clubconnect.jfr");
+        expected.setFlightRecordingPath(Paths.get("clubconnect.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidFlightRecordingPath_success() {
+        parametersStub.namedParameters.put("flight-recording", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandTracePath_success() {
+        parametersStub.namedParameters.put("command-trace", "trace.txt");
+        expected.setCommandTracePath(Paths.get("trace.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCommandTracePath_success() {
+        parametersStub.namedParameters.put("command-trace", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", serverPort=" + appParameters.getServerPort()
+                + ", flightRecordingPath=" + appParameters.getFlightRecordingPath()
+                + ", commandTracePath=" + appParameters.getCommandTracePath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +111,21 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different server port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setServerPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different flight recording path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setFlightRecordingPath(Paths.get("clubconnect.jfr"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different command trace path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCommandTracePath(Paths.get("trace.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,184 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler target = new RecordingHandler();
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(List.of(target), 0));
+    }
+
+    @Test
+    public void publish_records_writtenInOrderOnAnotherThread() {
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 128);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.messages.get(i));
+        }
+        assertEquals(List.of("log-writer"), target.threadNames.stream().distinct().toList());
+        assertTrue(target.isFlushed);
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.WARNING, "warning"));
+        handler.flush();
+
+        assertEquals(List.of("warning"), target.messages);
+        handler.close();
+    }
+
+    @Test
+    public void publish_manyThreads_allWritten() throws Exception {
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 8192);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String prefix = "thread " + t + " ";
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    handler.publish(new LogRecord(Level.INFO, prefix + i));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.flush();
+
+        assertEquals(4000, target.messages.size());
+        assertEquals(4000, target.messages.stream().distinct().count());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFull_recordsDroppedAndCounted() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canWrite = new CountDownLatch(1);
+        RecordingHandler blockingTarget = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                isWriting.countDown();
+                try {
+                    canWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(blockingTarget), 4);
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        isWriting.await();
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+        canWrite.countDown();
+        handler.flush();
+
+        assertEquals(List.of("first", "6 log records were dropped", "queued 0", "queued 1", "queued 2", "queued 3"),
+                blockingTarget.messages);
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithWarning_warningWaitsForRoom() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canWrite = new CountDownLatch(1);
+        RecordingHandler blockingTarget = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                isWriting.countDown();
+                try {
+                    canWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(blockingTarget), 2);
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        isWriting.await();
+        handler.publish(new LogRecord(Level.INFO, "queued 0"));
+        handler.publish(new LogRecord(Level.INFO, "queued 1"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+
+        Thread warningThread = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        for (int i = 0; i < 500 && warningThread.getState() != Thread.State.TIMED_WAITING; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(Thread.State.TIMED_WAITING, warningThread.getState());
+        canWrite.countDown();
+        warningThread.join();
+        handler.flush();
+
+        assertEquals(List.of("first", "1 log records were dropped", "queued 0", "queued 1", "warning"),
+                blockingTarget.messages);
+        handler.close();
+    }
+
+    @Test
+    public void close_recordsQueued_writtenAndTargetsClosed() {
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16);
+        handler.publish(new LogRecord(Level.INFO, "last"));
+        handler.close();
+
+        assertEquals(List.of("last"), target.messages);
+        assertTrue(target.isClosed);
+
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        assertEquals(List.of("last"), target.messages);
+    }
+
+    /**
+     * A handler that remembers the messages of the records published to it.
+     */
+    private static class RecordingHandler extends Handler {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean isFlushed;
+        volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
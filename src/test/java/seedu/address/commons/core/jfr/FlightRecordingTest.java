@@ -0,0 +1,76 @@
+package seedu.address.commons.core.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class FlightRecordingTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        FlightRecording.stop();
+    }
+
+    @Test
+    public void start_thenStop_noCurrentRecording() throws Exception {
+        FlightRecording recording = FlightRecording.start(testFolder.resolve("first.jfr"));
+        assertEquals(recording, FlightRecording.getCurrent().get());
+        assertEquals(testFolder.resolve("first.jfr"), recording.getDumpPath());
+
+        FlightRecording.stop();
+        assertFalse(FlightRecording.getCurrent().isPresent());
+    }
+
+    @Test
+    public void dump_commandExecuted_eventsRecorded() throws Exception {
+        Path dumpPath = testFolder.resolve("clubconnect.jfr");
+        FlightRecording recording = FlightRecording.start(dumpPath);
+
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("data.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        LogicManager logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+        logic.execute(ListCommand.COMMAND_WORD);
+        recording.dump();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dumpPath);
+        RecordedEvent parseEvent = findEvent(events, "seedu.address.CommandParse");
+        assertEquals(ListCommand.COMMAND_WORD, parseEvent.getString("commandWord"));
+        assertTrue(parseEvent.getBoolean("succeeded"));
+
+        RecordedEvent executeEvent = findEvent(events, "seedu.address.CommandExecute");
+        assertEquals(ListCommand.COMMAND_WORD, executeEvent.getString("commandWord"));
+        assertEquals(ListCommand.MESSAGE_SUCCESS, executeEvent.getString("result"));
+
+        RecordedEvent writeEvent = findEvent(events, "seedu.address.StorageWrite");
+        assertEquals(getTypicalAddressBook().getPersonList().size(), writeEvent.getInt("personCount"));
+        assertTrue(writeEvent.getLong("bytes") > 0);
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LatencyCsvWriterTest {
+
+    private static final long NEVER = 3_600;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LatencyCsvWriter(new LatencyMetrics(), testFolder.resolve("latency.csv"), 0));
+    }
+
+    @Test
+    public void writeRows_onlyChangedHistogramsAppendedWithDurationsSinceLastRow() throws Exception {
+        Path filePath = testFolder.resolve("latency.csv");
+        LatencyMetrics metrics = new LatencyMetrics();
+        LatencyCsvWriter writer = new LatencyCsvWriter(metrics, filePath, NEVER);
+
+        writer.writeRows();
+        assertFalse(Files.exists(filePath));
+
+        metrics.record("execute add", 2_000_000);
+        metrics.record(LatencyMetrics.STORAGE_SAVE, 1_000_000);
+        writer.writeRows();
+        metrics.record("execute add", 4_000_000);
+        writer.close();
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(4, lines.size());
+        assertEquals(LatencyCsvWriter.HEADER, lines.get(0));
+        assertEquals(List.of("execute add", "1", "2.000"), List.of(lines.get(1).split(",")).subList(1, 4));
+        assertEquals(List.of(LatencyMetrics.STORAGE_SAVE, "1"), List.of(lines.get(2).split(",")).subList(1, 3));
+        assertEquals(List.of("execute add", "1", "4.000"), List.of(lines.get(3).split(",")).subList(1, 4));
+        assertEquals("4.000", lines.get(3).split(",")[7]);
+    }
+
+    @Test
+    public void writeRows_writeFailed_durationsWrittenAgain() throws Exception {
+        Path folder = testFolder.resolve("missing");
+        Path filePath = folder.resolve("latency.csv");
+        LatencyMetrics metrics = new LatencyMetrics();
+        LatencyCsvWriter writer = new LatencyCsvWriter(metrics, filePath, NEVER);
+
+        metrics.record("execute add", 2_000_000);
+        assertThrows(IOException.class, writer::writeRows);
+        metrics.record("execute add", 4_000_000);
+        Files.createDirectory(folder);
+        writer.writeRows();
+        writer.close();
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(2, lines.size());
+        assertEquals(List.of("execute add", "2", "3.000"), List.of(lines.get(1).split(",")).subList(1, 4));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketIndex_lowerBound_consistent() {
+        for (long value : new long[] {0, 1, 7, 8, 9, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketLowerBound(index) <= value);
+            if (value < Long.MAX_VALUE) {
+                assertTrue(LatencyHistogram.bucketIndex(value + 1) >= index);
+            }
+            // each bucket is at most 1/8 as wide as the durations in it
+            if (index + 1 < LatencyHistogram.bucketIndex(Long.MAX_VALUE)) {
+                long width = LatencyHistogram.bucketLowerBound(index + 1) - LatencyHistogram.bucketLowerBound(index);
+                assertTrue(width <= Math.max(1, value / 8));
+            }
+        }
+        assertEquals(8, LatencyHistogram.bucketLowerBound(LatencyHistogram.bucketIndex(8)));
+        assertEquals(16, LatencyHistogram.bucketLowerBound(LatencyHistogram.bucketIndex(17)));
+    }
+
+    @Test
+    public void getters_noDurations_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void record_durations_percentilesWithinBucketWidth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        histogram.record(-5);
+
+        assertEquals(1001, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertEquals(500_500_000 / 1001.0, histogram.getMeanNanos(), 1e-6);
+        assertWithinEighth(500_000, histogram.getPercentileNanos(50));
+        assertWithinEighth(990_000, histogram.getPercentileNanos(99));
+        assertEquals(0, histogram.getPercentileNanos(0));
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void since_copyTakenEarlier_onlyLaterDurations() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5_000_000);
+        LatencyHistogram earlier = histogram.copy();
+        for (long i = 1; i <= 100; i++) {
+            histogram.record(i * 1000);
+        }
+
+        LatencyHistogram interval = histogram.since(earlier);
+        assertEquals(1, earlier.getCount());
+        assertEquals(100, interval.getCount());
+        assertEquals(50_500, interval.getMeanNanos(), 1e-6);
+        assertWithinEighth(50_000, interval.getPercentileNanos(50));
+        assertWithinEighth(100_000, interval.getMaxNanos());
+        assertEquals(0, histogram.since(histogram.copy()).getCount());
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentileNanos(101));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentileNanos(-1));
+    }
+
+    @Test
+    public void record_manyThreads_allCounted() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMaxNanos());
+    }
+
+    private static void assertWithinEighth(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 8, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void matchesAny_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(List.of("a")).matchesAny(null));
+    }
+
+    @Test
+    public void matchesAny_noKeywords_returnsFalse() {
+        KeywordMatcher matcher = new KeywordMatcher(Collections.emptyList());
+        assertFalse(matcher.matchesAny(""));
+        assertFalse(matcher.matchesAny("alice"));
+    }
+
+    @Test
+    public void matchesAny_emptyKeyword_returnsTrue() {
+        assertTrue(new KeywordMatcher(List.of("")).matchesAny(""));
+        assertTrue(new KeywordMatcher(List.of("bob", "")).matchesAny("alice"));
+    }
+
+    @Test
+    public void matchesAny_containsKeyword_returnsTrue() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("ali", "BOB", "ice cream"));
+
+        // keyword at start, end and middle of text
+        assertTrue(matcher.matchesAny("alice"));
+        assertTrue(matcher.matchesAny("jimbob"));
+        assertTrue(matcher.matchesAny("xbobx"));
+
+        // keyword containing a space
+        assertTrue(matcher.matchesAny("i like ice cream"));
+    }
+
+    @Test
+    public void matchesAny_keywordsSharingSuffixes_returnsTrue() {
+        // "he" is only found by following the failure transition out of "she"
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("she", "hers", "he"));
+        assertTrue(matcher.matchesAny("ushx he"));
+        assertTrue(matcher.matchesAny("shers"));
+
+        // "aab" is found after backtracking from the longer partial match "aaa"
+        assertTrue(new KeywordMatcher(List.of("aab")).matchesAny("aaab"));
+    }
+
+    @Test
+    public void matchesAny_doesNotContainKeyword_returnsFalse() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("ali", "bob"));
+        assertFalse(matcher.matchesAny(""));
+        assertFalse(matcher.matchesAny("al i"));
+        assertFalse(matcher.matchesAny("carl"));
+    }
+
+    @Test
+    public void matchesAny_nonAsciiCharacters_matchesCorrectly() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("\u00C9COLE"));
+        assertTrue(matcher.matchesAny("une \u00E9cole"));
+        assertFalse(matcher.matchesAny("une ecole"));
+    }
+
+    @Test
+    public void isNarrowing_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> KeywordMatcher.isNarrowing(null, List.of()));
+        assertThrows(NullPointerException.class, () -> KeywordMatcher.isNarrowing(List.of(), null));
+    }
+
+    @Test
+    public void isNarrowing_eachKeywordExtendsOtherKeyword_returnsTrue() {
+        // same keywords
+        assertTrue(KeywordMatcher.isNarrowing(List.of("al"), List.of("al")));
+
+        // longer keyword, ignoring case
+        assertTrue(KeywordMatcher.isNarrowing(List.of("ALI"), List.of("al")));
+        assertTrue(KeywordMatcher.isNarrowing(Arrays.asList("alice", "bobby"), Arrays.asList("ali", "bob")));
+
+        // fewer keywords
+        assertTrue(KeywordMatcher.isNarrowing(List.of("bob"), Arrays.asList("ali", "bob")));
+
+        // other keywords include an empty keyword, which matches everything
+        assertTrue(KeywordMatcher.isNarrowing(List.of("carl"), List.of("")));
+    }
+
+    @Test
+    public void isNarrowing_someKeywordDoesNotExtendOtherKeyword_returnsFalse() {
+        // shorter keyword
+        assertFalse(KeywordMatcher.isNarrowing(List.of("al"), List.of("ali")));
+
+        // additional keyword
+        assertFalse(KeywordMatcher.isNarrowing(Arrays.asList("ali", "bob"), List.of("ali")));
+
+        // no other keywords
+        assertFalse(KeywordMatcher.isNarrowing(List.of("ali"), Collections.emptyList()));
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private int saveCount;
+    private BatchRunner batchRunner;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("clubConnect.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        batchRunner = new BatchRunner(logic, new PrintStream(output, true));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchRunner(null, System.out));
+        assertThrows(NullPointerException.class, () -> new BatchRunner(new LogicManager(model, null), null));
+    }
+
+    @Test
+    public void run_saveIntervalZero_savesOnceAtEnd() throws Exception {
+        BatchRunner.Summary summary = batchRunner.run(script(
+                "# onboarding",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                "unknowncommand",
+                PersonUtil.getAddCommand(BOB)), 0);
+
+        assertEquals(3, summary.getCommandCount());
+        assertEquals(1, summary.getFailureCount());
+        assertEquals(1, saveCount);
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+
+        String printed = output.toString();
+        assertTrue(printed.contains(String.format(BatchRunner.MESSAGE_COMMAND, 2, "unknowncommand")));
+        assertTrue(printed.contains(String.format(BatchRunner.MESSAGE_COMMAND_FAILED, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(printed.contains("Ran 3 commands (1 failed)"));
+    }
+
+    @Test
+    public void run_saveIntervalTwo_savesEveryTwoCommandsAndAtEnd() throws Exception {
+        BatchRunner.Summary summary = batchRunner.run(script(
+                ListCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD), 2);
+
+        assertEquals(5, summary.getCommandCount());
+        assertEquals(0, summary.getFailureCount());
+        assertEquals(3, saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        BatchRunner.Summary summary = batchRunner.run(script(
+                ExitCommand.COMMAND_WORD,
+                PersonUtil.getAddCommand(AMY)), 0);
+
+        assertEquals(1, summary.getCommandCount());
+        assertEquals(0, model.getPersonList().size());
+    }
+
+    @Test
+    public void run_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> batchRunner.run(script(), -1));
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
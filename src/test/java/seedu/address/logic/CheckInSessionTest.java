@@ -0,0 +1,92 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.EventBuilder;
+
+public class CheckInSessionTest {
+
+    private final Event meeting = new EventBuilder(MEETING).withEventId(1).build();
+    private final Event workshop = new EventBuilder(WORKSHOP).withEventId(2).build();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addEvent(meeting);
+        model.addEvent(workshop);
+    }
+
+    @Test
+    public void start_eventIndexOrName_selectsEvent() throws Exception {
+        assertEquals(workshop, CheckInSession.start(model, "2").getEvent());
+        assertEquals(meeting, CheckInSession.start(model, meeting.getEventName().toString()).getEvent());
+    }
+
+    @Test
+    public void start_invalidEvent_throwsException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                CheckInSession.MESSAGE_USAGE), () -> CheckInSession.start(model, " "));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, () ->
+                CheckInSession.start(model, "3"));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_EVENT_DISPLAYED_NAME, () ->
+                CheckInSession.start(model, "Unknown Event"));
+    }
+
+    @Test
+    public void checkIn_personIdOrName_assignsEvent() throws Exception {
+        CheckInSession session = new CheckInSession(model, meeting);
+
+        assertEquals(String.format(CheckInSession.MESSAGE_CHECKED_IN, ALICE.getName(), 1),
+                session.checkIn(String.valueOf(ALICE.getId())));
+        assertEquals(String.format(CheckInSession.MESSAGE_CHECKED_IN, BENSON.getName(), 2),
+                session.checkIn(" " + BENSON.getName().fullName.toUpperCase() + " "));
+
+        assertTrue(model.findPersonById(ALICE.getId()).get().checkAssignedToEvent(meeting));
+        assertTrue(model.findPersonById(BENSON.getId()).get().checkAssignedToEvent(meeting));
+        assertEquals(Integer.valueOf(2), model.getEventAttendanceCounts().get(meeting.getEventId()));
+        assertEquals(String.format(CheckInSession.MESSAGE_ENDED, meeting.getEventName(), 2), session.getSummary());
+    }
+
+    @Test
+    public void checkIn_alreadyCheckedIn_throwsCommandException() throws Exception {
+        CheckInSession session = new CheckInSession(model, meeting);
+        session.checkIn(ALICE.getName().fullName);
+
+        assertThrows(CommandException.class, String.format(CheckInSession.MESSAGE_ALREADY_CHECKED_IN,
+                ALICE.getName(), meeting.getEventName()), () -> session.checkIn(String.valueOf(ALICE.getId())));
+        assertEquals(1, session.getCheckInCount());
+    }
+
+    @Test
+    public void checkIn_unknownPerson_throwsCommandException() {
+        CheckInSession session = new CheckInSession(model, meeting);
+
+        assertThrows(CommandException.class, String.format(CheckInSession.MESSAGE_UNKNOWN_PERSON_ID, "99"), () ->
+                session.checkIn("99"));
+        assertThrows(CommandException.class, String.format(CheckInSession.MESSAGE_UNKNOWN_PERSON_ID, "1a"), () ->
+                session.checkIn("1a"));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME, () ->
+                session.checkIn("Nobody"));
+        assertThrows(CommandException.class, Name.MESSAGE_CONSTRAINTS, () -> session.checkIn("#"));
+        assertEquals(0, session.getCheckInCount());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CommandTraceEntryTest {
+
+    private static final Instant TIME = Instant.parse("2024-10-01T10:15:30.123Z");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandTraceEntry(null, 0, "list"));
+        assertThrows(NullPointerException.class, () -> new CommandTraceEntry(TIME, 0, null));
+    }
+
+    @Test
+    public void toLine_simpleCommand_spaceSeparated() {
+        assertEquals("2024-10-01T10:15:30.123Z 3 find n/Alex Yeoh",
+                new CommandTraceEntry(TIME, 3, "find n/Alex Yeoh").toLine());
+    }
+
+    @Test
+    public void parse_toLine_roundTrips() throws Exception {
+        for (String commandText : new String[] {"list", "", "  add  n/Amy  ", "a\\nb", "line\nbreak\r\n", "\\"}) {
+            CommandTraceEntry entry = new CommandTraceEntry(TIME, 42, commandText);
+            String line = entry.toLine();
+            assertFalse(line.contains("\n") || line.contains("\r"));
+            assertEquals(entry, CommandTraceEntry.parse(line));
+        }
+    }
+
+    @Test
+    public void parse_invalidLine_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> CommandTraceEntry.parse("list"));
+        assertThrows(IllegalValueException.class, () -> CommandTraceEntry.parse("2024-10-01T10:15:30Z 3"));
+        assertThrows(IllegalValueException.class, () -> CommandTraceEntry.parse("yesterday 3 list"));
+        assertThrows(IllegalValueException.class, () -> CommandTraceEntry.parse("2024-10-01T10:15:30Z three list"));
+    }
+
+    @Test
+    public void equals() {
+        CommandTraceEntry entry = new CommandTraceEntry(TIME, 1, "list");
+
+        assertTrue(entry.equals(entry));
+        assertTrue(entry.equals(new CommandTraceEntry(TIME, 1, "list")));
+        assertFalse(entry.equals(null));
+        assertFalse(entry.equals("list"));
+        assertFalse(entry.equals(new CommandTraceEntry(TIME.plusSeconds(1), 1, "list")));
+        assertFalse(entry.equals(new CommandTraceEntry(TIME, 2, "list")));
+        assertFalse(entry.equals(new CommandTraceEntry(TIME, 1, "clear")));
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandTraceRecorderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void record_appendsEntriesAfterSessionHeader() throws Exception {
+        Path tracePath = temporaryFolder.resolve("traces").resolve("trace.txt");
+        CommandTraceRecorder recorder = new CommandTraceRecorder(tracePath);
+        recorder.record(0, "list");
+        recorder.record(1, "find n/Alex\nYeoh");
+        recorder.close();
+        recorder.record(2, "clear");
+
+        recorder = new CommandTraceRecorder(tracePath);
+        recorder.record(0, "help");
+        recorder.close();
+
+        List<String> lines = Files.readAllLines(tracePath);
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(0).startsWith(CommandTraceRecorder.COMMENT_PREFIX));
+        assertEquals("list", CommandTraceEntry.parse(lines.get(1)).getCommandText());
+        assertEquals(1, CommandTraceEntry.parse(lines.get(2)).getModelVersion());
+        assertEquals("find n/Alex\nYeoh", CommandTraceEntry.parse(lines.get(2)).getCommandText());
+        assertTrue(lines.get(3).startsWith(CommandTraceRecorder.COMMENT_PREFIX));
+        assertEquals("help", CommandTraceEntry.parse(lines.get(4)).getCommandText());
+    }
+}
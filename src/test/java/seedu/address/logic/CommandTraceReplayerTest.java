@@ -0,0 +1,147 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.AddressBookChecksum;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class CommandTraceReplayerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandTraceReplayer(null));
+    }
+
+    @Test
+    public void replay_recordedSession_reachesSameState() throws Exception {
+        Logic recordedLogic = createLogic("recorded");
+        Path tracePath = temporaryFolder.resolve("trace.txt");
+        CommandTraceRecorder recorder = new CommandTraceRecorder(tracePath);
+        recordedLogic.setCommandTraceRecorder(recorder);
+        executeIgnoringFailure(recordedLogic, PersonUtil.getAddCommand(AMY));
+        executeIgnoringFailure(recordedLogic, "unknowncommand");
+        executeIgnoringFailure(recordedLogic, "list");
+        executeIgnoringFailure(recordedLogic, PersonUtil.getAddCommand(BOB));
+        executeIgnoringFailure(recordedLogic, "delete 1");
+        recorder.close();
+
+        Logic replayedLogic = createLogic("replayed");
+        CommandTraceReplayer.Report report;
+        try (BufferedReader trace = Files.newBufferedReader(tracePath, StandardCharsets.UTF_8)) {
+            report = new CommandTraceReplayer(replayedLogic).replay(trace, 0);
+        }
+
+        assertEquals(5, report.getCommandCount());
+        assertEquals(1, report.getFailureCount());
+        assertEquals(0, report.getDivergenceCount());
+        assertEquals(2, report.getLatencies().get("add").getCount());
+        assertEquals(1, report.getLatencies().get("unknowncommand").getCount());
+        assertEquals(AddressBookChecksum.ofPersons(recordedLogic.getAddressBook()), report.getPersonChecksum());
+        assertEquals(AddressBookChecksum.ofEvents(recordedLogic.getAddressBook()), report.getEventChecksum());
+        assertTrue(Files.exists(temporaryFolder.resolve("replayed.json")));
+        assertTrue(report.toString().contains(CommandTraceReplayer.MESSAGE_LATENCY_HEADER));
+    }
+
+    @Test
+    public void replay_differentStartingData_diverges() throws Exception {
+        Logic logic = createLogic("empty");
+        logic.execute("clear");
+        String trace = "# session\n"
+                + "2024-10-01T10:00:00Z 0 delete 1\n"
+                + "2024-10-01T10:00:01Z 1 list\n";
+
+        CommandTraceReplayer.Report report = new CommandTraceReplayer(logic)
+                .replay(new BufferedReader(new StringReader(trace)), 0);
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(1, report.getFailureCount());
+        assertEquals(1, report.getDivergenceCount());
+        assertNotEquals(AddressBookChecksum.ofPersons(getTypicalAddressBook()), report.getPersonChecksum());
+    }
+
+    @Test
+    public void replay_severalSessions_versionsComparedWithinEachSession() throws Exception {
+        String sessionHeader = String.format(CommandTraceRecorder.SESSION_HEADER, "2024-10-01T10:00:00Z") + "\n";
+        String trace = sessionHeader
+                + "2024-10-01T10:00:00Z 0 " + PersonUtil.getAddCommand(AMY) + "\n"
+                + sessionHeader
+                + "2024-10-01T10:00:01Z 0 " + PersonUtil.getAddCommand(BOB) + "\n"
+                + "2024-10-01T10:00:02Z 1 list\n";
+
+        CommandTraceReplayer.Report report = new CommandTraceReplayer(createLogic("sessions"))
+                .replay(new BufferedReader(new StringReader(trace)), 0);
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(0, report.getFailureCount());
+        assertEquals(0, report.getDivergenceCount());
+    }
+
+    @Test
+    public void replay_sessionsFarApartInRealTime_timeBetweenSessionsNotReplayed() throws Exception {
+        String trace = String.format(CommandTraceRecorder.SESSION_HEADER, "2024-10-01T10:00:00Z") + "\n"
+                + "2024-10-01T10:00:00Z 0 list\n"
+                + "2024-10-01T10:00:00.100Z 0 list\n"
+                + String.format(CommandTraceRecorder.SESSION_HEADER, "2024-10-02T10:00:00Z") + "\n"
+                + "2024-10-02T10:00:00Z 0 list\n"
+                + "2024-10-02T10:00:00.100Z 0 list\n";
+        CommandTraceReplayer replayer = new CommandTraceReplayer(createLogic("apart"));
+
+        // replayed in real time, the day between the sessions would be waited for
+        CommandTraceReplayer.Report report = assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                replayer.replay(new BufferedReader(new StringReader(trace)), 1));
+        assertEquals(4, report.getCommandCount());
+        assertEquals(0, report.getDivergenceCount());
+    }
+
+    @Test
+    public void replay_invalidEntry_throwsIllegalValueException() {
+        CommandTraceReplayer replayer = new CommandTraceReplayer(createLogic("invalid"));
+        assertThrows(IllegalValueException.class, () ->
+                replayer.replay(new BufferedReader(new StringReader("list\n")), 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                replayer.replay(new BufferedReader(new StringReader("")), -1));
+    }
+
+    private Logic createLogic(String name) {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve(name + ".json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve(name + "Prefs.json")));
+        return new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+    }
+
+    private static void executeIgnoringFailure(Logic logic, String commandText) {
+        try {
+            logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            // failed commands are recorded and replayed too
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,30 +10,42 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.metrics.LatencyMetrics;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -70,6 +84,49 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_saveIntervalZero_savesOnlyWhenAsked() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("clubConnect.json");
+        logic.setSaveInterval(0);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookFilePath));
+
+        logic.saveAddressBook();
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_validCommand_latenciesRecorded() throws Exception {
+        LatencyMetrics metrics = LatencyMetrics.getInstance();
+        long parseCount = metrics.getHistogram(LatencyMetrics.PARSE_PREFIX + ListCommand.COMMAND_WORD).getCount();
+        long executeCount = metrics.getHistogram(LatencyMetrics.EXECUTE_PREFIX + ListCommand.COMMAND_WORD).getCount();
+        long saveCount = metrics.getHistogram(LatencyMetrics.SAVE_PREFIX + ListCommand.COMMAND_WORD).getCount();
+        long storageSaveCount = metrics.getHistogram(LatencyMetrics.STORAGE_SAVE).getCount();
+
+        logic.execute(" " + ListCommand.COMMAND_WORD + " ");
+        assertEquals(parseCount + 1,
+                metrics.getHistogram(LatencyMetrics.PARSE_PREFIX + ListCommand.COMMAND_WORD).getCount());
+        assertEquals(executeCount + 1,
+                metrics.getHistogram(LatencyMetrics.EXECUTE_PREFIX + ListCommand.COMMAND_WORD).getCount());
+        assertEquals(saveCount + 1,
+                metrics.getHistogram(LatencyMetrics.SAVE_PREFIX + ListCommand.COMMAND_WORD).getCount());
+        assertTrue(metrics.getHistogram(LatencyMetrics.STORAGE_SAVE).getCount() > storageSaveCount);
+        assertEquals(ListCommand.COMMAND_WORD, metrics.getLastCommandWord());
+    }
+
+    @Test
+    public void execute_unknownCommand_parseNotRecorded() {
+        String invalidCommand = "uicfhmowqewca";
+        assertParseException(invalidCommand, MESSAGE_UNKNOWN_COMMAND);
+        assertFalse(LatencyMetrics.getInstance().getHistograms()
+                .containsKey(LatencyMetrics.PARSE_PREFIX + invalidCommand));
+    }
+
+    @Test
+    public void setSaveInterval_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> logic.setSaveInterval(-1));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +139,147 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandSequence_executesAllAsOneStep() throws Exception {
+        String sequence = PersonUtil.getAddCommand(AMY) + " ; " + PersonUtil.getAddCommand(BOB) + ";";
+        CommandResult result = logic.execute(sequence);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)) + "\n"
+                + String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(BOB)), result.getFeedbackToUser());
+        assertEquals(2, model.getSnapshot().getPersonList().size());
+
+        // undone together
+        model.undoAddressBook();
+        assertEquals(0, model.getPersonList().size());
+    }
+
+    @Test
+    public void execute_commandSequenceWithFailingCommand_discardsAllChanges() {
+        String sequence = PersonUtil.getAddCommand(AMY) + ";delete 9";
+        assertCommandException(sequence,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n" + LogicManager.MESSAGE_SEQUENCE_ROLLED_BACK);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_commandSequenceWithInvalidCommand_executesNothing() {
+        assertParseException(PersonUtil.getAddCommand(AMY) + ";uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+    }
+
+    @Test
+    public void execute_commandSequenceWithUndo_throwsCommandException() {
+        assertCommandException(PersonUtil.getAddCommand(AMY) + ";" + UndoCommand.COMMAND_WORD,
+                LogicManager.MESSAGE_UNDO_IN_TRANSACTION);
+    }
+
+    @Test
+    public void execute_transactionCommitted_appliesChangesOnCommit() throws Exception {
+        logic.execute(LogicManager.BEGIN_COMMAND_WORD);
+        logic.execute(PersonUtil.getAddCommand(AMY));
+        logic.execute(PersonUtil.getAddCommand(BOB));
+
+        // not visible to readers or saved before the transaction is committed
+        assertTrue(model.hasPerson(AMY));
+        assertEquals(0, model.getSnapshot().getPersonList().size());
+        assertFalse(Files.exists(temporaryFolder.resolve("clubConnect.json")));
+
+        CommandResult result = logic.execute(LogicManager.COMMIT_COMMAND_WORD);
+        assertEquals(String.format(LogicManager.MESSAGE_TRANSACTION_COMMITTED, 2), result.getFeedbackToUser());
+        assertEquals(2, model.getSnapshot().getPersonList().size());
+        assertTrue(Files.exists(temporaryFolder.resolve("clubConnect.json")));
+
+        model.undoAddressBook();
+        assertEquals(0, model.getPersonList().size());
+    }
+
+    @Test
+    public void execute_transactionRolledBack_discardsChanges() throws Exception {
+        logic.execute(PersonUtil.getAddCommand(AMY));
+        logic.execute(LogicManager.BEGIN_COMMAND_WORD);
+        logic.execute(PersonUtil.getAddCommand(BOB));
+
+        CommandResult result = logic.execute(LogicManager.ROLLBACK_COMMAND_WORD);
+        assertEquals(String.format(LogicManager.MESSAGE_TRANSACTION_ROLLED_BACK, 1), result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+        assertCommandException(LogicManager.COMMIT_COMMAND_WORD, LogicManager.MESSAGE_NO_TRANSACTION);
+    }
+
+    @Test
+    public void execute_commandFailsInTransaction_rollsBackTransaction() throws Exception {
+        logic.execute(LogicManager.BEGIN_COMMAND_WORD);
+        logic.execute(PersonUtil.getAddCommand(AMY));
+
+        assertThrows(CommandException.class, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n"
+                + String.format(LogicManager.MESSAGE_TRANSACTION_ROLLED_BACK, 1), () -> logic.execute("delete 9"));
+        assertFalse(model.hasPerson(AMY));
+        assertCommandException(LogicManager.ROLLBACK_COMMAND_WORD, LogicManager.MESSAGE_NO_TRANSACTION);
+    }
+
+    @Test
+    public void saveAddressBook_transactionInProgress_savesOnlyCommittedChanges() throws Exception {
+        logic.execute(PersonUtil.getAddCommand(AMY));
+        logic.execute(LogicManager.BEGIN_COMMAND_WORD);
+        logic.execute(PersonUtil.getAddCommand(BOB));
+
+        // as when the app is closed before the transaction is committed
+        logic.saveAddressBook();
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("clubConnect.json"))
+                .readAddressBook().get();
+        assertEquals(1, saved.getPersonList().size());
+        assertEquals(AMY, saved.getPersonList().get(0));
+        assertTrue(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_invalidTransactionCommands_throwsCommandException() throws Exception {
+        assertCommandException(LogicManager.COMMIT_COMMAND_WORD, LogicManager.MESSAGE_NO_TRANSACTION);
+        assertCommandException(LogicManager.ROLLBACK_COMMAND_WORD, LogicManager.MESSAGE_NO_TRANSACTION);
+
+        logic.execute(LogicManager.BEGIN_COMMAND_WORD);
+        assertCommandException(LogicManager.BEGIN_COMMAND_WORD, LogicManager.MESSAGE_TRANSACTION_IN_PROGRESS);
+        assertCommandException(RedoCommand.COMMAND_WORD, LogicManager.MESSAGE_UNDO_IN_TRANSACTION);
+    }
+
+    @Test
+    public void execute_checkInSession_checksInPersonsAndSavesOnDone() throws Exception {
+        Event meeting = new EventBuilder(MEETING).withEventId(1).build();
+        model.addEvent(meeting);
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.commitAddressBook();
+
+        CommandResult result = logic.execute(CheckInSession.COMMAND_WORD + " " + meeting.getEventName());
+        assertEquals(String.format(CheckInSession.MESSAGE_STARTED, meeting.getEventName()),
+                result.getFeedbackToUser());
+        logic.execute(String.valueOf(ALICE.getId()));
+        // entries are not parsed as commands
+        assertCommandException(ListCommand.COMMAND_WORD, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME);
+        logic.execute(BENSON.getName().fullName);
+        assertEquals(CheckInSession.COMMAND_WORD, LatencyMetrics.getInstance().getLastCommandWord());
+        assertEquals(2, model.getSnapshot().getPersonList().stream()
+                .filter(person -> person.checkAssignedToEvent(meeting)).count());
+
+        result = logic.execute(CheckInSession.DONE_WORD);
+        assertEquals(String.format(CheckInSession.MESSAGE_ENDED, meeting.getEventName(), 2),
+                result.getFeedbackToUser());
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("clubConnect.json"))
+                .readAddressBook().get();
+        assertEquals(model.getAddressBook(), new AddressBook(saved));
+
+        // each check-in is undone on its own
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertTrue(model.findPersonById(ALICE.getId()).get().checkAssignedToEvent(meeting));
+        assertFalse(model.findPersonById(BENSON.getId()).get().checkAssignedToEvent(meeting));
+    }
+
+    @Test
+    public void execute_checkInInTransaction_throwsCommandException() throws Exception {
+        model.addEvent(new EventBuilder(MEETING).withEventId(1).build());
+        logic.execute(LogicManager.BEGIN_COMMAND_WORD);
+        assertCommandException(CheckInSession.COMMAND_WORD + " 1", LogicManager.MESSAGE_CHECK_IN_IN_TRANSACTION);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
@@ -14,6 +15,8 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -46,6 +49,29 @@ public class AssignEventByPersonIndexEventIndexCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_overlappingAssignedEvent_successWithWarning() {
+        Event workshop = new EventBuilder(WORKSHOP).withEventId(1).build();
+        model.addEvent(workshop);
+        model.assignEventToPerson(ALICE, MEETING);
+        AssignEventByPersonIndexEventIndexCommand command = new AssignEventByPersonIndexEventIndexCommand(
+                Index.fromOneBased(1), Index.fromOneBased(2));
+
+        String expectedMessage = String.format(AssignEventByPersonIndexEventIndexCommand.MESSAGE_SUCCESS,
+                workshop.getEventName(), ALICE.getName()) + "\n"
+                + String.format(AssignEventCommand.MESSAGE_SCHEDULE_CLASH, ALICE.getName(),
+                "'" + MEETING.getEventName() + "'");
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(ALICE);
+        expectedModel.addEvent(MEETING);
+        expectedModel.addEvent(workshop);
+        expectedModel.assignEventToPerson(ALICE, MEETING);
+        expectedModel.assignEventToPerson(expectedModel.getFilteredPersonList().get(0), workshop);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_personNotFound_throwsCommandException() {
         Index invalidPersonIndex = Index.fromOneBased(100); // Assuming index 100 does not exist
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ConflictsCommand}.
+ */
+public class ConflictsCommandTest {
+
+    private static final Event FIRST_WEEK = new EventBuilder().withEventName("First Week").withEventId(1)
+            .withEventDuration("2024-10-01", "2024-10-07").build();
+    private static final Event SECOND_WEEK = new EventBuilder().withEventName("Second Week").withEventId(2)
+            .withEventDuration("2024-10-08", "2024-10-14").build();
+    private static final Event WEEKEND = new EventBuilder().withEventName("Weekend").withEventId(3)
+            .withEventDuration("2024-10-07", "2024-10-08").build();
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        expectedModel = new ModelManager();
+        addEvents(model);
+        addEvents(expectedModel);
+    }
+
+    private static void addEvents(Model model) {
+        model.addEvent(FIRST_WEEK);
+        model.addEvent(SECOND_WEEK);
+        model.addEvent(WEEKEND);
+    }
+
+    @Test
+    public void execute_noConflicts_showsNoConflicts() {
+        model.addPerson(new PersonBuilder(ALICE).withEventIds(1, 2).build());
+        expectedModel.addPerson(new PersonBuilder(ALICE).withEventIds(1, 2).build());
+        assertCommandSuccess(new ConflictsCommand(), model, ConflictsCommand.MESSAGE_NO_CONFLICTS, expectedModel);
+    }
+
+    @Test
+    public void execute_overlappingEvents_listsConflicts() {
+        model.addPerson(new PersonBuilder(ALICE).withEventIds(1, 3).build());
+        model.addPerson(new PersonBuilder(BENSON).withEventIds(1, 2, 3).build());
+        expectedModel.addPerson(new PersonBuilder(ALICE).withEventIds(1, 3).build());
+        expectedModel.addPerson(new PersonBuilder(BENSON).withEventIds(1, 2, 3).build());
+
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_CONFLICTS_FOUND, 3)
+                + "\n" + String.format(ConflictsCommand.MESSAGE_CONFLICT, ALICE.getName(), "First Week", "Weekend")
+                + "\n" + String.format(ConflictsCommand.MESSAGE_CONFLICT, BENSON.getName(), "First Week", "Weekend")
+                + "\n" + String.format(ConflictsCommand.MESSAGE_CONFLICT, BENSON.getName(), "Weekend", "Second Week");
+        assertCommandSuccess(new ConflictsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.jfr.FlightRecording;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class DumpRecordingCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @AfterEach
+    public void tearDown() {
+        FlightRecording.stop();
+    }
+
+    @Test
+    public void execute_noRecording_throwsCommandException() {
+        FlightRecording.stop();
+        assertCommandFailure(new DumpRecordingCommand(), model, DumpRecordingCommand.MESSAGE_NO_RECORDING);
+    }
+
+    @Test
+    public void execute_recording_savedToFile() throws Exception {
+        Path dumpPath = testFolder.resolve("clubconnect.jfr");
+        FlightRecording.start(dumpPath);
+
+        assertCommandSuccess(new DumpRecordingCommand(), model,
+                String.format(DumpRecordingCommand.MESSAGE_SUCCESS, dumpPath), expectedModel);
+        assertTrue(Files.size(dumpPath) > 0);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventOverlapsDurationPredicate;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for EventsOnCommand.
+ */
+public class EventsOnCommandTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-10-11");
+
+    @Test
+    public void execute_eventsOnDate_showsEventsOnDate() {
+        Event camp = new EventBuilder().withEventName("Camp").withEventDuration("2024-10-02", "2024-10-11")
+                .withEventId(1).build();
+        Event dinner = new EventBuilder().withEventName("Dinner").withEventDuration("2024-10-12", "2024-10-12")
+                .withEventId(2).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEvent(camp);
+        addressBook.addEvent(dinner);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+        expectedModel.updateFilteredEventList(new EventOverlapsDurationPredicate(new EventDuration(DATE, DATE)));
+
+        assertEventCommandSuccess(new EventsOnCommand(DATE), model,
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(List.of(camp), model.getFilteredEventList());
+    }
+
+    @Test
+    public void equals() {
+        EventsOnCommand eventsOnCommand = new EventsOnCommand(DATE);
+
+        // same values -> returns true
+        assertTrue(eventsOnCommand.equals(new EventsOnCommand(DATE)));
+
+        // null -> returns false
+        assertFalse(eventsOnCommand.equals(null));
+
+        // different date -> returns false
+        assertFalse(eventsOnCommand.equals(new EventsOnCommand(DATE.plusDays(1))));
+    }
+}
@@ -1,14 +1,25 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventOverlapsDurationPredicate;
+import seedu.address.testutil.EventBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListEventsCommand.
@@ -29,4 +40,34 @@ public class ListEventsCommandTest {
         assertEventCommandSuccess(new ListEventsCommand(), model, ListEventsCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_dateRange_showsOverlappingEvents() {
+        Event camp = new EventBuilder().withEventName("Camp").withEventDuration("2024-10-02", "2024-10-11")
+                .withEventId(1).build();
+        Event dinner = new EventBuilder().withEventName("Dinner").withEventDuration("2024-10-12", "2024-10-12")
+                .withEventId(2).build();
+        model.addEvent(camp);
+        model.addEvent(dinner);
+        expectedModel.addEvent(camp);
+        expectedModel.addEvent(dinner);
+
+        EventOverlapsDurationPredicate predicate = new EventOverlapsDurationPredicate(
+                new EventDuration(LocalDate.parse("2024-10-10"), LocalDate.parse("2024-10-11")));
+        expectedModel.updateFilteredEventList(predicate);
+        assertEventCommandSuccess(new ListEventsCommand(predicate), model,
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(List.of(camp), model.getFilteredEventList());
+    }
+
+    @Test
+    public void equals() {
+        EventOverlapsDurationPredicate predicate = new EventOverlapsDurationPredicate(
+                new EventDuration(LocalDate.parse("2024-10-10"), LocalDate.parse("2024-10-11")));
+
+        assertTrue(new ListEventsCommand().equals(new ListEventsCommand()));
+        assertTrue(new ListEventsCommand(predicate).equals(new ListEventsCommand(predicate)));
+        assertFalse(new ListEventsCommand().equals(new ListEventsCommand(predicate)));
+        assertFalse(new ListEventsCommand().equals(null));
+    }
+
 }
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonSortOrder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByNameCommand = new SortCommand(PersonSortOrder.NAME);
+        SortCommand sortByIdCommand = new SortCommand(PersonSortOrder.ID);
+
+        // same object -> returns true
+        assertTrue(sortByNameCommand.equals(sortByNameCommand));
+
+        // same values -> returns true
+        assertTrue(sortByNameCommand.equals(new SortCommand(PersonSortOrder.NAME)));
+
+        // different types -> returns false
+        assertFalse(sortByNameCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByNameCommand.equals(null));
+
+        // different sort order -> returns false
+        assertFalse(sortByNameCommand.equals(sortByIdCommand));
+    }
+
+    @Test
+    public void execute_sortByTagCount_mostTagsFirst() {
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, PersonSortOrder.TAG_COUNT);
+        expectedModel.updateSortedPersonList(PersonSortOrder.TAG_COUNT.getComparator());
+        assertCommandSuccess(new SortCommand(PersonSortOrder.TAG_COUNT), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, ALICE, DANIEL, CARL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortByNameThenAdd_addedPersonInSortedPosition() {
+        new SortCommand(PersonSortOrder.NAME).execute(model);
+        model.addPerson(AMY);
+        assertEquals(Arrays.asList(ALICE, AMY, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(PersonSortOrder.ID);
+        String expected = SortCommand.class.getCanonicalName() + "{sortOrder=id}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
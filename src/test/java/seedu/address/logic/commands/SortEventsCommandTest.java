@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventSortOrder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortEventsCommand.
+ */
+public class SortEventsCommandTest {
+
+    private final Event retreat = new EventBuilder().withEventName("Retreat")
+            .withEventDuration("2024-12-01", "2024-12-03").withEventId(1).build();
+    private final Event briefing = new EventBuilder().withEventName("Briefing")
+            .withEventDuration("2024-11-01", "2024-11-01").withEventId(2).build();
+    private final Event orientation = new EventBuilder().withEventName("Orientation")
+            .withEventDuration("2024-11-01", "2024-11-05").withEventId(3).build();
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEvent(retreat);
+        addressBook.addEvent(briefing);
+        addressBook.addEvent(orientation);
+        model = new ModelManager(addressBook, new UserPrefs());
+        expectedModel = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        SortEventsCommand sortByStartCommand = new SortEventsCommand(EventSortOrder.START_DATE);
+
+        // same values -> returns true
+        assertTrue(sortByStartCommand.equals(new SortEventsCommand(EventSortOrder.START_DATE)));
+
+        // null -> returns false
+        assertFalse(sortByStartCommand.equals(null));
+
+        // different sort order -> returns false
+        assertFalse(sortByStartCommand.equals(new SortEventsCommand(EventSortOrder.NAME)));
+    }
+
+    @Test
+    public void execute_sortByStartDate_earliestFirst() {
+        String expectedMessage = String.format(SortEventsCommand.MESSAGE_SUCCESS, EventSortOrder.START_DATE);
+        expectedModel.updateSortedEventList(EventSortOrder.START_DATE);
+        assertEventCommandSuccess(new SortEventsCommand(EventSortOrder.START_DATE), model, expectedMessage,
+                expectedModel);
+
+        // same start date -> earlier end date first
+        assertEquals(Arrays.asList(briefing, orientation, retreat), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_sortByName_alphabeticalOrder() {
+        new SortEventsCommand(EventSortOrder.NAME).execute(model);
+        assertEquals(Arrays.asList(briefing, orientation, retreat), model.getFilteredEventList());
+
+        Event editedRetreat = new EventBuilder(retreat).withEventName("Annual Retreat").build();
+        model.setEvent(retreat, editedRetreat);
+        assertEquals(Arrays.asList(editedRetreat, briefing, orientation), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_sortByAttendance_mostAttendedFirst() {
+        model.addPerson(new PersonBuilder(ALICE).withEventIds(1, 3).build());
+        model.addPerson(new PersonBuilder(BENSON).withEventIds(3).build());
+        new SortEventsCommand(EventSortOrder.ATTENDANCE).execute(model);
+        assertEquals(Arrays.asList(orientation, retreat, briefing), model.getFilteredEventList());
+
+        // list is sorted again when attendance changes
+        model.assignEventToPerson(model.getFilteredPersonList().get(1), briefing);
+        model.assignEventToPerson(model.getFilteredPersonList().get(0), briefing);
+        assertEquals(Arrays.asList(briefing, orientation, retreat), model.getFilteredEventList());
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.LatencyMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noLatencies_showsHeapUsageOnly() {
+        CommandResult result = new StatsCommand(new LatencyMetrics()).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(StatsCommand.MESSAGE_NO_LATENCIES + "\nHeap: "));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_latencies_showsOneLinePerName() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        metrics.record("execute add", 2_000_000);
+        metrics.record("execute add", 4_000_000);
+        metrics.record("parse add", 10_000);
+
+        String[] lines = new StatsCommand(metrics).execute(model).getFeedbackToUser().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(StatsCommand.MESSAGE_LATENCIES_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith("execute add: 2, 3.000, "), lines[1]);
+        assertTrue(lines[1].endsWith(", 4.000"), lines[1]);
+        assertTrue(lines[2].startsWith("parse add: 1, 0.010, "), lines[2]);
+        assertTrue(lines[3].startsWith("Heap: "), lines[3]);
+        assertEquals(expectedModel, model);
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,15 +26,18 @@ import seedu.address.logic.commands.AssignEventByPersonNameEventIndexCommand;
 import seedu.address.logic.commands.AssignEventByPersonNameEventNameCommand;
 import seedu.address.logic.commands.AssignEventCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteByIndexCommand;
 import seedu.address.logic.commands.DeleteByNameCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteEventByIndexCommand;
 import seedu.address.logic.commands.DeleteEventByNameCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
+import seedu.address.logic.commands.DumpRecordingCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.EditEventCommand;
+import seedu.address.logic.commands.EventsOnCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
@@ -41,18 +45,25 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListEventsCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.SortEventsCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnassignEventByPersonIndexEventIndexCommand;
 import seedu.address.logic.commands.UnassignEventByPersonIndexEventNameCommand;
 import seedu.address.logic.commands.UnassignEventByPersonNameEventIndexCommand;
 import seedu.address.logic.commands.UnassignEventByPersonNameEventNameCommand;
 import seedu.address.logic.commands.UnassignEventCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventSortOrder;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.tag.TagContainsKeywordsPredicate;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -108,6 +119,26 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(PersonSortOrder.NAME),
+                parser.parseCommand(SortCommand.COMMAND_WORD + " by/name"));
+        assertEquals(new SortEventsCommand(EventSortOrder.START_DATE),
+                parser.parseCommand(SortEventsCommand.COMMAND_WORD + " by/start"));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -175,6 +206,30 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListEventsCommand.COMMAND_WORD + " 3") instanceof ListEventsCommand);
     }
 
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD) instanceof ConflictsCommand);
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD + " 3") instanceof ConflictsCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_dumpRecording() throws Exception {
+        assertTrue(parser.parseCommand(DumpRecordingCommand.COMMAND_WORD) instanceof DumpRecordingCommand);
+        assertTrue(parser.parseCommand(DumpRecordingCommand.COMMAND_WORD + " 3") instanceof DumpRecordingCommand);
+    }
+
+    @Test
+    public void parseCommand_eventsOn() throws Exception {
+        assertEquals(new EventsOnCommand(LocalDate.parse("2024-10-02")),
+                parser.parseCommand(EventsOnCommand.COMMAND_WORD + " 2024-10-02"));
+    }
+
     @Test
     public void parseCommand_unassign_events() throws Exception {
         UnassignEventCommand unassignEventByPersonIndexEventIndexCommand = (UnassignEventCommand) parser.parseCommand(
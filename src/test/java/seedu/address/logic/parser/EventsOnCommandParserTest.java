@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.EventsOnCommand;
+import seedu.address.model.event.EventDuration;
+
+public class EventsOnCommandParserTest {
+
+    private EventsOnCommandParser parser = new EventsOnCommandParser();
+
+    @Test
+    public void parse_validDate_returnsEventsOnCommand() {
+        assertParseSuccess(parser, " 2024-10-02 ", new EventsOnCommand(LocalDate.parse("2024-10-02")));
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, EventsOnCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, " 02-10-2024", EventDuration.MESSAGE_CONSTRAINTS_DATE_STRING);
+    }
+}
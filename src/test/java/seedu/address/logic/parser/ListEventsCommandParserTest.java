@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListEventsCommand;
+import seedu.address.model.event.EventDuration;
+import seedu.address.model.event.EventOverlapsDurationPredicate;
+
+public class ListEventsCommandParserTest {
+
+    private ListEventsCommandParser parser = new ListEventsCommandParser();
+
+    @Test
+    public void parse_noDateRange_returnsListAllEventsCommand() {
+        assertParseSuccess(parser, "", new ListEventsCommand());
+        assertParseSuccess(parser, " 3", new ListEventsCommand());
+    }
+
+    @Test
+    public void parse_validDateRange_returnsListEventsCommand() {
+        ListEventsCommand expectedCommand = new ListEventsCommand(new EventOverlapsDurationPredicate(
+                new EventDuration(LocalDate.parse("2024-10-02"), LocalDate.parse("2024-10-11"))));
+        assertParseSuccess(parser, " from/2024-10-02 to/2024-10-11", expectedCommand);
+        assertParseSuccess(parser, " to/2024-10-11  from/2024-10-02 ", expectedCommand);
+    }
+
+    @Test
+    public void parse_incompleteDateRange_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " from/2024-10-02", expectedMessage);
+        assertParseFailure(parser, " to/2024-10-02", expectedMessage);
+        assertParseFailure(parser, " 3 from/2024-10-02 to/2024-10-11", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " from/2024-10-32 to/2024-11-01", EventDuration.MESSAGE_CONSTRAINTS_DATE_STRING);
+        assertParseFailure(parser, " from/2024-10-11 to/2024-10-02", EventDuration.MESSAGE_CONSTRAINTS_DATE_ORDER);
+    }
+}
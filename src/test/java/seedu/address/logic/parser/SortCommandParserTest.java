@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.PersonSortOrder;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " by/name", new SortCommand(PersonSortOrder.NAME));
+        assertParseSuccess(parser, " by/ID ", new SortCommand(PersonSortOrder.ID));
+        assertParseSuccess(parser, " by/tags", new SortCommand(PersonSortOrder.TAG_COUNT));
+    }
+
+    @Test
+    public void parse_missingField_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " name", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidField_throwsParseException() {
+        assertParseFailure(parser, " by/phone", PersonSortOrder.MESSAGE_CONSTRAINTS);
+    }
+}
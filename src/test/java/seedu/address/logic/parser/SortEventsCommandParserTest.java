@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortEventsCommand;
+import seedu.address.model.event.EventSortOrder;
+
+public class SortEventsCommandParserTest {
+
+    private SortEventsCommandParser parser = new SortEventsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortEventsCommand() {
+        assertParseSuccess(parser, " by/start", new SortEventsCommand(EventSortOrder.START_DATE));
+        assertParseSuccess(parser, " by/Name ", new SortEventsCommand(EventSortOrder.NAME));
+        assertParseSuccess(parser, " by/attendance", new SortEventsCommand(EventSortOrder.ATTENDANCE));
+    }
+
+    @Test
+    public void parse_missingField_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortEventsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidField_throwsParseException() {
+        assertParseFailure(parser, " by/end", EventSortOrder.MESSAGE_CONSTRAINTS);
+    }
+}
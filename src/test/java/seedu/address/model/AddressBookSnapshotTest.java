@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.id.counter.list.IdCounterList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null));
+    }
+
+    @Test
+    public void constructor_copiesCurrentData() {
+        addressBook.addEvent(MEETING);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getEventList(), snapshot.getEventList());
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+        IdCounterList idCounterList = snapshot.getIdCounterList();
+        assertEquals(addressBook.getIdCounterList().getPersonIdCounter(), idCounterList.getPersonIdCounter());
+        assertEquals(addressBook.getIdCounterList().getEventIdCounter(), idCounterList.getEventIdCounter());
+    }
+
+    @Test
+    public void addressBookModified_snapshotUnchanged() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        AddressBookSnapshot expectedSnapshot = new AddressBookSnapshot(getTypicalAddressBook());
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(AMY);
+        addressBook.addEvent(MEETING);
+        assertEquals(expectedSnapshot, snapshot);
+        assertFalse(snapshot.isCurrent(addressBook));
+    }
+
+    @Test
+    public void findById_snapshotOfVersion_findsElementsOfThatVersion() {
+        addressBook.addEvent(MEETING);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removeEvent(MEETING);
+
+        assertEquals(Optional.of(ALICE), snapshot.findPersonById(ALICE.getId()));
+        assertEquals(Optional.of(MEETING), snapshot.findEventById(MEETING.getEventId()));
+        assertEquals(Optional.empty(), snapshot.findPersonById(-1));
+
+        AddressBookSnapshot newSnapshot = new AddressBookSnapshot(addressBook);
+        assertEquals(Optional.of(editedAlice), newSnapshot.findPersonById(ALICE.getId()));
+        assertEquals(Optional.empty(), newSnapshot.findEventById(MEETING.getEventId()));
+    }
+
+    @Test
+    public void isCurrent() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        assertTrue(snapshot.isCurrent(addressBook));
+
+        // ID counter advanced without modifying persons or events
+        addressBook.generateNewPersonId();
+        assertFalse(snapshot.isCurrent(addressBook));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getEventList().add(MEETING));
+    }
+
+    @Test
+    public void getIdCounterList_modifyCounters_snapshotUnchanged() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        int personIdCounter = snapshot.getIdCounterList().getPersonIdCounter();
+        snapshot.getIdCounterList().setPersonIdCounter(personIdCounter + 1);
+        assertEquals(personIdCounter, snapshot.getIdCounterList().getPersonIdCounter());
+    }
+
+    @Test
+    public void equals() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        // same values -> returns true
+        assertEquals(snapshot, new AddressBookSnapshot(getTypicalAddressBook()));
+
+        // same object -> returns true
+        assertEquals(snapshot, snapshot);
+
+        // null -> returns false
+        assertNotEquals(null, snapshot);
+
+        // different persons -> returns false
+        assertNotEquals(snapshot, new AddressBookSnapshot(new AddressBook()));
+    }
+}
@@ -21,9 +21,11 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.ScheduleConflict;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.id.counter.list.IdCounterList;
 import seedu.address.model.person.Name;
@@ -326,6 +328,152 @@ public class AddressBookTest {
         assertFalse(addressBook.hasEvent(originalEvent));
     }
 
+    @Test
+    public void getVersion_afterModification_incremented() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.addEvent(MEETING);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_readOnlyOperations_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void findEventsClashingWith_overlappingAssignedEvents_returnsOverlappingEvents() {
+        Event firstWeek = new EventBuilder().withEventName("First Week").withEventId(1)
+                .withEventDuration("2024-10-01", "2024-10-07").build();
+        Event secondWeek = new EventBuilder().withEventName("Second Week").withEventId(2)
+                .withEventDuration("2024-10-08", "2024-10-14").build();
+        Event weekend = new EventBuilder().withEventName("Weekend").withEventId(3)
+                .withEventDuration("2024-10-07", "2024-10-08").build();
+        Person alice = new PersonBuilder(ALICE).withEventIds(1).build();
+        addressBook.addEvent(firstWeek);
+        addressBook.addEvent(secondWeek);
+        addressBook.addEvent(weekend);
+        addressBook.addPerson(alice);
+
+        assertEquals(List.of(firstWeek), addressBook.findEventsClashingWith(alice, weekend));
+        assertEquals(List.of(), addressBook.findEventsClashingWith(alice, secondWeek));
+
+        // index is updated on assignment
+        addressBook.assignEventToPerson(alice, secondWeek);
+        alice = addressBook.getPersonList().get(0);
+        assertEquals(List.of(firstWeek, secondWeek), addressBook.findEventsClashingWith(alice, weekend));
+
+        // index is rebuilt after unassignment
+        addressBook.unassignEventFromPerson(alice, firstWeek);
+        alice = addressBook.getPersonList().get(0);
+        assertEquals(List.of(secondWeek), addressBook.findEventsClashingWith(alice, weekend));
+
+        // index is rebuilt after an event is edited
+        Event editedSecondWeek = new EventBuilder(secondWeek).withEventDuration("2024-10-09", "2024-10-14").build();
+        addressBook.setEvent(secondWeek, editedSecondWeek);
+        assertEquals(List.of(), addressBook.findEventsClashingWith(alice, weekend));
+    }
+
+    @Test
+    public void findScheduleConflicts_overlappingAssignedEvents_returnsEachPairOnce() {
+        Event firstWeek = new EventBuilder().withEventName("First Week").withEventId(1)
+                .withEventDuration("2024-10-01", "2024-10-07").build();
+        Event secondWeek = new EventBuilder().withEventName("Second Week").withEventId(2)
+                .withEventDuration("2024-10-08", "2024-10-14").build();
+        Event weekend = new EventBuilder().withEventName("Weekend").withEventId(3)
+                .withEventDuration("2024-10-07", "2024-10-08").build();
+        Person alice = new PersonBuilder(ALICE).withEventIds(1, 2, 3).build();
+        Person amy = new PersonBuilder(AMY).withEventIds(1, 2).build();
+        addressBook.addEvent(firstWeek);
+        addressBook.addEvent(secondWeek);
+        addressBook.addEvent(weekend);
+        addressBook.addPerson(alice);
+        addressBook.addPerson(amy);
+
+        assertEquals(List.of(new ScheduleConflict(alice, firstWeek, weekend),
+                new ScheduleConflict(alice, weekend, secondWeek)), addressBook.findScheduleConflicts());
+
+        // deleted events no longer conflict
+        addressBook.removeEvent(weekend);
+        assertEquals(List.of(), addressBook.findScheduleConflicts());
+    }
+
+    @Test
+    public void getAttendance_personsAssignedAndRemoved_countsUpdated() {
+        Event workshop = new EventBuilder(WORKSHOP).withEventId(1).build();
+        addressBook.addEvent(MEETING);
+        addressBook.addEvent(workshop);
+        addressBook.addPerson(new PersonBuilder(ALICE).withEventIds(MEETING.getEventId()).build());
+        addressBook.addPerson(AMY);
+        assertEquals(1, addressBook.getAttendance(MEETING));
+        assertEquals(0, addressBook.getAttendance(workshop));
+
+        // assigning twice counts once
+        addressBook.assignEventToPerson(AMY, MEETING);
+        Person amy = addressBook.getPersonList().get(1);
+        addressBook.assignEventToPerson(amy, MEETING);
+        addressBook.assignEventToPerson(amy, workshop);
+        amy = addressBook.getPersonList().get(1);
+        assertEquals(2, addressBook.getAttendance(MEETING));
+        assertEquals(1, addressBook.getAttendance(workshop));
+
+        addressBook.unassignEventFromPerson(amy, workshop);
+        amy = addressBook.getPersonList().get(1);
+        assertEquals(0, addressBook.getAttendance(workshop));
+
+        addressBook.removePerson(amy);
+        assertEquals(1, addressBook.getAttendance(MEETING));
+
+        addressBook.removeEvent(MEETING);
+        assertEquals(0, addressBook.getAttendance(MEETING));
+        assertTrue(addressBook.getAttendanceCounts().isEmpty());
+    }
+
+    @Test
+    public void getAttendance_afterResetData_countsAssignedPersons() {
+        Person alice = new PersonBuilder(ALICE).withEventIds(MEETING.getEventId()).build();
+        Person amy = new PersonBuilder(AMY).withEventIds(MEETING.getEventId()).build();
+        AddressBookStub newData = new AddressBookStub(Arrays.asList(alice, amy), List.of(MEETING));
+        addressBook.resetData(newData);
+        assertEquals(2, addressBook.getAttendance(MEETING));
+
+        // editing a person moves their attendance
+        addressBook.setPerson(amy, AMY);
+        assertEquals(1, addressBook.getAttendance(MEETING));
+    }
+
+    @Test
+    public void setPersons_someCountsUnchanged_reportsOnlyChangedCounts() {
+        Event workshop = new EventBuilder(WORKSHOP).withEventId(1).build();
+        Person alice = new PersonBuilder(ALICE).withEventIds(MEETING.getEventId()).build();
+        Person amy = new PersonBuilder(AMY).withEventIds(workshop.getEventId()).build();
+        addressBook.setPersons(Arrays.asList(alice, amy));
+        List<Integer> changedEventIds = new ArrayList<>();
+        addressBook.getAttendanceCounts().addListener((MapChangeListener<Integer, Integer>) change ->
+                changedEventIds.add(change.getKey()));
+
+        addressBook.setPersons(Arrays.asList(alice, AMY));
+        assertEquals(List.of(workshop.getEventId()), changedEventIds);
+        assertEquals(1, addressBook.getAttendance(MEETING));
+        assertEquals(0, addressBook.getAttendance(workshop));
+    }
+
+    @Test
+    public void getAttendanceCounts_modifyMap_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getAttendanceCounts().put(0, 1));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and events lists can violate interface constraints.
      */
@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilterResultCacheTest {
+
+    private static final Predicate<Person> ALICE_PREDICATE =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Alice"));
+
+    private final FilterResultCache<Person> cache = new FilterResultCache<>();
+
+    @Test
+    public void get_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.get(null, 0));
+    }
+
+    @Test
+    public void put_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.put(null, 0, List.of()));
+        assertThrows(NullPointerException.class, () -> cache.put(ALICE_PREDICATE, 0, null));
+    }
+
+    @Test
+    public void get_notCached_returnsEmpty() {
+        assertFalse(cache.get(ALICE_PREDICATE, 0).isPresent());
+    }
+
+    @Test
+    public void get_sameVersion_returnsCachedMembership() {
+        cache.put(ALICE_PREDICATE, 3, List.of(ALICE));
+
+        // equal but distinct predicate -> hit
+        Predicate<Person> membership = cache.get(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice")), 3).get();
+        assertTrue(membership.test(ALICE));
+        assertFalse(membership.test(BENSON));
+
+        // equal but distinct person -> not a member, as results are held by identity
+        assertFalse(membership.test(new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void get_differentVersion_evictsStaleResult() {
+        cache.put(ALICE_PREDICATE, 3, List.of(ALICE));
+        assertFalse(cache.get(ALICE_PREDICATE, 4).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_exceedsCapacity_evictsLeastRecentlyUsed() {
+        FilterResultCache<Person> smallCache = new FilterResultCache<>(2);
+        Predicate<Person> bensonPredicate = new NameContainsKeywordsPredicate(Collections.singletonList("Benson"));
+        Predicate<Person> carlPredicate = new NameContainsKeywordsPredicate(Arrays.asList("Carl"));
+
+        smallCache.put(ALICE_PREDICATE, 0, List.of(ALICE));
+        smallCache.put(bensonPredicate, 0, List.of(BENSON));
+        smallCache.get(ALICE_PREDICATE, 0); // Alice is now the most recently used
+        smallCache.put(carlPredicate, 0, List.of(CARL));
+
+        assertEquals(2, smallCache.size());
+        assertTrue(smallCache.get(ALICE_PREDICATE, 0).isPresent());
+        assertFalse(smallCache.get(bensonPredicate, 0).isPresent());
+        assertTrue(smallCache.get(carlPredicate, 0).isPresent());
+    }
+
+    @Test
+    public void clear_removesAllResults() {
+        cache.put(ALICE_PREDICATE, 0, List.of(ALICE));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
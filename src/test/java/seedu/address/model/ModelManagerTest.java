@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -11,15 +13,19 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDuration;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventOverlapsDurationPredicate;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -97,6 +103,16 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPersons_deletePersons_changesAllGivenPersons() {
+        modelManager.updateFilteredPersonList(person -> false);
+        modelManager.addPersons(List.of(ALICE, BENSON));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePersons(List.of(BENSON, ALICE));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void addPerson_personWithInvalidId_throwsAssertionError() {
 
@@ -165,6 +181,59 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_repeatedSearch_sameResult() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+
+        modelManager.updateFilteredPersonList(predicate);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_searchAfterModification_reflectsModification() {
+        modelManager.addPerson(ALICE);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        modelManager.updateFilteredPersonList(predicate);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_afterRepeatedSearch_editedPersonStillFiltered() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        modelManager.updateFilteredPersonList(predicate);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(predicate);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_narrowingSearch_filtersCurrentResults() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("e")));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("ice")));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        // unrelated search -> falls back to a full scan
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("ben")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void hasEvent_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasEvent(null));
@@ -272,6 +341,77 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEventList().remove(0));
     }
 
+    @Test
+    public void updateFilteredEventList_dateRange_showsEventsFromIndexAndKeepsThemUpToDate() {
+        Event camp = new EventBuilder().withEventName("Camp").withEventDuration("2024-10-02", "2024-10-11")
+                .withEventId(1).build();
+        Event dinner = new EventBuilder().withEventName("Dinner").withEventDuration("2024-10-12", "2024-10-12")
+                .withEventId(2).build();
+        modelManager.addEvent(camp);
+        modelManager.addEvent(dinner);
+
+        modelManager.updateFilteredEventList(new EventOverlapsDurationPredicate(
+                new EventDuration(LocalDate.parse("2024-10-10"), LocalDate.parse("2024-10-11"))));
+        assertEquals(List.of(camp), modelManager.getFilteredEventList());
+
+        Event earlierDinner = new EventBuilder(dinner).withEventDuration("2024-10-11", "2024-10-11").build();
+        modelManager.setEvent(dinner, earlierDinner);
+        modelManager.deleteEvent(camp);
+        assertEquals(List.of(earlierDinner), modelManager.getFilteredEventList());
+
+        modelManager.updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
+        assertEquals(List.of(earlierDinner), modelManager.getFilteredEventList());
+    }
+
+    @Test
+    public void getSnapshot_changesCommitted_publishesNewSnapshot() {
+        AddressBookSnapshot initialSnapshot = modelManager.getSnapshot();
+        assertEquals(new AddressBookSnapshot(new AddressBook()), initialSnapshot);
+
+        // uncommitted changes are not published
+        modelManager.addPerson(ALICE);
+        assertSame(initialSnapshot, modelManager.getSnapshot());
+
+        modelManager.commitAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getSnapshot().getPersonList());
+
+        // no changes since the last commit -> same snapshot
+        AddressBookSnapshot snapshot = modelManager.getSnapshot();
+        modelManager.commitAddressBook();
+        assertSame(snapshot, modelManager.getSnapshot());
+
+        modelManager.undoAddressBook();
+        assertEquals(initialSnapshot, modelManager.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_readFromAnotherThread_seesOnlyCommittedStates() throws Exception {
+        int commandCount = 200;
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            int lastSize = 0;
+            while (lastSize < 2 * commandCount && failure.get() == null) {
+                AddressBookSnapshot snapshot = modelManager.getSnapshot();
+                int size = snapshot.getPersonList().size();
+                // every command adds two persons
+                if (size % 2 != 0 || size < lastSize) {
+                    failure.set("Saw " + size + " persons after " + lastSize);
+                }
+                lastSize = size;
+            }
+        });
+        reader.start();
+        for (int i = 0; i < commandCount; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Person " + (2 * i)).build());
+            modelManager.addPerson(new PersonBuilder().withName("Person " + (2 * i + 1)).build());
+            modelManager.commitAddressBook();
+        }
+        reader.join(10000);
+
+        assertFalse(reader.isAlive());
+        assertNull(failure.get());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,45 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelFilterTest {
+
+    private static final List<Integer> LARGE_LIST = IntStream.range(0, 50_000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void evaluate_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelFilter.evaluate(null, x -> true));
+        assertThrows(NullPointerException.class, () -> ParallelFilter.evaluate(LARGE_LIST, null));
+    }
+
+    @Test
+    public void evaluate_emptyList_returnsEmptyBitSet() {
+        assertTrue(ParallelFilter.evaluate(List.of(), x -> true).isEmpty());
+    }
+
+    @Test
+    public void evaluate_largeList_setsMatchingIndices() {
+        BitSet matches = ParallelFilter.evaluate(LARGE_LIST, x -> x % 7 == 0);
+        assertEquals((LARGE_LIST.size() + 6) / 7, matches.cardinality());
+        for (int i = 0; i < LARGE_LIST.size(); i++) {
+            assertEquals(i % 7 == 0, matches.get(i));
+        }
+    }
+
+    @Test
+    public void filter_largeList_sameAsSequentialFilter() {
+        Predicate<Integer> predicate = x -> Integer.toString(x).contains("42");
+        List<Integer> expected = LARGE_LIST.stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, ParallelFilter.filter(LARGE_LIST, predicate));
+    }
+}
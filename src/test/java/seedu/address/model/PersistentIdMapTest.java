@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PersistentIdMapTest {
+
+    /** Elements are strings whose ID is the number before the colon. */
+    private static final ToIntFunction<String> GET_ID = element -> Integer.parseInt(element.split(":")[0]);
+
+    @Test
+    public void copyOf_list_findsEveryElement() {
+        List<String> elements = List.of("3:a", "1:b", "4:c", "5:d", "9:e");
+        PersistentIdMap<String> map = PersistentIdMap.copyOf(elements, GET_ID);
+        for (String element : elements) {
+            assertEquals(Optional.of(element), map.get(GET_ID.applyAsInt(element)));
+        }
+        assertEquals(Optional.empty(), map.get(2));
+        assertEquals(elements.size(), map.size());
+    }
+
+    @Test
+    public void plusAndMinus_originalMapUnchanged() {
+        PersistentIdMap<String> original = PersistentIdMap.copyOf(List.of("1:a", "2:b"), GET_ID);
+        PersistentIdMap<String> changed = original.plus("3:c").minus("1:a");
+        assertEquals(Optional.empty(), changed.get(1));
+        assertEquals(Optional.of("3:c"), changed.get(3));
+        assertEquals(Optional.of("1:a"), original.get(1));
+        assertEquals(Optional.empty(), original.get(3));
+    }
+
+    @Test
+    public void minus_sharedId_keepsOtherElement() {
+        PersistentIdMap<String> map = PersistentIdMap.<String>empty(GET_ID).plus("1:a").plus("1:b");
+        assertEquals(Optional.of("1:b"), map.minus("1:a").get(1));
+        assertEquals(Optional.of("1:a"), map.minus("1:b").get(1));
+        assertEquals(map.get(1), map.minus("1:c").get(1));
+    }
+
+    @Test
+    public void plusAndMinus_randomOperations_matchList() {
+        Random random = new Random(42);
+        List<String> expected = new ArrayList<>();
+        PersistentIdMap<String> map = PersistentIdMap.empty(GET_ID);
+        for (int i = 0; i < 5_000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                String element = random.nextInt(2_000) + ":" + i;
+                expected.add(element);
+                map = map.plus(element);
+            } else {
+                map = map.minus(expected.remove(random.nextInt(expected.size())));
+            }
+        }
+        for (int id = 0; id < 2_000; id++) {
+            int targetId = id;
+            List<String> withId = expected.stream().filter(element -> GET_ID.applyAsInt(element) == targetId)
+                    .toList();
+            Optional<String> found = map.get(id);
+            assertEquals(withId.isEmpty(), found.isEmpty());
+            found.ifPresent(element -> assertTrue(withId.contains(element)));
+        }
+    }
+
+    @Test
+    public void withChange_observableListChanged_followsList() {
+        ObservableList<String> source = FXCollections.observableArrayList("1:a", "2:b", "3:c");
+        List<PersistentIdMap<String>> versions = new ArrayList<>();
+        versions.add(PersistentIdMap.copyOf(source, GET_ID));
+        source.addListener((ListChangeListener<String>) change ->
+                versions.add(versions.get(versions.size() - 1).withChange(change)));
+
+        source.add(1, "4:x");
+        source.set(0, "1:y");
+        source.remove("3:c");
+        PersistentIdMap<String> latest = versions.get(versions.size() - 1);
+        assertEquals(Optional.of("1:y"), latest.get(1));
+        assertEquals(Optional.of("4:x"), latest.get(4));
+        assertEquals(Optional.empty(), latest.get(3));
+        assertEquals(Optional.of("1:a"), versions.get(0).get(1));
+    }
+}
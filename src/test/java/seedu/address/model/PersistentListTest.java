@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list);
+        assertEquals(elements.size(), list.size());
+        assertEquals(Integer.valueOf(9), list.get(5));
+    }
+
+    @Test
+    public void plusAndMinus_originalListUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        PersistentList<String> changed = original.plus(1, "x").minus(3);
+        assertEquals(List.of("a", "x", "b"), changed);
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void plusAndMinus_randomOperations_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 5_000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+        }
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+    }
+
+    @Test
+    public void withChange_observableListChanged_followsList() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+        List<PersistentList<String>> versions = new ArrayList<>();
+        versions.add(PersistentList.copyOf(source));
+        source.addListener((ListChangeListener<String>) change ->
+                versions.add(versions.get(versions.size() - 1).withChange(change)));
+
+        source.add(1, "x");
+        source.set(0, "y");
+        source.remove("c");
+        assertEquals(source, versions.get(versions.size() - 1));
+        assertEquals(List.of("a", "b", "c"), versions.get(0));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SwitchableListTest {
+
+    private final List<String> changes = new ArrayList<>();
+    private ObservableList<String> first;
+    private ObservableList<String> second;
+    private SwitchableList<String> switchableList;
+
+    @BeforeEach
+    public void setUp() {
+        first = FXCollections.observableArrayList("a", "b", "c");
+        second = FXCollections.observableArrayList("x", "y");
+        switchableList = new SwitchableList<>(first);
+        switchableList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + " replacing " + change.getRemoved());
+            }
+        });
+    }
+
+    @Test
+    public void constructor_nullSource_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SwitchableList<>(null));
+    }
+
+    @Test
+    public void sourceChanged_changeShown() {
+        first.add("d");
+        assertEquals(List.of("a", "b", "c", "d"), switchableList);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setSource_newSource_replacesAllElements() {
+        switchableList.setSource(second);
+        assertSame(second, switchableList.getSource());
+        assertEquals(List.of("x", "y"), switchableList);
+        assertEquals(List.of("0-2 replacing [a, b, c]"), changes);
+    }
+
+    @Test
+    public void setSource_sameSource_noChange() {
+        switchableList.setSource(first);
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void setSource_oldSourceChanged_changeNotShown() {
+        switchableList.setSource(second);
+        changes.clear();
+
+        first.add("d");
+        assertEquals(List.of("x", "y"), switchableList);
+        assertEquals(List.of(), changes);
+    }
+}
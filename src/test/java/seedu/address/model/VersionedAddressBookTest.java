@@ -0,0 +1,182 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook(getTypicalAddressBook(), UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET);
+
+    @Test
+    public void constructor_initialState_noHistory() {
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(0, versionedAddressBook.getHistorySize());
+    }
+
+    @Test
+    public void undo_noChanges_throwsNoUndoableStateException() {
+        assertThrows(VersionedAddressBook.NoUndoableStateException.class, versionedAddressBook::undo);
+    }
+
+    @Test
+    public void redo_noUndoneChanges_throwsNoRedoableStateException() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void undoRedo_personChanges_restoresPreviousStates() {
+        AddressBook initialState = new AddressBook(versionedAddressBook);
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        AddressBook afterRemove = new AddressBook(versionedAddressBook);
+        Person editedCarl = new PersonBuilder(CARL).withPhone("11111111").build();
+        versionedAddressBook.setPerson(CARL, editedCarl);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(afterRemove, versionedAddressBook);
+        versionedAddressBook.undo();
+        // removed person is restored to the same position
+        assertEquals(initialState.getPersonList(), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        assertEquals(afterRemove, versionedAddressBook);
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.hasPerson(AMY));
+        assertEquals(editedCarl.getPhone(), versionedAddressBook.getPersonList().get(1).getPhone());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_removeAssignedEvent_restoresEventAndAssignments() {
+        Event meeting = new EventBuilder(MEETING).withEventId(1).build();
+        versionedAddressBook.addEvent(meeting);
+        versionedAddressBook.assignEventToPerson(ALICE, meeting);
+        versionedAddressBook.commit();
+        assertEquals(1, versionedAddressBook.getAttendance(meeting));
+
+        versionedAddressBook.removeEvent(meeting);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.getPersonList().get(0).checkAssignedToEvent(meeting));
+
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasEvent(meeting));
+        assertTrue(versionedAddressBook.getPersonList().get(0).checkAssignedToEvent(meeting));
+        assertEquals(1, versionedAddressBook.getAttendance(meeting));
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasEvent(meeting));
+        assertEquals(0, versionedAddressBook.getAttendance(meeting));
+        assertEquals(ALICE.getEventIds(), versionedAddressBook.getPersonList().get(0).getEventIds());
+    }
+
+    @Test
+    public void undo_resetData_restoresPreviousData() {
+        AddressBook initialState = new AddressBook(versionedAddressBook);
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, versionedAddressBook);
+        assertEquals(initialState.getIdCounterList(), versionedAddressBook.getIdCounterList());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoableSteps() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_smallChanges_historySizeProportionalToChange() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        long sizeOfOneStep = versionedAddressBook.getHistorySize();
+
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        assertEquals(2 * sizeOfOneStep, versionedAddressBook.getHistorySize());
+    }
+
+    @Test
+    public void commit_exceedsBudget_forgetsOldestSteps() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        long sizeOfOneStep = versionedAddressBook.getHistorySize();
+        versionedAddressBook.setHistoryBudget(2 * sizeOfOneStep);
+
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        assertEquals(2 * sizeOfOneStep, versionedAddressBook.getHistorySize());
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.hasPerson(AMY));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+    }
+
+    @Test
+    public void commit_stepLargerThanBudget_keepsMostRecentStep() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.setHistoryBudget(0);
+        assertTrue(versionedAddressBook.canUndo());
+
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+        assertTrue(versionedAddressBook.hasPerson(AMY));
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.hasPerson(BOB));
+    }
+
+    @Test
+    public void setHistoryBudget_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> versionedAddressBook.setHistoryBudget(-1));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThem() {
+        versionedAddressBook.setPersons(List.of(ALICE));
+        assertTrue(versionedAddressBook.canUndo());
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+    }
+}
@@ -14,6 +14,22 @@ public class EventDurationTest {
         assertThrows(NullPointerException.class, () -> new EventDuration(null, null));
     }
 
+    @Test
+    public void overlaps() {
+        EventDuration duration = new EventDuration(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 20));
+
+        // sharing the first or last day -> returns true
+        assertTrue(duration.overlaps(new EventDuration(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10))));
+        assertTrue(duration.overlaps(new EventDuration(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 1, 25))));
+
+        // contained -> returns true
+        assertTrue(duration.overlaps(new EventDuration(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 15))));
+
+        // disjoint -> returns false
+        assertFalse(duration.overlaps(new EventDuration(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 9))));
+        assertFalse(duration.overlaps(new EventDuration(LocalDate.of(2024, 1, 21), LocalDate.of(2024, 1, 21))));
+    }
+
     @Test
     public void isValidDuration() {
         // null duration
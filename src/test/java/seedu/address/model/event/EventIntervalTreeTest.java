@@ -0,0 +1,116 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class EventIntervalTreeTest {
+
+    private static final Event BRIEFING = new EventBuilder().withEventName("Briefing")
+            .withEventDuration("2024-10-01", "2024-10-01").build();
+    private static final Event CAMP = new EventBuilder().withEventName("Camp")
+            .withEventDuration("2024-10-02", "2024-10-11").build();
+    private static final Event DINNER = new EventBuilder().withEventName("Dinner")
+            .withEventDuration("2024-10-12", "2024-10-12").build();
+
+    private final EventIntervalTree tree = new EventIntervalTree();
+
+    @Test
+    public void add_nullEvent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void getEventsOverlapping_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.getEventsOverlapping(null, LocalDate.MAX));
+        assertThrows(NullPointerException.class, () -> tree.getEventsOverlapping(LocalDate.MIN, null));
+    }
+
+    @Test
+    public void getEventsOverlapping_emptyTree_returnsEmptyList() {
+        assertTrue(tree.getEventsOverlapping(LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    public void getEventsOverlapping_overlappingEvents_returnsEventsByStartDate() {
+        tree.setAll(Arrays.asList(DINNER, CAMP, BRIEFING));
+
+        // range inside an event
+        assertEquals(List.of(CAMP), tree.getEventsOverlapping(date("2024-10-05"), date("2024-10-06")));
+
+        // range touching the first and last day of events
+        assertEquals(List.of(BRIEFING, CAMP), tree.getEventsOverlapping(date("2024-09-01"), date("2024-10-02")));
+        assertEquals(List.of(CAMP, DINNER), tree.getEventsOverlapping(date("2024-10-11"), date("2024-10-12")));
+
+        // range between no events
+        assertTrue(tree.getEventsOverlapping(date("2024-10-13"), date("2024-12-31")).isEmpty());
+    }
+
+    @Test
+    public void remove_eventWithSharedDuration_keepsOtherEvent() {
+        Event otherCamp = new EventBuilder(CAMP).withEventName("Other Camp").build();
+        tree.add(CAMP);
+        tree.add(otherCamp);
+        tree.remove(CAMP);
+        assertEquals(1, tree.size());
+        assertEquals(List.of(otherCamp), tree.getEventsOverlapping(date("2024-10-02"), date("2024-10-02")));
+
+        tree.remove(otherCamp);
+        assertEquals(0, tree.size());
+        assertTrue(tree.getEventsOverlapping(LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    public void remove_eventNotInTree_doesNothing() {
+        tree.add(CAMP);
+        tree.remove(new EventBuilder(CAMP).build());
+        tree.remove(DINNER);
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void getEventsOverlapping_randomEvents_sameAsLinearScan() {
+        Random random = new Random(42);
+        LocalDate base = date("2024-01-01");
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDate start = base.plusDays(random.nextInt(365));
+            Event event = new EventBuilder().withEventName("Event " + i)
+                    .withEventDuration(start.toString(), start.plusDays(random.nextInt(30)).toString())
+                    .withEventId(i).build();
+            events.add(event);
+            tree.add(event);
+        }
+        for (int i = 0; i < 200; i++) {
+            tree.remove(events.remove(random.nextInt(events.size())));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            LocalDate from = base.plusDays(random.nextInt(400));
+            LocalDate to = from.plusDays(random.nextInt(20));
+            EventDuration range = new EventDuration(from, to);
+            List<Event> expected = events.stream()
+                    .filter(event -> event.getEventDuration().overlaps(range))
+                    .collect(Collectors.toList());
+            List<Event> actual = tree.getEventsOverlapping(from, to);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        }
+    }
+
+    private static LocalDate date(String date) {
+        return LocalDate.parse(date);
+    }
+}
@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalEvents.WORKSHOP;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.junit.jupiter.api.Test;
 
@@ -103,6 +104,51 @@ public class UniqueEventListTest {
         assertFalse(uniqueEventList.containsId(MEETING.getEventId() + 1));
     }
 
+    @Test
+    public void containsId_removedEvent_returnsFalse() {
+        uniqueEventList.add(MEETING);
+        uniqueEventList.remove(MEETING);
+        assertFalse(uniqueEventList.containsId(MEETING.getEventId()));
+    }
+
+    @Test
+    public void getById_editedEvent_returnsEditedEvent() {
+        uniqueEventList.add(MEETING);
+        Event editedMeeting = new EventBuilder(MEETING).withEventDescription(VALID_EVENT_DESCRIPTION_WORKSHOP).build();
+        uniqueEventList.setEvent(MEETING, editedMeeting);
+        assertEquals(editedMeeting, uniqueEventList.getById(MEETING.getEventId()));
+    }
+
+    @Test
+    public void getById_editedEventWithNewId_returnsEditedEventUnderNewIdOnly() {
+        Event meeting = new EventBuilder(MEETING).withEventId(1).build();
+        Event workshop = new EventBuilder(WORKSHOP).withEventId(2).build();
+        uniqueEventList.add(meeting);
+        uniqueEventList.add(workshop);
+        Event editedMeeting = new EventBuilder(meeting).withEventId(3).build();
+        uniqueEventList.setEvent(meeting, editedMeeting);
+        assertEquals(editedMeeting, uniqueEventList.getById(3));
+        assertEquals(workshop, uniqueEventList.getById(2));
+        assertFalse(uniqueEventList.containsId(1));
+    }
+
+    @Test
+    public void getById_sharedIdAfterRemoval_returnsRemainingEvent() {
+        Event workshopWithSameId = new EventBuilder(WORKSHOP).withEventId(MEETING.getEventId()).build();
+        uniqueEventList.add(MEETING);
+        uniqueEventList.add(workshopWithSameId);
+        assertEquals(MEETING, uniqueEventList.getById(MEETING.getEventId()));
+
+        uniqueEventList.remove(MEETING);
+        assertEquals(workshopWithSameId, uniqueEventList.getById(MEETING.getEventId()));
+    }
+
+    @Test
+    public void getById_eventNotInList_throwsNoSuchElementException() {
+        uniqueEventList.add(MEETING);
+        assertThrows(NoSuchElementException.class, () -> uniqueEventList.getById(MEETING.getEventId() + 1));
+    }
+
     @Test
     public void add_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.add(null));
@@ -275,4 +321,19 @@ public class UniqueEventListTest {
     public void toStringMethod() {
         assertEquals(uniqueEventList.asUnmodifiableObservableList().toString(), uniqueEventList.toString());
     }
+
+    @Test
+    public void getEventsOverlapping_afterEditAndRemove_reflectsChanges() {
+        uniqueEventList.add(MEETING);
+        EventDuration duration = MEETING.getEventDuration();
+        assertEquals(List.of(MEETING), uniqueEventList.getEventsOverlapping(duration));
+
+        Event movedMeeting = new EventBuilder(MEETING).withEventDuration("2025-01-01", "2025-01-02").build();
+        uniqueEventList.setEvent(MEETING, movedMeeting);
+        assertTrue(uniqueEventList.getEventsOverlapping(duration).isEmpty());
+        assertEquals(List.of(movedMeeting), uniqueEventList.getEventsOverlapping(movedMeeting.getEventDuration()));
+
+        uniqueEventList.remove(movedMeeting);
+        assertTrue(uniqueEventList.getEventsOverlapping(movedMeeting.getEventDuration()).isEmpty());
+    }
 }
@@ -39,6 +39,21 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void narrows() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("al", "bo"));
+
+        // longer keywords -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Collections.singletonList("alice")).narrows(predicate));
+
+        // shorter keywords -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Collections.singletonList("a")).narrows(predicate));
+
+        // different types -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Collections.singletonList("alice"))
+                .narrows(new EmailContainsKeywordsPredicate(Arrays.asList("al", "bo"))));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
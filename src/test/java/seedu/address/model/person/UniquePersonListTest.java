@@ -4,18 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
-import static seedu.address.testutil.TypicalEvents.MEETING;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -186,6 +188,48 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void getById_personsAddedAndRemoved_returnsCurrentPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Optional.of(BENSON), uniquePersonList.getById(BENSON.getId()));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.getById(ALICE.getId()));
+        assertEquals(Optional.of(BENSON), uniquePersonList.getById(BENSON.getId()));
+        assertFalse(uniquePersonList.containsId(ALICE.getId()));
+    }
+
+    @Test
+    public void getById_personsInsertedAndRemovedInMiddle_returnsPersonsAtNewPositions() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(1, DANIEL);
+
+        assertEquals(List.of(BENSON, DANIEL, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(DANIEL), uniquePersonList.getById(DANIEL.getId()));
+        assertEquals(Optional.of(CARL), uniquePersonList.getById(CARL.getId()));
+        assertEquals(List.of(BENSON), uniquePersonList.getPersonsWithName(BENSON.getName()));
+
+        // positions found through the index are those the persons are removed from
+        uniquePersonList.remove(DANIEL);
+        uniquePersonList.remove(CARL);
+        assertEquals(List.of(BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.containsId(CARL.getId()));
+    }
+
+    @Test
+    public void setPerson_editedName_updatesNameLookup() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertFalse(uniquePersonList.containsName(ALICE.getName()));
+        assertEquals(List.of(renamedAlice), uniquePersonList.getPersonsWithName(renamedAlice.getName()));
+        assertEquals(Optional.of(renamedAlice), uniquePersonList.getById(ALICE.getId()));
+    }
+
     @Test
     public void getPersonsWithName_nullName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.getPersonsWithName(null));
@@ -273,57 +317,6 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
-    @Test
-    public void unassignEventFromAllPersons_nullEvent_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniquePersonList.unassignEventFromAllPersons(null));
-    }
-
-    @Test
-    public void unassignEventFromAllPersons_personsAssignedDeletedEvent() {
-        int eventId = MEETING.getEventId();
-        Set<Integer> aliceEventIds = ALICE.getEventIds();
-        Set<Integer> bobEventIds = BOB.getEventIds();
-        ALICE.addEventId(eventId);
-        BOB.addEventId(eventId);
-        uniquePersonList.add(ALICE);
-        uniquePersonList.add(BOB);
-        uniquePersonList.unassignEventFromAllPersons(MEETING);
-        assertEquals(aliceEventIds, ALICE.getEventIds());
-        assertEquals(bobEventIds, BOB.getEventIds());
-    }
-
-    @Test
-    public void unassignEventFromAllPersons_personsAssignedDeletedEventAndPersonsNotAssignedDeletedEvent() {
-        int eventId = MEETING.getEventId();
-        Set<Integer> aliceEventIds = ALICE.getEventIds();
-        Set<Integer> bobEventIds = BOB.getEventIds();
-        Set<Integer> bensonEventIds = BENSON.getEventIds();
-        ALICE.addEventId(eventId);
-        BOB.addEventId(eventId);
-        uniquePersonList.add(ALICE);
-        uniquePersonList.add(BOB);
-        uniquePersonList.add(BENSON);
-        uniquePersonList.unassignEventFromAllPersons(MEETING);
-        assertEquals(aliceEventIds, ALICE.getEventIds());
-        assertEquals(bobEventIds, BOB.getEventIds());
-        assertEquals(bensonEventIds, BENSON.getEventIds());
-    }
-
-    @Test
-    public void unassignEventFromAllPersons_personsNotAssignedDeletedEvent() {
-        int eventId = MEETING.getEventId();
-        Set<Integer> aliceEventIds = ALICE.getEventIds();
-        Set<Integer> bobEventIds = BOB.getEventIds();
-        Set<Integer> bensonEventIds = BENSON.getEventIds();
-        uniquePersonList.add(ALICE);
-        uniquePersonList.add(BOB);
-        uniquePersonList.add(BENSON);
-        uniquePersonList.unassignEventFromAllPersons(MEETING);
-        assertEquals(aliceEventIds, ALICE.getEventIds());
-        assertEquals(bobEventIds, BOB.getEventIds());
-        assertEquals(bensonEventIds, BENSON.getEventIds());
-    }
-
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
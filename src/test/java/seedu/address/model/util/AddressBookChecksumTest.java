@@ -0,0 +1,31 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChecksumTest {
+
+    @Test
+    public void ofPersons_sameData_sameChecksum() {
+        assertEquals(AddressBookChecksum.ofPersons(getTypicalAddressBook()),
+                AddressBookChecksum.ofPersons(getTypicalAddressBook()));
+        assertEquals(AddressBookChecksum.ofEvents(getTypicalAddressBook()),
+                AddressBookChecksum.ofEvents(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void ofPersons_differentData_differentChecksum() {
+        AddressBook addressBook = getTypicalAddressBook();
+        String checksum = AddressBookChecksum.ofPersons(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        assertNotEquals(checksum, AddressBookChecksum.ofPersons(addressBook));
+        assertNotEquals(checksum, AddressBookChecksum.ofPersons(new AddressBook()));
+    }
+}
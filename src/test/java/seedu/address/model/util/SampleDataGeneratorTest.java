@@ -0,0 +1,90 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.id.counter.list.IdCounterList;
+import seedu.address.model.person.Person;
+
+public class SampleDataGeneratorTest {
+
+    @Test
+    public void constructor_invalidCounts_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleDataGenerator(0, -1, 10, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SampleDataGenerator(0, 10, 10, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SampleDataGenerator(0, 10, 10, 1, 1, -0.5));
+    }
+
+    @Test
+    public void getPerson_idOutOfRange_throwsIllegalArgumentException() {
+        SampleDataGenerator generator = new SampleDataGenerator(0, 10, 10, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> generator.getPerson(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.getPerson(11));
+        assertThrows(IllegalArgumentException.class, () -> generator.getEvent(11));
+    }
+
+    @Test
+    public void getPerson_sameSeed_sameData() {
+        SampleDataGenerator generator = new SampleDataGenerator(42, 100, 20, 2, 3);
+        SampleDataGenerator sameSeedGenerator = new SampleDataGenerator(42, 100, 20, 2, 3);
+        for (int id = 100; id >= 1; id--) {
+            assertEquals(generator.getPerson(id), sameSeedGenerator.getPerson(id));
+        }
+        for (int id = 1; id <= 20; id++) {
+            assertEquals(generator.getEvent(id), sameSeedGenerator.getEvent(id));
+        }
+    }
+
+    @Test
+    public void getPerson_differentSeed_differentData() {
+        SampleDataGenerator generator = new SampleDataGenerator(42, 100, 20, 2, 3);
+        SampleDataGenerator otherSeedGenerator = new SampleDataGenerator(43, 100, 20, 2, 3);
+        assertNotEquals(generator.getPerson(1), otherSeedGenerator.getPerson(1));
+        assertNotEquals(generator.getEvent(1), otherSeedGenerator.getEvent(1));
+    }
+
+    @Test
+    public void getPerson_countsPerPerson_used() {
+        SampleDataGenerator generator = new SampleDataGenerator(1, 200, 50, 3, 4);
+        Set<String> names = IntStream.rangeClosed(1, 200)
+                .mapToObj(generator::getPerson)
+                .peek(person -> {
+                    assertEquals(3, person.getTags().size());
+                    assertEquals(4, person.getEventIds().size());
+                    assertTrue(person.getEventIds().stream().allMatch(id -> id >= 1 && id <= 50));
+                })
+                .map(person -> person.getName().fullName.toLowerCase())
+                .collect(Collectors.toSet());
+        assertEquals(200, names.size());
+        assertEquals(new IdCounterList(200, 50), generator.getIdCounterList());
+    }
+
+    @Test
+    public void getPerson_moreAssignmentsThanEvents_attendsEveryEvent() {
+        SampleDataGenerator generator = new SampleDataGenerator(1, 10, 3, 30, 5);
+        Person person = generator.getPerson(7);
+        assertEquals(Set.of(1, 2, 3), person.getEventIds());
+        assertEquals(30, person.getTags().size());
+    }
+
+    @Test
+    public void getPerson_zipfDistribution_lowerIdsAttendedMore() {
+        SampleDataGenerator generator = new SampleDataGenerator(5, 2000, 100, 0, 1);
+        int[] attendance = new int[101];
+        for (int id = 1; id <= 2000; id++) {
+            generator.getPerson(id).getEventIds().forEach(eventId -> attendance[eventId]++);
+        }
+        // With an exponent of 1, the first event is expected to be attended by about 100 times as many persons as
+        // the last, and the first ten by over half of all persons
+        assertTrue(attendance[1] > 10 * attendance[100]);
+        assertTrue(IntStream.rangeClosed(1, 10).map(id -> attendance[id]).sum() > 1000);
+    }
+}
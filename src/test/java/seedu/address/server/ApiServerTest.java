@@ -0,0 +1,271 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private LogicManager logic;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("clubConnect.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        apiServer = new ApiServer(logic, writer, 0, 2);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+        writer.shutdown();
+    }
+
+    @Test
+    public void getPersons_noQuery_returnsAllPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_PERSONS);
+        assertEquals(200, response.statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), getList(response, "persons").size());
+    }
+
+    @Test
+    public void getPersons_nameQuery_returnsMatchingPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_PERSONS + "?name=aLiCe%20p");
+        List<?> persons = getList(response, "persons");
+        assertEquals(1, persons.size());
+        assertEquals(ALICE.getName().fullName, ((Map<?, ?>) persons.get(0)).get("name"));
+    }
+
+    @Test
+    public void getPersons_byId_returnsPerson() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_PERSONS + "/" + ALICE.getId());
+        assertEquals(200, response.statusCode());
+        assertEquals(ALICE.getName().fullName, parse(response).get("name"));
+
+        assertEquals(404, get(ApiServer.PATH_PERSONS + "/999").statusCode());
+        assertEquals(404, get(ApiServer.PATH_PERSONS + "/alice").statusCode());
+    }
+
+    @Test
+    public void getEvents_noEvents_returnsEmptyList() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_EVENTS);
+        assertEquals(200, response.statusCode());
+        assertTrue(getList(response, "events").isEmpty());
+    }
+
+    @Test
+    public void postCommand_validCommand_executesCommand() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS,
+                JsonUtil.toJsonString(Map.of("command", PersonUtil.getAddCommand(AMY))));
+        assertEquals(200, response.statusCode());
+        assertTrue(model.hasPerson(AMY));
+
+        // the change is visible to reads as soon as the command is done
+        HttpResponse<String> persons = get(ApiServer.PATH_PERSONS + "?name=amy");
+        assertEquals(1, getList(persons, "persons").size());
+        assertEquals(parse(response).get("version"), parse(persons).get("version"));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsError() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS,
+                JsonUtil.toJsonString(Map.of("command", "unknowncommand")));
+        assertEquals(400, response.statusCode());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, parse(response).get("error"));
+    }
+
+    @Test
+    public void postCommand_sessionCommand_rejected() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS,
+                JsonUtil.toJsonString(Map.of("command", LogicManager.BEGIN_COMMAND_WORD)));
+        assertEquals(400, response.statusCode());
+        assertEquals(String.format(LogicManager.MESSAGE_NOT_STANDALONE, LogicManager.BEGIN_COMMAND_WORD),
+                parse(response).get("error"));
+
+        // also rejected within a sequence of commands
+        response = post(ApiServer.PATH_COMMANDS, JsonUtil.toJsonString(Map.of("command",
+                PersonUtil.getAddCommand(AMY) + LogicManager.COMMAND_SEPARATOR + LogicManager.COMMIT_COMMAND_WORD)));
+        assertEquals(400, response.statusCode());
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void postCommand_transactionInProgressInApp_rejected() throws Exception {
+        logic.execute(LogicManager.BEGIN_COMMAND_WORD);
+
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS,
+                JsonUtil.toJsonString(Map.of("command", PersonUtil.getAddCommand(AMY))));
+        assertEquals(400, response.statusCode());
+        assertEquals(LogicManager.MESSAGE_SESSION_IN_PROGRESS, parse(response).get("error"));
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void postCommand_notStartedInTime_cancelled() throws Exception {
+        List<Runnable> pendingTasks = new ArrayList<>();
+        ApiServer busyServer = new ApiServer(logic, pendingTasks::add, 0, 2, 100);
+        busyServer.start();
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + busyServer.getPort()
+                            + ApiServer.PATH_COMMANDS))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    JsonUtil.toJsonString(Map.of("command", PersonUtil.getAddCommand(AMY)))))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(503, response.statusCode());
+            assertEquals(ApiServer.MESSAGE_TIMEOUT, parse(response).get("error"));
+
+            // the writer gets to the command after the client has been told it was not executed
+            pendingTasks.forEach(Runnable::run);
+            assertFalse(model.hasPerson(AMY));
+        } finally {
+            busyServer.stop();
+        }
+    }
+
+    @Test
+    public void postCommand_missingCommand_returnsError() throws Exception {
+        assertEquals(400, post(ApiServer.PATH_COMMANDS, "{}").statusCode());
+        assertEquals(400, post(ApiServer.PATH_COMMANDS, "null").statusCode());
+        assertEquals(400, post(ApiServer.PATH_COMMANDS, "not json").statusCode());
+    }
+
+    @Test
+    public void postCommand_wrongContentType_rejected() throws Exception {
+        String body = JsonUtil.toJsonString(Map.of("command", PersonUtil.getAddCommand(AMY)));
+        HttpResponse<String> response = client.send(request(ApiServer.PATH_COMMANDS)
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(415, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE, parse(response).get("error"));
+
+        // no content type
+        response = client.send(request(ApiServer.PATH_COMMANDS)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(415, response.statusCode());
+        assertFalse(model.hasPerson(AMY));
+
+        // parameters and case of the media type do not matter
+        response = client.send(request(ApiServer.PATH_COMMANDS)
+                .header("Content-Type", "Application/JSON; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void request_withOriginHeader_rejected() throws Exception {
+        HttpResponse<String> response = client.send(request(ApiServer.PATH_COMMANDS)
+                .header("Content-Type", "application/json")
+                .header("Origin", "http://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        JsonUtil.toJsonString(Map.of("command", PersonUtil.getAddCommand(AMY)))))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_CROSS_ORIGIN, parse(response).get("error"));
+        assertFalse(model.hasPerson(AMY));
+
+        response = client.send(request(ApiServer.PATH_PERSONS)
+                .header("Origin", "http://example.com")
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+    }
+
+    @Test
+    public void request_wrongMethod_returnsMethodNotAllowed() throws Exception {
+        assertEquals(405, get(ApiServer.PATH_COMMANDS).statusCode());
+        assertEquals(405, post(ApiServer.PATH_PERSONS, "{}").statusCode());
+    }
+
+    @Test
+    public void request_concurrentReadsAndWrites_allSucceed() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            responses.add(client.sendAsync(request(ApiServer.PATH_PERSONS).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()));
+            String command = PersonUtil.getAddCommand(new PersonBuilder(AMY)
+                    .withName("Amy " + (char) ('a' + i)).build());
+            responses.add(client.sendAsync(request(ApiServer.PATH_COMMANDS)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(JsonUtil.toJsonString(Map.of("command", command))))
+                    .build(), HttpResponse.BodyHandlers.ofString()));
+        }
+
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get().statusCode());
+        }
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 20, model.getPersonList().size());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + apiServer.getPort() + path));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static Map<?, ?> parse(HttpResponse<String> response) throws IOException {
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+
+    private static List<?> getList(HttpResponse<String> response, String name) throws IOException {
+        return (List<?>) parse(response).get(name);
+    }
+}
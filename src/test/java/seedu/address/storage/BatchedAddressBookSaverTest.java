@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BatchedAddressBookSaverTest {
+
+    private static final long NEVER = 3_600_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final AtomicBoolean isStorageFailing = new AtomicBoolean();
+    private final AtomicInteger saveCount = new AtomicInteger();
+    private final CountDownLatch saveStarted = new CountDownLatch(1);
+    private volatile CountDownLatch saveAllowed = new CountDownLatch(0);
+    private Path addressBookFilePath;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookFilePath = testFolder.resolve("clubConnect.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
+                saveStarted.countDown();
+                try {
+                    saveAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                if (isStorageFailing.get()) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    @Test
+    public void constructor_invalidBatchSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BatchedAddressBookSaver(storage, AddressBook::new, 0, NEVER));
+    }
+
+    @Test
+    public void recordChange_fewerChangesThanBatchSize_savesAfterDelay() throws Exception {
+        BatchedAddressBookSaver saver = new BatchedAddressBookSaver(storage, () -> addressBook, 10, 10);
+        saver.recordChange();
+
+        for (int i = 0; i < 500 && !Files.exists(addressBookFilePath); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(addressBookFilePath));
+        saver.close();
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void recordChange_saveInProgress_savesLaterChangesOnce() throws Exception {
+        BatchedAddressBookSaver saver = new BatchedAddressBookSaver(storage, () -> addressBook, 1, NEVER);
+        saveAllowed = new CountDownLatch(1);
+        saver.recordChange();
+        assertTrue(saveStarted.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            saver.recordChange();
+        }
+        saveAllowed.countDown();
+        saver.close();
+        assertEquals(2, saveCount.get());
+    }
+
+    @Test
+    public void flush_changesRecorded_savesWithoutWaitingForDelay() throws Exception {
+        BatchedAddressBookSaver saver = new BatchedAddressBookSaver(storage, () -> addressBook, 10, NEVER);
+        saver.recordChange();
+        saver.flush();
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        saver.close();
+    }
+
+    @Test
+    public void flush_noChangesRecorded_doesNotSave() throws Exception {
+        BatchedAddressBookSaver saver = new BatchedAddressBookSaver(storage, () -> addressBook, 10, NEVER);
+        saver.close();
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void flush_storageFails_throwsIoExceptionAndSavesLater() throws Exception {
+        BatchedAddressBookSaver saver = new BatchedAddressBookSaver(storage, () -> addressBook, 1, NEVER);
+        isStorageFailing.set(true);
+        saver.recordChange();
+        assertThrows(IOException.class, saver::flush);
+
+        isStorageFailing.set(false);
+        saver.close();
+        assertTrue(saver.takeFailure().isEmpty());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataGenerator;
+
+public class SampleDataFileWriterTest {
+
+    private static final SampleDataGenerator GENERATOR = new SampleDataGenerator(3, 40, 8, 2, 3);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeJson_readBack_sameAsGenerated() throws Exception {
+        Path filePath = testFolder.resolve("generated").resolve("addressbook.json");
+        SampleDataFileWriter.writeJson(GENERATOR, filePath);
+
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        List<Person> expectedPersons = IntStream.rangeClosed(1, 40)
+                .mapToObj(GENERATOR::getPerson)
+                .collect(Collectors.toList());
+        List<Event> expectedEvents = IntStream.rangeClosed(1, 8)
+                .mapToObj(GENERATOR::getEvent)
+                .collect(Collectors.toList());
+        assertEquals(expectedPersons, addressBook.getPersonList());
+        assertEquals(expectedEvents, addressBook.getEventList());
+        assertEquals(GENERATOR.getIdCounterList(), addressBook.getIdCounterList());
+    }
+
+    @Test
+    public void writeCsv_importFormat() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        SampleDataFileWriter.writeCsv(GENERATOR, filePath);
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(41, lines.size());
+        assertEquals(ImportCommand.COLUMN_HEADERS, lines.get(0));
+        assertEquals(GENERATOR.getPerson(40).toCsvFormat(), lines.get(40));
+    }
+}
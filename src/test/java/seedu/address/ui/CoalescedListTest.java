@@ -0,0 +1,81 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class CoalescedListTest {
+
+    private final List<Runnable> pendingPulses = new ArrayList<>();
+    private final List<String> changes = new ArrayList<>();
+    private ObservableList<String> source;
+    private CoalescedList<String> coalescedList;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d");
+        coalescedList = new CoalescedList<>(source, pendingPulses::add);
+        coalescedList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + " replacing " + change.getRemoved());
+            }
+        });
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, coalescedList);
+    }
+
+    @Test
+    public void sourceChanged_beforePulse_notApplied() {
+        source.add("e");
+        assertEquals(List.of("a", "b", "c", "d"), coalescedList);
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void sourceChangedManyTimes_onePulse_appliedAsOneChange() {
+        source.remove("b");
+        source.add(1, "x");
+        source.set(2, "y");
+        assertEquals(1, pendingPulses.size());
+
+        runPulses();
+        assertEquals(source, coalescedList);
+        assertEquals(List.of("1-3 replacing [b, c]"), changes);
+    }
+
+    @Test
+    public void sourceChangedBack_onePulse_noChange() {
+        source.add("e");
+        source.remove("e");
+
+        runPulses();
+        assertEquals(source, coalescedList);
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void sourceCleared_onePulse_allRemoved() {
+        source.clear();
+
+        runPulses();
+        assertEquals(List.of(), coalescedList);
+        assertEquals(List.of("0-0 replacing [a, b, c, d]"), changes);
+    }
+
+    private void runPulses() {
+        List<Runnable> pulses = new ArrayList<>(pendingPulses);
+        pendingPulses.clear();
+        pulses.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class EventNameLookupTest {
+
+    private final Event meeting = new EventBuilder(MEETING).withEventId(1).build();
+    private final Event workshop = new EventBuilder(WORKSHOP).withEventId(2).build();
+    private ObservableList<Event> events;
+    private EventNameLookup lookup;
+
+    @BeforeEach
+    public void setUp() {
+        events = FXCollections.observableArrayList(workshop, meeting);
+        lookup = new EventNameLookup(events);
+    }
+
+    @Test
+    public void getEventNames_noEvents_emptyList() {
+        assertEquals(List.of(), lookup.getEventNames(ALICE));
+    }
+
+    @Test
+    public void getEventNames_assignedEvents_sortedNames() {
+        Person person = personWithEvents(2, 1);
+        assertEquals(List.of(meeting.getEventName().toString(), workshop.getEventName().toString()),
+                lookup.getEventNames(person));
+    }
+
+    @Test
+    public void getEventNames_unknownEventId_leftOut() {
+        assertEquals(List.of(meeting.getEventName().toString()), lookup.getEventNames(personWithEvents(1, 99)));
+    }
+
+    @Test
+    public void getEventNames_samePerson_sameList() {
+        Person person = personWithEvents(1, 2);
+        assertSame(lookup.getEventNames(person), lookup.getEventNames(person));
+    }
+
+    @Test
+    public void getEventNames_personEdited_resolvedAgain() {
+        Person person = personWithEvents(1);
+        List<String> eventNames = lookup.getEventNames(person);
+
+        Person editedPerson = new PersonBuilder(person).withEventIds(2).build();
+        assertEquals(List.of(meeting.getEventName().toString(), workshop.getEventName().toString()),
+                lookup.getEventNames(editedPerson));
+        assertNotSame(eventNames, lookup.getEventNames(person));
+    }
+
+    @Test
+    public void getEventNames_otherEventEdited_sameList() {
+        Person person = personWithEvents(1);
+        List<String> eventNames = lookup.getEventNames(person);
+
+        events.set(events.indexOf(workshop), new EventBuilder(workshop).withEventName("Coding Workshop").build());
+        assertSame(eventNames, lookup.getEventNames(person));
+    }
+
+    @Test
+    public void getEventNames_eventEdited_newName() {
+        Person person = personWithEvents(1);
+        lookup.getEventNames(person);
+
+        Event renamedMeeting = new EventBuilder(meeting).withEventName("Annual General Meeting").build();
+        events.set(events.indexOf(meeting), renamedMeeting);
+        assertEquals(List.of("Annual General Meeting"), lookup.getEventNames(person));
+
+        events.remove(renamedMeeting);
+        assertEquals(List.of(), lookup.getEventNames(person));
+    }
+
+    private static Person personWithEvents(int... eventIds) {
+        return new PersonBuilder(ALICE).withEventIds(eventIds).build();
+    }
+}